@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
 import org.springframework.boot.actuate.health.*;
@@ -27,9 +28,16 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration for health endpoint web extensions.
@@ -53,19 +61,55 @@ class HealthEndpointWebExtensionConfiguration {
 
     @Configuration
     @ConditionalOnWebApplication(type = Type.REACTIVE)
-    static class ReactiveWebHealthConfiguration {
+    @EnableConfigurationProperties(ReactiveHealthIndicatorProperties.class)
+    static class ReactiveWebHealthConfiguration implements DisposableBean {
+
+        private final Scheduler blockingScheduler;
 
         private final ReactiveHealthIndicator reactiveHealthIndicator;
 
         ReactiveWebHealthConfiguration(ObjectProvider<HealthAggregator> healthAggregator,
                                        ObjectProvider<Map<String, ReactiveHealthIndicator>> reactiveHealthIndicators,
-                                       ObjectProvider<Map<String, HealthIndicator>> healthIndicators) {
-            this.reactiveHealthIndicator = new CompositeReactiveHealthIndicatorFactory()
+                                       ObjectProvider<Map<String, HealthIndicator>> healthIndicators,
+                                       ReactiveHealthIndicatorProperties properties) {
+            this.blockingScheduler = createBlockingScheduler(properties);
+            CompositeReactiveHealthIndicator healthIndicator = new CompositeReactiveHealthIndicatorFactory(
+                    new HealthIndicatorNameFactory(), this.blockingScheduler)
                     .createReactiveHealthIndicator(
                             healthAggregator.getIfAvailable(OrderedHealthAggregator::new),
                             reactiveHealthIndicators
                                     .getIfAvailable(Collections::emptyMap),
                             healthIndicators.getIfAvailable(Collections::emptyMap));
+            Duration timeout = properties.getTimeout();
+            if (timeout != null) {
+                healthIndicator.timeoutStrategy(timeout.toMillis(), null);
+            }
+            properties.getTimeouts().forEach((name, indicatorTimeout) -> healthIndicator
+                    .timeoutStrategy(name, indicatorTimeout.toMillis()));
+            this.reactiveHealthIndicator = healthIndicator;
+        }
+
+        private static Scheduler createBlockingScheduler(
+                ReactiveHealthIndicatorProperties properties) {
+            int maxThreads = properties.getBlockingMaxThreads();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                    60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(properties.getBlockingQueueCapacity()),
+                    createThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+            return Schedulers.fromExecutorService(executor);
+        }
+
+        private static CustomizableThreadFactory createThreadFactory() {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+                    "health-indicator-");
+            threadFactory.setDaemon(true);
+            return threadFactory;
+        }
+
+        @Override
+        public void destroy() {
+            this.blockingScheduler.dispose();
         }
 
         @Bean
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.health;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for health indicators in a reactive web application.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@ConfigurationProperties(prefix = "management.health.reactive")
+public class ReactiveHealthIndicatorProperties {
+
+    /**
+     * Maximum number of threads used to invoke blocking health indicators.
+     */
+    private int blockingMaxThreads = 10;
+
+    /**
+     * Maximum number of blocking health indicator invocations that can wait for a
+     * thread.
+     */
+    private int blockingQueueCapacity = 100;
+
+    /**
+     * Maximum time to wait for each health indicator before reporting it as UNKNOWN.
+     * Waits indefinitely when not set.
+     */
+    private Duration timeout;
+
+    /**
+     * Maximum time to wait for individual health indicators, keyed by indicator name.
+     * Takes precedence over the timeout that applies to every indicator.
+     */
+    private final Map<String, Duration> timeouts = new HashMap<>();
+
+    public int getBlockingMaxThreads() {
+        return this.blockingMaxThreads;
+    }
+
+    public void setBlockingMaxThreads(int blockingMaxThreads) {
+        this.blockingMaxThreads = blockingMaxThreads;
+    }
+
+    public int getBlockingQueueCapacity() {
+        return this.blockingQueueCapacity;
+    }
+
+    public void setBlockingQueueCapacity(int blockingQueueCapacity) {
+        this.blockingQueueCapacity = blockingQueueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return this.timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Map<String, Duration> getTimeouts() {
+        return this.timeouts;
+    }
+
+}
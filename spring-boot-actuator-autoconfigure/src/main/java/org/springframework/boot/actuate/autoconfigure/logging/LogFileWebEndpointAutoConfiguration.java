@@ -51,7 +51,10 @@ public class LogFileWebEndpointAutoConfiguration {
     @ConditionalOnMissingBean
     @Conditional(LogFileCondition.class)
     public LogFileWebEndpoint logFileWebEndpoint(Environment environment) {
-        return new LogFileWebEndpoint(environment, this.properties.getExternalFile());
+        LogFileWebEndpoint endpoint = new LogFileWebEndpoint(environment,
+                this.properties.getExternalFile());
+        endpoint.setFollowTimeout(this.properties.getFollowTimeout());
+        return endpoint;
     }
 
     private static class LogFileCondition extends SpringBootCondition {
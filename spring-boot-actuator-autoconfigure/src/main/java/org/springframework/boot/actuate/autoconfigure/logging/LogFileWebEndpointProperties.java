@@ -20,6 +20,7 @@ import org.springframework.boot.actuate.logging.LogFileWebEndpoint;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.io.File;
+import java.time.Duration;
 
 /**
  * Configuration properties for {@link LogFileWebEndpoint}.
@@ -36,6 +37,12 @@ public class LogFileWebEndpointProperties {
      */
     private File externalFile;
 
+    /**
+     * Maximum time that a request that follows the logfile waits for bytes to be
+     * appended.
+     */
+    private Duration followTimeout = Duration.ofSeconds(30);
+
     public File getExternalFile() {
         return this.externalFile;
     }
@@ -44,4 +51,12 @@ public class LogFileWebEndpointProperties {
         this.externalFile = externalFile;
     }
 
+    public Duration getFollowTimeout() {
+        return this.followTimeout;
+    }
+
+    public void setFollowTimeout(Duration followTimeout) {
+        this.followTimeout = followTimeout;
+    }
+
 }
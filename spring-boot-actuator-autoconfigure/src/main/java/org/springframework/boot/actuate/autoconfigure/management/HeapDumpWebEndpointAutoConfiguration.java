@@ -20,6 +20,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.condition.Conditi
 import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,13 +31,17 @@ import org.springframework.context.annotation.Configuration;
  * @since 2.0.0
  */
 @Configuration
+@EnableConfigurationProperties(HeapDumpWebEndpointProperties.class)
 public class HeapDumpWebEndpointAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnEnabledEndpoint
-    public HeapDumpWebEndpoint heapDumpWebEndpoint() {
-        return new HeapDumpWebEndpoint();
+    public HeapDumpWebEndpoint heapDumpWebEndpoint(
+            HeapDumpWebEndpointProperties properties) {
+        HeapDumpWebEndpoint endpoint = new HeapDumpWebEndpoint();
+        endpoint.setDirectory(properties.getDirectory());
+        return endpoint;
     }
 
 }
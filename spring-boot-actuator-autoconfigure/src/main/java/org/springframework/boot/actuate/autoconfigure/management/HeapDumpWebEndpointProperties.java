@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.management;
+
+import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.io.File;
+
+/**
+ * Configuration properties for {@link HeapDumpWebEndpoint}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@ConfigurationProperties(prefix = "management.endpoint.heapdump")
+public class HeapDumpWebEndpointProperties {
+
+    /**
+     * Directory to which heap dumps are written before they are streamed. Defaults to
+     * the system's temporary directory.
+     */
+    private File directory;
+
+    public File getDirectory() {
+        return this.directory;
+    }
+
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+}
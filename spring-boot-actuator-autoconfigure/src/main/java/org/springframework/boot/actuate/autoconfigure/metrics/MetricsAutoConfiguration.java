@@ -28,7 +28,10 @@ import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetrics
 import org.springframework.boot.actuate.autoconfigure.metrics.export.CompositeMeterRegistryConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.jdbc.DataSourcePoolMetricsConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.reactive.server.WebFluxMetricsConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.task.TaskExecutorMetricsConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.web.client.HttpClientConnectionPoolMetricsConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.web.client.RestTemplateMetricsConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.web.server.WorkerPoolMetricsConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.web.servlet.WebMvcMetricsConfiguration;
 import org.springframework.boot.actuate.metrics.MetricsEndpoint;
 import org.springframework.boot.actuate.metrics.integration.SpringIntegrationMetrics;
@@ -41,7 +44,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.SearchStrategy;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -64,10 +70,14 @@ import java.util.Collection;
 @Import({MeterBindersConfiguration.class, WebMvcMetricsConfiguration.class,
         WebFluxMetricsConfiguration.class, RestTemplateMetricsConfiguration.class,
         CacheMetricsConfiguration.class, DataSourcePoolMetricsConfiguration.class,
-        RabbitMetricsConfiguration.class, MeterRegistriesConfiguration.class,
+        RabbitMetricsConfiguration.class, WorkerPoolMetricsConfiguration.class,
+        HttpClientConnectionPoolMetricsConfiguration.class,
+        TaskExecutorMetricsConfiguration.class, MeterRegistriesConfiguration.class,
         CompositeMeterRegistryConfiguration.class})
 @AutoConfigureAfter({CacheAutoConfiguration.class, DataSourceAutoConfiguration.class,
-        RabbitAutoConfiguration.class, RestTemplateAutoConfiguration.class})
+        RabbitAutoConfiguration.class, RestTemplateAutoConfiguration.class,
+        ServletWebServerFactoryAutoConfiguration.class,
+        TaskExecutionAutoConfiguration.class, TaskSchedulingAutoConfiguration.class})
 public class MetricsAutoConfiguration {
 
     @Bean
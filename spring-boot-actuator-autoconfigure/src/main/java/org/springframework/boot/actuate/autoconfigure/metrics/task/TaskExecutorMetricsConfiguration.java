@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.metrics.task.TaskExecutorMetrics;
+import org.springframework.boot.actuate.metrics.task.TimedTaskDecorator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configure metrics for all available {@link ThreadPoolTaskExecutor task executors} and
+ * {@link ThreadPoolTaskScheduler task schedulers}, and time the tasks run by the
+ * auto-configured application task executor.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnClass(ThreadPoolTaskExecutor.class)
+@ConditionalOnProperty(value = "management.metrics.binders.executor.enabled", matchIfMissing = true)
+public class TaskExecutorMetricsConfiguration {
+
+    private final MeterRegistry registry;
+
+    public TaskExecutorMetricsConfiguration(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Autowired
+    public void bindTaskExecutorsToRegistry(
+            ObjectProvider<Map<String, ThreadPoolTaskExecutor>> taskExecutors,
+            ObjectProvider<Map<String, ThreadPoolTaskScheduler>> taskSchedulers) {
+        Map<String, ThreadPoolTaskExecutor> executors = taskExecutors.getIfAvailable();
+        if (executors != null) {
+            executors.forEach((name, executor) -> bindToRegistry(name,
+                    executor.getThreadPoolExecutor()));
+        }
+        Map<String, ThreadPoolTaskScheduler> schedulers = taskSchedulers
+                .getIfAvailable();
+        if (schedulers != null) {
+            schedulers.forEach((name, scheduler) -> bindToRegistry(name,
+                    scheduler.getScheduledThreadPoolExecutor()));
+        }
+    }
+
+    private void bindToRegistry(String name, ThreadPoolExecutor executor) {
+        new TaskExecutorMetrics(executor, name, Collections.emptyList())
+                .bindTo(this.registry);
+    }
+
+    /**
+     * Times the tasks run by the auto-configured application task executor.
+     */
+    @Configuration
+    @ConditionalOnBean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    static class ApplicationTaskExecutorTimingConfiguration {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        public TimedTaskDecorator applicationTaskExecutorTimedTaskDecorator(
+                MeterRegistry registry) {
+            return new TimedTaskDecorator(registry,
+                    TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                    Collections.emptyList());
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.web.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.metrics.web.client.HttpClientConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+
+/**
+ * Configure metrics for all available Apache HttpClient
+ * {@link PoolingHttpClientConnectionManager connection pools}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnClass(PoolingHttpClientConnectionManager.class)
+@ConditionalOnBean(PoolingHttpClientConnectionManager.class)
+@ConditionalOnProperty(value = "management.metrics.binders.httpclient-pool.enabled", matchIfMissing = true)
+public class HttpClientConnectionPoolMetricsConfiguration {
+
+    private static final String CONNECTION_MANAGER_SUFFIX = "ConnectionManager";
+
+    private final MeterRegistry registry;
+
+    public HttpClientConnectionPoolMetricsConfiguration(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Autowired
+    public void bindConnectionPoolsToRegistry(
+            Map<String, PoolingHttpClientConnectionManager> connectionManagers) {
+        connectionManagers.forEach(this::bindConnectionPoolToRegistry);
+    }
+
+    private void bindConnectionPoolToRegistry(String beanName,
+                                              PoolingHttpClientConnectionManager connectionManager) {
+        new HttpClientConnectionPoolMetrics(connectionManager, "httpclient.pool",
+                Tags.of("name", getPoolName(beanName))).bindTo(this.registry);
+    }
+
+    private String getPoolName(String beanName) {
+        if (beanName.length() > CONNECTION_MANAGER_SUFFIX.length()
+                && StringUtils.endsWithIgnoreCase(beanName, CONNECTION_MANAGER_SUFFIX)) {
+            return beanName.substring(0,
+                    beanName.length() - CONNECTION_MANAGER_SUFFIX.length());
+        }
+        return beanName;
+    }
+
+}
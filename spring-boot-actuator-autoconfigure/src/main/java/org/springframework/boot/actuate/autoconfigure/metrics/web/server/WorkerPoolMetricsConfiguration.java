@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.actuate.autoconfigure.metrics.web.server;
+
+import org.springframework.boot.actuate.metrics.web.server.WorkerPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerWorkerPoolMonitor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+/**
+ * Configure metrics for the worker pool of the embedded web server.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnBean(WebServerWorkerPoolMonitor.class)
+@ConditionalOnProperty(value = "management.metrics.binders.worker-pool.enabled", matchIfMissing = true)
+public class WorkerPoolMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public WorkerPoolMetrics workerPoolMetrics(WebServerWorkerPoolMonitor monitor) {
+        return new WorkerPoolMetrics(monitor, "server.worker", Collections.emptyList());
+    }
+
+}
@@ -18,7 +18,9 @@ package org.springframework.boot.actuate.autoconfigure.web.trace;
 
 import org.springframework.boot.actuate.web.trace.HttpExchangeTracer;
 import org.springframework.boot.actuate.web.trace.HttpTraceRepository;
+import org.springframework.boot.actuate.web.trace.HttpTraceSampler;
 import org.springframework.boot.actuate.web.trace.InMemoryHttpTraceRepository;
+import org.springframework.boot.actuate.web.trace.RuleBasedHttpTraceSampler;
 import org.springframework.boot.actuate.web.trace.reactive.HttpTraceWebFilter;
 import org.springframework.boot.actuate.web.trace.servlet.HttpTraceFilter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -30,6 +32,9 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for HTTP tracing.
  *
@@ -54,14 +59,29 @@ public class HttpTraceAutoConfiguration {
         return new HttpExchangeTracer(traceProperties.getInclude());
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public HttpTraceSampler httpTraceSampler(HttpTraceProperties traceProperties) {
+        HttpTraceProperties.Sampling sampling = traceProperties.getSampling();
+        if (sampling.getProbability() >= 1 && sampling.getRules().isEmpty()) {
+            return HttpTraceSampler.ALWAYS;
+        }
+        List<RuleBasedHttpTraceSampler.Rule> rules = sampling.getRules().stream()
+                .map((rule) -> new RuleBasedHttpTraceSampler.Rule(rule.getPath(),
+                        rule.getStatus(), rule.getMinTimeTaken(), rule.getProbability(),
+                        rule.getRateLimit()))
+                .collect(Collectors.toList());
+        return new RuleBasedHttpTraceSampler(sampling.getProbability(), rules);
+    }
+
     @ConditionalOnWebApplication(type = Type.SERVLET)
     static class ServletTraceFilterConfiguration {
 
         @Bean
         @ConditionalOnMissingBean
         public HttpTraceFilter httpTraceFilter(HttpTraceRepository repository,
-                                               HttpExchangeTracer tracer) {
-            return new HttpTraceFilter(repository, tracer);
+                                               HttpExchangeTracer tracer, HttpTraceSampler sampler) {
+            return new HttpTraceFilter(repository, tracer, sampler);
         }
 
     }
@@ -72,9 +92,10 @@ public class HttpTraceAutoConfiguration {
         @Bean
         @ConditionalOnMissingBean
         public HttpTraceWebFilter httpTraceWebFilter(HttpTraceRepository repository,
-                                                     HttpExchangeTracer tracer, HttpTraceProperties traceProperties) {
+                                                     HttpExchangeTracer tracer, HttpTraceProperties traceProperties,
+                                                     HttpTraceSampler sampler) {
             return new HttpTraceWebFilter(repository, tracer,
-                    traceProperties.getInclude());
+                    traceProperties.getInclude(), sampler);
         }
 
     }
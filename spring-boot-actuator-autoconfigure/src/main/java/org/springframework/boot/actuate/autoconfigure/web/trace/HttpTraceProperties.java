@@ -18,8 +18,12 @@ package org.springframework.boot.actuate.autoconfigure.web.trace;
 
 import org.springframework.boot.actuate.web.trace.Include;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpStatus;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -42,6 +46,8 @@ public class HttpTraceProperties {
      */
     private Set<Include> include = new HashSet<>(Include.defaultIncludes());
 
+    private final Sampling sampling = new Sampling();
+
     public Set<Include> getInclude() {
         return this.include;
     }
@@ -50,4 +56,117 @@ public class HttpTraceProperties {
         this.include = include;
     }
 
+    public Sampling getSampling() {
+        return this.sampling;
+    }
+
+    /**
+     * Sampling properties.
+     */
+    public static class Sampling {
+
+        /**
+         * Probability, between 0 and 1, with which exchanges that match no rule are
+         * traced.
+         */
+        private double probability = 1.0;
+
+        /**
+         * Sampling rules. The first rule that matches an exchange decides whether it is
+         * traced.
+         */
+        private List<Rule> rules = new ArrayList<>();
+
+        public double getProbability() {
+            return this.probability;
+        }
+
+        public void setProbability(double probability) {
+            this.probability = probability;
+        }
+
+        public List<Rule> getRules() {
+            return this.rules;
+        }
+
+        public void setRules(List<Rule> rules) {
+            this.rules = rules;
+        }
+
+    }
+
+    /**
+     * A sampling rule. Criteria that are not set match every exchange.
+     */
+    public static class Rule {
+
+        /**
+         * Ant-style pattern that the request path must match.
+         */
+        private String path;
+
+        /**
+         * Status classes that the response status must belong to.
+         */
+        private Set<HttpStatus.Series> status = new HashSet<>();
+
+        /**
+         * Minimum time taken to handle the exchange. If a duration suffix is not
+         * specified, milliseconds will be used.
+         */
+        private Duration minTimeTaken;
+
+        /**
+         * Probability, between 0 and 1, with which matching exchanges are traced.
+         */
+        private double probability = 1.0;
+
+        /**
+         * Maximum number of matching exchanges that are traced per second. Unlimited
+         * when not set.
+         */
+        private Integer rateLimit;
+
+        public String getPath() {
+            return this.path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public Set<HttpStatus.Series> getStatus() {
+            return this.status;
+        }
+
+        public void setStatus(Set<HttpStatus.Series> status) {
+            this.status = status;
+        }
+
+        public Duration getMinTimeTaken() {
+            return this.minTimeTaken;
+        }
+
+        public void setMinTimeTaken(Duration minTimeTaken) {
+            this.minTimeTaken = minTimeTaken;
+        }
+
+        public double getProbability() {
+            return this.probability;
+        }
+
+        public void setProbability(double probability) {
+            this.probability = probability;
+        }
+
+        public Integer getRateLimit() {
+            return this.rateLimit;
+        }
+
+        public void setRateLimit(Integer rateLimit) {
+            this.rateLimit = rateLimit;
+        }
+
+    }
+
 }
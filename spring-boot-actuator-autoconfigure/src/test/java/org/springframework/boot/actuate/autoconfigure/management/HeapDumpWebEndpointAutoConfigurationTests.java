@@ -20,6 +20,8 @@ import org.junit.Test;
 import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 
+import java.io.File;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -39,6 +41,15 @@ public class HeapDumpWebEndpointAutoConfigurationTests {
                 .hasSingleBean(HeapDumpWebEndpoint.class));
     }
 
+    @Test
+    public void runWithDirectoryShouldBindProperties() {
+        this.contextRunner
+                .withPropertyValues("management.endpoint.heapdump.directory:target/dumps")
+                .run((context) -> assertThat(context
+                        .getBean(HeapDumpWebEndpointProperties.class).getDirectory())
+                        .isEqualTo(new File("target/dumps")));
+    }
+
     @Test
     public void runWhenDisabledShouldNotCreateIndicator() {
         this.contextRunner
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsRun;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TaskExecutorMetricsConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+public class TaskExecutorMetricsConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .with(MetricsRun.simple())
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class,
+                    TaskSchedulingAutoConfiguration.class));
+
+    @Test
+    public void applicationTaskExecutorIsInstrumented() {
+        this.contextRunner.run((context) -> {
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            ThreadPoolTaskExecutor taskExecutor = context
+                    .getBean(ThreadPoolTaskExecutor.class);
+            taskExecutor.execute(() -> {
+            });
+            taskExecutor.shutdown();
+            assertThat(taskExecutor.getThreadPoolExecutor().awaitTermination(5,
+                    TimeUnit.SECONDS)).isTrue();
+            assertThat(registry.get("executor").tags("name", "applicationTaskExecutor")
+                    .timer().count()).isEqualTo(1);
+            assertThat(registry.get("executor.pool.size")
+                    .tags("name", "applicationTaskExecutor").gauge()).isNotNull();
+            assertThat(registry.get("executor.rejected")
+                    .tags("name", "applicationTaskExecutor").counter().count())
+                    .isEqualTo(0);
+        });
+    }
+
+    @Test
+    public void taskSchedulerIsInstrumented() {
+        this.contextRunner.withUserConfiguration(SchedulingConfig.class)
+                .run((context) -> assertThat(context.getBean(MeterRegistry.class)
+                        .get("executor.active").tags("name", "taskScheduler").gauge())
+                        .isNotNull());
+    }
+
+    @Test
+    public void instrumentationCanBeDisabled() {
+        this.contextRunner
+                .withPropertyValues("management.metrics.binders.executor.enabled=false")
+                .run((context) -> assertThat(context.getBean(MeterRegistry.class)
+                        .find("executor.active").gauge()).isNull());
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfig {
+
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.web.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsRun;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HttpClientConnectionPoolMetricsConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+public class HttpClientConnectionPoolMetricsConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .with(MetricsRun.simple()).withConfiguration(
+                    AutoConfigurations.of(RestTemplateAutoConfiguration.class));
+
+    @Test
+    public void restTemplateConnectionPoolIsInstrumented() {
+        this.contextRunner
+                .withPropertyValues("spring.resttemplate.pool.enabled=true",
+                        "spring.resttemplate.pool.max-total=42")
+                .run((context) -> {
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    assertThat(registry.get("httpclient.pool.max")
+                            .tags("name", "restTemplate").gauge().value())
+                            .isEqualTo(42);
+                    assertThat(registry.get("httpclient.pool.connections")
+                            .tags("state", "leased").gauge().value()).isEqualTo(0);
+                    assertThat(registry.get("httpclient.pool.pending").gauge()
+                            .value()).isEqualTo(0);
+                });
+    }
+
+    @Test
+    public void connectionPoolIsNotInstrumentedWhenPoolIsDisabled() {
+        this.contextRunner.run((context) -> assertThat(context
+                .getBean(MeterRegistry.class).find("httpclient.pool.max").gauge())
+                .isNull());
+    }
+
+    @Test
+    public void connectionPoolInstrumentationCanBeDisabled() {
+        this.contextRunner
+                .withPropertyValues("spring.resttemplate.pool.enabled=true",
+                        "management.metrics.binders.httpclient-pool.enabled=false")
+                .run((context) -> assertThat(context.getBean(MeterRegistry.class)
+                        .find("httpclient.pool.max").gauge()).isNull());
+    }
+
+}
@@ -124,6 +124,27 @@ public class HttpTraceAutoConfigurationTests {
         });
     }
 
+    @Test
+    public void configuresSamplerThatTracesEverythingByDefault() {
+        new WebApplicationContextRunner()
+                .withConfiguration(
+                        AutoConfigurations.of(HttpTraceAutoConfiguration.class))
+                .run((context) -> assertThat(context.getBean(HttpTraceSampler.class))
+                        .isSameAs(HttpTraceSampler.ALWAYS));
+    }
+
+    @Test
+    public void configuresRuleBasedSamplerWhenSamplingIsConfigured() {
+        new WebApplicationContextRunner()
+                .withConfiguration(
+                        AutoConfigurations.of(HttpTraceAutoConfiguration.class))
+                .withPropertyValues("management.httptrace.sampling.probability=0",
+                        "management.httptrace.sampling.rules[0].status=server-error",
+                        "management.httptrace.sampling.rules[0].rate-limit=5")
+                .run((context) -> assertThat(context.getBean(HttpTraceSampler.class))
+                        .isInstanceOf(RuleBasedHttpTraceSampler.class));
+    }
+
     @Test
     public void backsOffWhenDisabled() {
         new WebApplicationContextRunner()
@@ -22,7 +22,10 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 import java.util.HashMap;
@@ -30,17 +33,20 @@ import java.util.Map;
 
 /**
  * {@link Endpoint} to expose details of an application's beans, grouped by application
- * context.
+ * context. The description of each context is cached and only rebuilt when the context
+ * is refreshed or when its number of bean definitions or singletons changes.
  *
  * @author Dave Syer
  * @author Andy Wilkinson
  * @since 2.0.0
  */
 @Endpoint(id = "beans")
-public class BeansEndpoint {
+public class BeansEndpoint implements ApplicationListener<ContextRefreshedEvent> {
 
     private final ConfigurableApplicationContext context;
 
+    private final Map<ConfigurableApplicationContext, CachedContextBeans> cache = new ConcurrentReferenceHashMap<>();
+
     /**
      * Creates a new {@code BeansEndpoint} that will describe the beans in the given
      * {@code context} and all of its ancestors.
@@ -61,17 +67,57 @@ public class BeansEndpoint {
         return null;
     }
 
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        this.cache.clear();
+    }
+
     @ReadOperation
     public ApplicationBeans beans() {
         Map<String, ContextBeans> contexts = new HashMap<>();
         ConfigurableApplicationContext context = this.context;
         while (context != null) {
-            contexts.put(context.getId(), ContextBeans.describing(context));
+            contexts.put(context.getId(), getContextBeans(context));
             context = getConfigurableParent(context);
         }
         return new ApplicationBeans(contexts);
     }
 
+    private ContextBeans getContextBeans(ConfigurableApplicationContext context) {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        int beanDefinitionCount = beanFactory.getBeanDefinitionCount();
+        int singletonCount = beanFactory.getSingletonCount();
+        CachedContextBeans cached = this.cache.get(context);
+        if (cached == null || cached.beanDefinitionCount != beanDefinitionCount
+                || cached.singletonCount != singletonCount) {
+            cached = new CachedContextBeans(beanDefinitionCount, singletonCount,
+                    ContextBeans.describing(context));
+            this.cache.put(context, cached);
+        }
+        return cached.beans;
+    }
+
+    /**
+     * A {@link ContextBeans} along with the bean definition and singleton counts of the
+     * bean factory from which it was produced.
+     */
+    private static final class CachedContextBeans {
+
+        private final int beanDefinitionCount;
+
+        private final int singletonCount;
+
+        private final ContextBeans beans;
+
+        private CachedContextBeans(int beanDefinitionCount, int singletonCount,
+                                   ContextBeans beans) {
+            this.beanDefinitionCount = beanDefinitionCount;
+            this.singletonCount = singletonCount;
+            this.beans = beans;
+        }
+
+    }
+
     /**
      * A description of an application's beans, primarily intended for serialization to
      * JSON.
@@ -49,6 +49,10 @@ import java.util.*;
  * if their names end with a set of configurable values (default "password" and "secret").
  * Configure property names by using {@code endpoints.configprops.keys_to_sanitize} in
  * your Spring Boot application configuration.
+ * <p>
+ * The report is produced afresh on each invocation so that it reflects the current state
+ * of the beans. Only the {@link ObjectMapper}, and with it Jackson's serializer caches, is
+ * reused between invocations.
  *
  * @author Christian Dupuis
  * @author Dave Syer
@@ -64,6 +68,8 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 
     private ApplicationContext context;
 
+    private volatile ObjectMapper objectMapper;
+
     @Override
     public void setApplicationContext(ApplicationContext context) throws BeansException {
         this.context = context;
@@ -79,18 +85,26 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
     }
 
     private ApplicationConfigurationProperties extract(ApplicationContext context) {
-        ObjectMapper mapper = new ObjectMapper();
-        configureObjectMapper(mapper);
         Map<String, ContextConfigurationProperties> contextProperties = new HashMap<>();
         ApplicationContext target = context;
         while (target != null) {
             contextProperties.put(target.getId(),
-                    describeConfigurationProperties(target, mapper));
+                    describeConfigurationProperties(target, getObjectMapper()));
             target = target.getParent();
         }
         return new ApplicationConfigurationProperties(contextProperties);
     }
 
+    private ObjectMapper getObjectMapper() {
+        ObjectMapper objectMapper = this.objectMapper;
+        if (objectMapper == null) {
+            objectMapper = new ObjectMapper();
+            configureObjectMapper(objectMapper);
+            this.objectMapper = objectMapper;
+        }
+        return objectMapper;
+    }
+
     private ContextConfigurationProperties describeConfigurationProperties(
             ApplicationContext context, ObjectMapper mapper) {
         ConfigurationBeanFactoryMetaData beanFactoryMetaData = getBeanFactoryMetaData(
@@ -155,7 +169,8 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 
     /**
      * Configure Jackson's {@link ObjectMapper} to be used to serialize the
-     * {@link ConfigurationProperties} objects into a {@link Map} structure.
+     * {@link ConfigurationProperties} objects into a {@link Map} structure. The mapper
+     * is only created and configured once and is then reused.
      *
      * @param mapper the object mapper
      */
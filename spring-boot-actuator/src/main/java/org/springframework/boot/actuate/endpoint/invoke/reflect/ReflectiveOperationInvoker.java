@@ -24,13 +24,19 @@ import org.springframework.core.style.ToStringCreator;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
- * An {@code OperationInvoker} that invokes an operation using reflection.
+ * An {@code OperationInvoker} that invokes an operation using reflection. The parameters
+ * of the operation are resolved once and the method is bound to its target as a
+ * {@link MethodHandle} so that each invocation only has to map the arguments.
  *
  * @author Andy Wilkinson
  * @author Stephane Nicoll
@@ -45,6 +51,10 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 
     private final ParameterValueMapper parameterValueMapper;
 
+    private final OperationParameter[] parameters;
+
+    private final MethodHandle methodHandle;
+
     /**
      * Creates a new {code ReflectiveOperationInvoker} that will invoke the given
      * {@code method} on the given {@code target}. The given {@code parameterMapper} will
@@ -60,47 +70,64 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
         Assert.notNull(target, "Target must not be null");
         Assert.notNull(operationMethod, "OperationMethod must not be null");
         Assert.notNull(parameterValueMapper, "ParameterValueMapper must not be null");
-        ReflectionUtils.makeAccessible(operationMethod.getMethod());
         this.target = target;
         this.operationMethod = operationMethod;
         this.parameterValueMapper = parameterValueMapper;
+        this.parameters = operationMethod.getParameters().stream()
+                .toArray(OperationParameter[]::new);
+        this.methodHandle = createMethodHandle(target, operationMethod.getMethod(),
+                this.parameters.length);
+    }
+
+    private static MethodHandle createMethodHandle(Object target, Method method,
+                                                   int parameterCount) {
+        // Endpoints and their operations need not be public so the method must be
+        // accessible before the lookup can unreflect it
+        ReflectionUtils.makeAccessible(method);
+        try {
+            return MethodHandles.lookup().unreflect(method).bindTo(target)
+                    .asSpreader(Object[].class, parameterCount)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Unable to access operation method "
+                    + method, ex);
+        }
     }
 
     @Override
     public Object invoke(Map<String, Object> arguments) {
         validateRequiredParameters(arguments);
-        Method method = this.operationMethod.getMethod();
         Object[] resolvedArguments = resolveArguments(arguments);
-        ReflectionUtils.makeAccessible(method);
-        return ReflectionUtils.invokeMethod(method, this.target, resolvedArguments);
+        try {
+            return (Object) this.methodHandle.invokeExact(resolvedArguments);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new UndeclaredThrowableException(ex);
+        }
     }
 
     private void validateRequiredParameters(Map<String, Object> arguments) {
-        Set<OperationParameter> missing = this.operationMethod.getParameters().stream()
-                .filter((parameter) -> isMissing(arguments, parameter))
-                .collect(Collectors.toSet());
-        if (!missing.isEmpty()) {
-            throw new MissingParametersException(missing);
+        Set<OperationParameter> missing = null;
+        for (OperationParameter parameter : this.parameters) {
+            if (parameter.isMandatory() && arguments.get(parameter.getName()) == null) {
+                missing = (missing != null ? missing : new LinkedHashSet<>());
+                missing.add(parameter);
+            }
         }
-    }
-
-    private boolean isMissing(Map<String, Object> arguments,
-                              OperationParameter parameter) {
-        if (!parameter.isMandatory()) {
-            return false;
+        if (missing != null) {
+            throw new MissingParametersException(missing);
         }
-        return arguments.get(parameter.getName()) == null;
     }
 
     private Object[] resolveArguments(Map<String, Object> arguments) {
-        return this.operationMethod.getParameters().stream()
-                .map((parameter) -> resolveArgument(parameter, arguments)).toArray();
-    }
-
-    private Object resolveArgument(OperationParameter parameter,
-                                   Map<String, Object> arguments) {
-        Object value = arguments.get(parameter.getName());
-        return this.parameterValueMapper.mapParameterValue(parameter, value);
+        Object[] resolvedArguments = new Object[this.parameters.length];
+        for (int i = 0; i < this.parameters.length; i++) {
+            OperationParameter parameter = this.parameters[i];
+            resolvedArguments[i] = this.parameterValueMapper.mapParameterValue(parameter,
+                    arguments.get(parameter.getName()));
+        }
+        return resolvedArguments;
     }
 
     @Override
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Base class for an {@link InputStream} that produces the content of a web endpoint
+ * response one chunk at a time. Each chunk is written to a buffer that is reused for the
+ * whole stream and reads are served directly from that buffer.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public abstract class ChunkedResourceInputStream extends InputStream {
+
+    private final ReusableByteArrayOutputStream buffer;
+
+    private int position;
+
+    /**
+     * Create a new {@link ChunkedResourceInputStream} instance.
+     *
+     * @param initialCapacity the initial capacity of the chunk buffer
+     */
+    protected ChunkedResourceInputStream(int initialCapacity) {
+        this.buffer = new ReusableByteArrayOutputStream(initialCapacity);
+    }
+
+    /**
+     * Return the buffer to which {@link #writeNextChunk()} writes. Content written to
+     * the buffer before the first read is served first.
+     *
+     * @return the chunk buffer
+     */
+    protected final OutputStream getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Write the next chunk of content to the {@link #getBuffer() buffer}. A chunk may be
+     * empty, in which case this method is called again.
+     *
+     * @return {@code false} if the content is exhausted
+     * @throws IOException on I/O failure
+     */
+    protected abstract boolean writeNextChunk() throws IOException;
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return this.buffer.byteAt(this.position++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, this.buffer.size() - this.position);
+        this.buffer.copyTo(this.position, bytes, offset, count);
+        this.position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.size() - this.position;
+    }
+
+    private boolean fill() throws IOException {
+        while (this.position >= this.buffer.size()) {
+            this.buffer.reset();
+            this.position = 0;
+            if (!writeNextChunk()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link ByteArrayOutputStream} that provides access to its content without copying
+     * it.
+     */
+    private static final class ReusableByteArrayOutputStream
+            extends ByteArrayOutputStream {
+
+        private ReusableByteArrayOutputStream(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        byte byteAt(int index) {
+            return this.buf[index];
+        }
+
+        void copyTo(int index, byte[] bytes, int offset, int length) {
+            System.arraycopy(this.buf, index, bytes, offset, length);
+        }
+
+    }
+
+}
@@ -22,14 +22,16 @@ import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
  * {@link ReactiveHealthIndicator} that returns health indications from all registered
- * delegates. Provides an alternative {@link Health} for a delegate that reaches a
- * configurable timeout.
+ * delegates. The delegates are invoked concurrently and their results merged as they
+ * arrive. Provides an alternative {@link Health} for a delegate that reaches a
+ * configurable timeout, either for all delegates or for an individual delegate.
  *
  * @author Stephane Nicoll
  * @since 2.0.0
@@ -40,8 +42,9 @@ public class CompositeReactiveHealthIndicator implements ReactiveHealthIndicator
 
     private final HealthAggregator healthAggregator;
     private final Function<Mono<Health>, Mono<Health>> timeoutCompose;
+    private final Map<String, Duration> indicatorTimeouts = new HashMap<>();
     private Long timeout;
-    private Health timeoutHealth;
+    private Health timeoutHealth = Health.unknown().build();
 
     public CompositeReactiveHealthIndicator(HealthAggregator healthAggregator) {
         this(healthAggregator, new LinkedHashMap<>());
@@ -88,13 +91,37 @@ public class CompositeReactiveHealthIndicator implements ReactiveHealthIndicator
         return this;
     }
 
+    /**
+     * Specify a timeout for the {@link HealthIndicator} with the specified name that
+     * takes precedence over the timeout configured by
+     * {@link #timeoutStrategy(long, Health)}. The alternative timeout {@link Health}
+     * is used if the health indicator fails to reply in time.
+     *
+     * @param name    the name of the health indicator
+     * @param timeout number of milliseconds to wait before using the timeout health
+     * @return this instance
+     */
+    public CompositeReactiveHealthIndicator timeoutStrategy(String name, long timeout) {
+        this.indicatorTimeouts.put(name, Duration.ofMillis(timeout));
+        return this;
+    }
+
     @Override
     public Mono<Health> health() {
         return Flux.fromIterable(this.indicators.entrySet())
                 .flatMap((entry) -> Mono.zip(Mono.just(entry.getKey()),
-                        entry.getValue().health().compose(this.timeoutCompose)))
+                        withTimeout(entry.getKey(), entry.getValue().health())),
+                        Math.max(1, this.indicators.size()))
                 .collectMap(Tuple2::getT1, Tuple2::getT2)
                 .map(this.healthAggregator::aggregate);
     }
 
+    private Mono<Health> withTimeout(String name, Mono<Health> health) {
+        Duration timeout = this.indicatorTimeouts.get(name);
+        if (timeout != null) {
+            return health.timeout(timeout, Mono.just(this.timeoutHealth));
+        }
+        return health.compose(this.timeoutCompose);
+    }
+
 }
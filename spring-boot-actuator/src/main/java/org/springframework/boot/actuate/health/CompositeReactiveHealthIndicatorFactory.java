@@ -18,6 +18,8 @@ package org.springframework.boot.actuate.health;
 
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -33,9 +35,26 @@ public class CompositeReactiveHealthIndicatorFactory {
 
     private final Function<String, String> healthIndicatorNameFactory;
 
+    private final Scheduler blockingScheduler;
+
     public CompositeReactiveHealthIndicatorFactory(
             Function<String, String> healthIndicatorNameFactory) {
+        this(healthIndicatorNameFactory, Schedulers.elastic());
+    }
+
+    /**
+     * Create a new {@link CompositeReactiveHealthIndicatorFactory} that invokes adapted
+     * {@link HealthIndicator HealthIndicators} on the given {@code blockingScheduler}.
+     *
+     * @param healthIndicatorNameFactory the factory for health indicator names
+     * @param blockingScheduler          the scheduler for blocking health indicators
+     */
+    public CompositeReactiveHealthIndicatorFactory(
+            Function<String, String> healthIndicatorNameFactory,
+            Scheduler blockingScheduler) {
+        Assert.notNull(blockingScheduler, "BlockingScheduler must not be null");
         this.healthIndicatorNameFactory = healthIndicatorNameFactory;
+        this.blockingScheduler = blockingScheduler;
     }
 
     public CompositeReactiveHealthIndicatorFactory() {
@@ -84,7 +103,8 @@ public class CompositeReactiveHealthIndicatorFactory {
         healthIndicators.forEach((beanName, indicator) -> {
             String name = this.healthIndicatorNameFactory.apply(beanName);
             allIndicators.computeIfAbsent(name,
-                    (n) -> new HealthIndicatorReactiveAdapter(indicator));
+                    (n) -> new HealthIndicatorReactiveAdapter(indicator,
+                            this.blockingScheduler));
         });
         return allIndicators;
     }
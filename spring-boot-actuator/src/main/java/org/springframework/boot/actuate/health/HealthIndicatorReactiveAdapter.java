@@ -18,12 +18,14 @@ package org.springframework.boot.actuate.health;
 
 import org.springframework.util.Assert;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 /**
  * Adapts a {@link HealthIndicator} to a {@link ReactiveHealthIndicator} so that it can be
- * safely invoked in a reactive environment.
+ * safely invoked in a reactive environment. The delegate is invoked on a
+ * {@link Scheduler} that is suitable for blocking work so that it never runs on the
+ * subscribing thread, for example a Netty event loop.
  *
  * @author Stephane Nicoll
  * @since 2.0.0
@@ -32,23 +34,35 @@ public class HealthIndicatorReactiveAdapter implements ReactiveHealthIndicator {
 
     private final HealthIndicator delegate;
 
+    private final Scheduler scheduler;
+
+    /**
+     * Create a new {@link HealthIndicatorReactiveAdapter} that invokes the given
+     * {@code delegate} on the {@link Schedulers#elastic() elastic} scheduler.
+     *
+     * @param delegate the health indicator to adapt
+     */
     public HealthIndicatorReactiveAdapter(HealthIndicator delegate) {
+        this(delegate, Schedulers.elastic());
+    }
+
+    /**
+     * Create a new {@link HealthIndicatorReactiveAdapter} that invokes the given
+     * {@code delegate} on the given {@code scheduler}.
+     *
+     * @param delegate  the health indicator to adapt
+     * @param scheduler the scheduler on which the delegate is invoked
+     */
+    public HealthIndicatorReactiveAdapter(HealthIndicator delegate, Scheduler scheduler) {
         Assert.notNull(delegate, "Delegate must not be null");
+        Assert.notNull(scheduler, "Scheduler must not be null");
         this.delegate = delegate;
+        this.scheduler = scheduler;
     }
 
     @Override
     public Mono<Health> health() {
-        return Mono.create((sink) -> Schedulers.elastic().schedule(() -> invoke(sink)));
-    }
-
-    private void invoke(MonoSink<Health> sink) {
-        try {
-            Health health = this.delegate.health();
-            sink.success(health);
-        } catch (Exception ex) {
-            sink.error(ex);
-        }
+        return Mono.fromCallable(this.delegate::health).subscribeOn(this.scheduler);
     }
 
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.logging;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.util.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link org.springframework.core.io.Resource} for a region of a log file. The region
+ * is fixed when the resource is created so that its content length remains accurate
+ * while the file continues to grow. The resource deliberately does not expose the
+ * underlying {@link File} so that web infrastructure reads the region through its
+ * {@link #readableChannel() channel} rather than transferring the whole file.
+ *
+ * @author agent (agent@local)
+ */
+class LogFileRegionResource extends AbstractResource {
+
+    private final File file;
+
+    private final long position;
+
+    private final long count;
+
+    LogFileRegionResource(File file, long position, long count) {
+        Assert.isTrue(position >= 0, "Position must not be negative");
+        Assert.isTrue(count >= 0, "Count must not be negative");
+        this.file = file;
+        this.position = position;
+        this.count = count;
+    }
+
+    long getPosition() {
+        return this.position;
+    }
+
+    @Override
+    public boolean exists() {
+        return this.file.exists();
+    }
+
+    @Override
+    public boolean isReadable() {
+        return this.file.canRead() && !this.file.isDirectory();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Channels.newInputStream(readableChannel());
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+        FileChannel channel = FileChannel.open(this.file.toPath(),
+                StandardOpenOption.READ);
+        channel.position(this.position);
+        return new RegionChannel(channel, this.count);
+    }
+
+    @Override
+    public long contentLength() {
+        return this.count;
+    }
+
+    @Override
+    public long lastModified() {
+        return this.file.lastModified();
+    }
+
+    @Override
+    public String getFilename() {
+        return this.file.getName();
+    }
+
+    @Override
+    public String getDescription() {
+        return "region [" + this.position + ", " + (this.position + this.count)
+                + ") of file [" + this.file.getAbsolutePath() + "]";
+    }
+
+    /**
+     * {@link ReadableByteChannel} that reads at most a fixed number of bytes from a
+     * {@link FileChannel}.
+     */
+    private static final class RegionChannel implements ReadableByteChannel {
+
+        private final FileChannel delegate;
+
+        private long remaining;
+
+        private RegionChannel(FileChannel delegate, long remaining) {
+            this.delegate = delegate;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read(ByteBuffer buffer) throws IOException {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+            int limit = buffer.limit();
+            if (buffer.remaining() > this.remaining) {
+                buffer.limit(buffer.position() + (int) this.remaining);
+            }
+            try {
+                int read = this.delegate.read(buffer);
+                if (read > 0) {
+                    this.remaining -= read;
+                }
+                return read;
+            } finally {
+                buffer.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.delegate.close();
+        }
+
+    }
+
+}
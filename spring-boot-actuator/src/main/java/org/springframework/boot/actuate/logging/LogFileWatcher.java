@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.logging;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches log files for growth on behalf of requests that follow them. A single daemon
+ * thread polls the length of every followed file and wakes the waiting requests when a
+ * length changes. The thread only runs while at least one request is waiting.
+ *
+ * @author agent (agent@local)
+ */
+class LogFileWatcher {
+
+    private final long pollInterval;
+
+    private final Object monitor = new Object();
+
+    private final Map<File, Integer> waiters = new HashMap<>();
+
+    private final Map<File, Long> lengths = new HashMap<>();
+
+    private Thread thread;
+
+    LogFileWatcher(Duration pollInterval) {
+        this.pollInterval = pollInterval.toMillis();
+    }
+
+    /**
+     * Wait until the length of the given {@code file} differs from {@code length} or
+     * the {@code timeout} elapses.
+     *
+     * @param file    the file to watch
+     * @param length  the length that the caller has already seen
+     * @param timeout the maximum time to wait
+     * @return the length of the file when waiting completed
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    long awaitChange(File file, long length, Duration timeout)
+            throws InterruptedException {
+        synchronized (this.monitor) {
+            this.waiters.merge(file, 1, Integer::sum);
+            this.lengths.computeIfAbsent(file, File::length);
+            startIfNecessary();
+            try {
+                long deadline = System.nanoTime() + timeout.toNanos();
+                long current = this.lengths.get(file);
+                while (current == length) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this.monitor, remaining);
+                    current = this.lengths.get(file);
+                }
+                return current;
+            } finally {
+                if (this.waiters.merge(file, -1, Integer::sum) == 0) {
+                    this.waiters.remove(file);
+                    this.lengths.remove(file);
+                }
+            }
+        }
+    }
+
+    private void startIfNecessary() {
+        if (this.thread == null) {
+            this.thread = new Thread(this::poll, "logfile-watcher");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+    }
+
+    private void poll() {
+        synchronized (this.monitor) {
+            try {
+                while (!this.waiters.isEmpty()) {
+                    boolean changed = false;
+                    for (File file : this.waiters.keySet()) {
+                        long length = file.length();
+                        Long previous = this.lengths.put(file, length);
+                        changed |= (previous == null || previous != length);
+                    }
+                    if (changed) {
+                        this.monitor.notifyAll();
+                    }
+                    this.monitor.wait(this.pollInterval);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.thread = null;
+            }
+        }
+    }
+
+}
@@ -25,11 +25,15 @@ import org.springframework.boot.logging.LogFile;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 
 import java.io.File;
+import java.time.Duration;
 
 /**
- * Web {@link Endpoint} that provides access to an application's log file.
+ * Web {@link Endpoint} that provides access to an application's log file. Besides the
+ * whole file, a client can request the bytes after a given {@code offset}, the last
+ * {@code tail} bytes, or {@code follow} the file to wait for bytes to be appended.
  *
  * @author Johannes Edmeier
  * @author Phillip Webb
@@ -41,10 +45,16 @@ public class LogFileWebEndpoint {
 
     private static final Log logger = LogFactory.getLog(LogFileWebEndpoint.class);
 
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(250);
+
     private final Environment environment;
 
+    private final LogFileWatcher watcher = new LogFileWatcher(POLL_INTERVAL);
+
     private File externalFile;
 
+    private Duration followTimeout = Duration.ofSeconds(30);
+
     public LogFileWebEndpoint(Environment environment, File externalFile) {
         this.environment = environment;
         this.externalFile = externalFile;
@@ -54,25 +64,79 @@ public class LogFileWebEndpoint {
         this(environment, null);
     }
 
-    @ReadOperation
+    /**
+     * Set the maximum time that a request that follows the log file waits for bytes to
+     * be appended.
+     *
+     * @param followTimeout the follow timeout
+     */
+    public void setFollowTimeout(Duration followTimeout) {
+        this.followTimeout = followTimeout;
+    }
+
     public Resource logFile() {
-        Resource logFileResource = getLogFileResource();
-        if (logFileResource == null || !logFileResource.isReadable()) {
+        return logFile(null, null, null);
+    }
+
+    /**
+     * Return the log file or a region of it. When {@code offset} is greater than the
+     * length of the file, the file is assumed to have been rotated and is returned from
+     * its beginning.
+     *
+     * @param offset the offset from which the file should be returned
+     * @param tail   the number of bytes at the end of the file that should be returned.
+     *               Ignored when an {@code offset} is provided
+     * @param follow whether to wait, up to the follow timeout, for bytes to be appended
+     *               when there are none after the offset. Without an offset, waits for
+     *               bytes appended after the request was received
+     * @return the log file, a region of it, or {@code null} if there is no readable log
+     * file
+     */
+    @ReadOperation
+    public Resource logFile(@Nullable Long offset, @Nullable Long tail,
+                            @Nullable Boolean follow) {
+        File file = getLogFile();
+        if (file == null || !file.canRead() || file.isDirectory()) {
             return null;
         }
-        return logFileResource;
+        boolean following = Boolean.TRUE.equals(follow);
+        if (offset == null && tail == null && !following) {
+            return new FileSystemResource(file);
+        }
+        long length = file.length();
+        if (offset == null && tail != null) {
+            long position = Math.max(0, length - Math.max(0, tail));
+            return new LogFileRegionResource(file, position, length - position);
+        }
+        long position = (offset == null ? length : Math.max(0, offset));
+        if (following && length == position) {
+            length = awaitChange(file, length);
+        }
+        if (position > length) {
+            position = 0;
+        }
+        return new LogFileRegionResource(file, position, length - position);
+    }
+
+    private long awaitChange(File file, long length) {
+        try {
+            return this.watcher.awaitChange(file, length, this.followTimeout);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return length;
+        }
     }
 
-    private Resource getLogFileResource() {
+    private File getLogFile() {
         if (this.externalFile != null) {
-            return new FileSystemResource(this.externalFile);
+            return this.externalFile;
         }
         LogFile logFile = LogFile.get(this.environment);
         if (logFile == null) {
             logger.debug("Missing 'logging.file' or 'logging.path' properties");
             return null;
         }
-        return new FileSystemResource(logFile.toString());
+        return new File(logFile.toString());
     }
 
 }
@@ -20,6 +20,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.ChunkedResourceInputStream;
 import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
 import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
 import org.springframework.core.io.FileSystemResource;
@@ -33,6 +34,7 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.PlatformManagedObject;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
@@ -40,9 +42,13 @@ import java.util.Date;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * Web {@link Endpoint} to expose heap dumps.
+ * Web {@link Endpoint} to expose heap dumps. The dump is written to a temporary file
+ * that is deleted once it has been streamed to the client. It can optionally be
+ * compressed with gzip while it is streamed.
  *
  * @author Lari Hotari
  * @author Phillip Webb
@@ -53,12 +59,16 @@ import java.util.concurrent.locks.ReentrantLock;
 @WebEndpoint(id = "heapdump")
 public class HeapDumpWebEndpoint {
 
+    private static final Log logger = LogFactory.getLog(HeapDumpWebEndpoint.class);
+
     private final long timeout;
 
     private final Lock lock = new ReentrantLock();
 
     private HeapDumper heapDumper;
 
+    private File directory;
+
     public HeapDumpWebEndpoint() {
         this(TimeUnit.SECONDS.toMillis(10));
     }
@@ -67,13 +77,28 @@ public class HeapDumpWebEndpoint {
         this.timeout = timeout;
     }
 
-    @ReadOperation
+    /**
+     * Set the directory to which heap dumps are written. When {@code null}, the
+     * default temporary-file directory is used.
+     *
+     * @param directory the heap dump directory
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
     public WebEndpointResponse<Resource> heapDump(@Nullable Boolean live) {
+        return heapDump(live, null);
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Resource> heapDump(@Nullable Boolean live,
+                                                  @Nullable Boolean compress) {
         try {
             if (this.lock.tryLock(this.timeout, TimeUnit.MILLISECONDS)) {
                 try {
-                    return new WebEndpointResponse<>(
-                            dumpHeap(live == null ? true : live));
+                    return new WebEndpointResponse<>(dumpHeap(
+                            live == null ? true : live, Boolean.TRUE.equals(compress)));
                 } finally {
                     this.lock.unlock();
                 }
@@ -90,19 +115,27 @@ public class HeapDumpWebEndpoint {
         return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
     }
 
-    private Resource dumpHeap(boolean live) throws IOException, InterruptedException {
+    private Resource dumpHeap(boolean live, boolean compress)
+            throws IOException, InterruptedException {
         if (this.heapDumper == null) {
             this.heapDumper = createHeapDumper();
         }
         File file = createTempFile(live);
+        long start = System.nanoTime();
         this.heapDumper.dumpHeap(file, live);
-        return new TemporaryFileSystemResource(file);
+        if (logger.isInfoEnabled()) {
+            logger.info("Heap dump of " + file.length() + " bytes written to '" + file
+                    + "' in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                    + "ms");
+        }
+        return compress ? new GzipTemporaryFileSystemResource(file)
+                : new TemporaryFileSystemResource(file);
     }
 
     private File createTempFile(boolean live) throws IOException {
         String date = new SimpleDateFormat("yyyy-MM-dd-HH-mm").format(new Date());
         File file = File.createTempFile("heapdump" + date + (live ? "-live" : ""),
-                ".hprof");
+                ".hprof", this.directory);
         file.delete();
         return file;
     }
@@ -180,12 +213,13 @@ public class HeapDumpWebEndpoint {
 
     }
 
-    private static final class TemporaryFileSystemResource extends FileSystemResource {
+    private static class TemporaryFileSystemResource extends FileSystemResource {
 
-        private final Log logger = LogFactory.getLog(getClass());
+        private final StreamingProgress progress;
 
         private TemporaryFileSystemResource(File file) {
             super(file);
+            this.progress = new StreamingProgress(file);
         }
 
         @Override
@@ -205,7 +239,8 @@ public class HeapDumpWebEndpoint {
 
                 @Override
                 public int read(ByteBuffer dst) throws IOException {
-                    return readableChannel.read(dst);
+                    return TemporaryFileSystemResource.this.progress
+                            .read(readableChannel.read(dst));
                 }
 
             };
@@ -215,6 +250,19 @@ public class HeapDumpWebEndpoint {
         public InputStream getInputStream() throws IOException {
             return new FilterInputStream(super.getInputStream()) {
 
+                @Override
+                public int read() throws IOException {
+                    int read = super.read();
+                    TemporaryFileSystemResource.this.progress.read(read == -1 ? -1 : 1);
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return TemporaryFileSystemResource.this.progress
+                            .read(super.read(b, off, len));
+                }
+
                 @Override
                 public void close() throws IOException {
                     closeThenDeleteFile(this.in);
@@ -235,7 +283,7 @@ public class HeapDumpWebEndpoint {
             try {
                 Files.delete(getFile().toPath());
             } catch (IOException ex) {
-                TemporaryFileSystemResource.this.logger.warn(
+                logger.warn(
                         "Failed to delete temporary heap dump file '" + getFile() + "'",
                         ex);
             }
@@ -249,4 +297,134 @@ public class HeapDumpWebEndpoint {
 
     }
 
+    /**
+     * {@link TemporaryFileSystemResource} that compresses the heap dump with gzip while
+     * it is being read. The compressed length is not known up front so no content
+     * length is reported.
+     */
+    private static final class GzipTemporaryFileSystemResource
+            extends TemporaryFileSystemResource {
+
+        private GzipTemporaryFileSystemResource(File file) {
+            super(file);
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Channels.newChannel(getInputStream());
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new GzipCompressingInputStream(super.getInputStream());
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public String getFilename() {
+            return super.getFilename() + ".gz";
+        }
+
+    }
+
+    /**
+     * {@link InputStream} that produces the gzip compressed form of a source stream,
+     * compressing one chunk at a time into a reusable buffer.
+     */
+    private static final class GzipCompressingInputStream
+            extends ChunkedResourceInputStream {
+
+        private final InputStream source;
+
+        private final GZIPOutputStream gzip;
+
+        private final byte[] chunk = new byte[8192];
+
+        private boolean finished;
+
+        private long compressedLength;
+
+        private GzipCompressingInputStream(InputStream source) throws IOException {
+            super(8192);
+            this.source = source;
+            this.gzip = new GZIPOutputStream(getBuffer(), this.chunk.length) {
+
+                {
+                    this.def.setLevel(Deflater.BEST_SPEED);
+                }
+
+            };
+            this.compressedLength = available();
+        }
+
+        @Override
+        protected boolean writeNextChunk() throws IOException {
+            if (this.finished) {
+                return false;
+            }
+            int read = this.source.read(this.chunk);
+            if (read == -1) {
+                this.gzip.finish();
+                this.finished = true;
+                this.compressedLength += available();
+                if (logger.isInfoEnabled()) {
+                    logger.info("Heap dump compressed to " + this.compressedLength
+                            + " bytes");
+                }
+            } else {
+                this.gzip.write(this.chunk, 0, read);
+                this.compressedLength += available();
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                this.gzip.close();
+            } finally {
+                this.source.close();
+            }
+        }
+
+    }
+
+    /**
+     * Logs the progress of streaming a heap dump in steps of ten percent.
+     */
+    private static final class StreamingProgress {
+
+        private final File file;
+
+        private final long length;
+
+        private long read;
+
+        private int reported;
+
+        private StreamingProgress(File file) {
+            this.file = file;
+            this.length = file.length();
+        }
+
+        int read(int count) {
+            if (count > 0 && this.length > 0) {
+                this.read += count;
+                int percent = (int) (this.read * 100 / this.length);
+                if (percent / 10 > this.reported / 10 && logger.isInfoEnabled()) {
+                    logger.info("Streamed " + this.read + " of " + this.length
+                            + " bytes (" + percent + "%) of heap dump '" + this.file
+                            + "'");
+                }
+                this.reported = percent;
+            }
+            return count;
+        }
+
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,32 @@
 
 package org.springframework.boot.actuate.management;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
- * {@link Endpoint} to expose thread info.
+ * {@link Endpoint} to expose thread info. By default a full thread dump, including
+ * locked monitors and synchronizers, is produced. Providing a stack trace
+ * {@code depth} produces a lighter dump of stack traces only. Providing {@code top}
+ * reports the threads that consumed the most CPU time over a sampling
+ * {@code interval}.
  *
  * @author Dave Syer
  * @author Andy Wilkinson
@@ -34,27 +50,201 @@ import java.util.List;
 @Endpoint(id = "threaddump")
 public class ThreadDumpEndpoint {
 
-    @ReadOperation
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Duration MAX_INTERVAL = Duration.ofSeconds(10);
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
     public ThreadDumpDescriptor threadDump() {
-        return new ThreadDumpDescriptor(Arrays
-                .asList(ManagementFactory.getThreadMXBean().dumpAllThreads(true, true)));
+        return threadDump(null, null, null);
+    }
+
+    /**
+     * Dump the JVM's threads.
+     *
+     * @param depth    the maximum depth of each stack trace. When provided, locked
+     *                 monitors and synchronizers are not collected
+     * @param top      the number of threads with the highest CPU time over the
+     *                 {@code interval} to report instead of dumping every thread
+     * @param interval the interval over which CPU time is sampled. Defaults to one
+     *                 second and is limited to ten seconds
+     * @return a description of the threads
+     * @throws InvalidEndpointRequestException if {@code depth}, {@code top} or
+     *                                         {@code interval} is negative
+     */
+    @ReadOperation
+    public ThreadDumpDescriptor threadDump(@Nullable Integer depth, @Nullable Integer top,
+                                           @Nullable Duration interval) {
+        assertNotNegative("depth", depth != null && depth < 0);
+        assertNotNegative("top", top != null && top < 0);
+        assertNotNegative("interval", interval != null && interval.isNegative());
+        if (top != null) {
+            return new ThreadDumpDescriptor(null,
+                    getHotThreads(top, getInterval(interval), depth));
+        }
+        if (depth != null) {
+            return new ThreadDumpDescriptor(Arrays.asList(this.threadMXBean
+                    .getThreadInfo(this.threadMXBean.getAllThreadIds(), depth)), null);
+        }
+        return new ThreadDumpDescriptor(
+                Arrays.asList(this.threadMXBean.dumpAllThreads(true, true)), null);
+    }
+
+    private void assertNotNegative(String name, boolean negative) {
+        if (negative) {
+            throw new InvalidEndpointRequestException(
+                    "Parameter '" + name + "' must not be negative",
+                    "Invalid " + name);
+        }
+    }
+
+    Duration getInterval(Duration interval) {
+        if (interval == null) {
+            return DEFAULT_INTERVAL;
+        }
+        return (interval.compareTo(MAX_INTERVAL) > 0 ? MAX_INTERVAL : interval);
+    }
+
+    private List<HotThreadDescriptor> getHotThreads(int top, Duration interval,
+                                                    Integer depth) {
+        if (!this.threadMXBean.isThreadCpuTimeSupported()
+                || !this.threadMXBean.isThreadCpuTimeEnabled()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Long> initialCpuTimes = getCpuTimes(
+                this.threadMXBean.getAllThreadIds());
+        long start = System.nanoTime();
+        try {
+            TimeUnit.NANOSECONDS.sleep(interval.toNanos());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        long elapsed = System.nanoTime() - start;
+        Map<Long, Long> cpuTimeDeltas = new LinkedHashMap<>();
+        initialCpuTimes.forEach((id, initial) -> {
+            long cpuTime = this.threadMXBean.getThreadCpuTime(id);
+            if (cpuTime != -1) {
+                cpuTimeDeltas.put(id, cpuTime - initial);
+            }
+        });
+        List<Long> hotIds = cpuTimeDeltas.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(top).map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        ThreadInfo[] infos = this.threadMXBean.getThreadInfo(
+                hotIds.stream().mapToLong(Long::longValue).toArray(),
+                depth == null ? Integer.MAX_VALUE : depth);
+        List<HotThreadDescriptor> hotThreads = new ArrayList<>(infos.length);
+        for (int i = 0; i < infos.length; i++) {
+            if (infos[i] != null) {
+                long cpuTime = cpuTimeDeltas.get(hotIds.get(i));
+                hotThreads.add(new HotThreadDescriptor(infos[i], cpuTime,
+                        (double) cpuTime / elapsed));
+            }
+        }
+        return hotThreads;
+    }
+
+    private Map<Long, Long> getCpuTimes(long[] threadIds) {
+        Map<Long, Long> cpuTimes = new LinkedHashMap<>();
+        for (long threadId : threadIds) {
+            long cpuTime = this.threadMXBean.getThreadCpuTime(threadId);
+            if (cpuTime != -1) {
+                cpuTimes.put(threadId, cpuTime);
+            }
+        }
+        return cpuTimes;
     }
 
     /**
      * A description of a thread dump. Primarily intended for serialization to JSON.
      */
+    @JsonInclude(Include.NON_NULL)
     public static final class ThreadDumpDescriptor {
 
         private final List<ThreadInfo> threads;
 
-        private ThreadDumpDescriptor(List<ThreadInfo> threads) {
+        private final List<HotThreadDescriptor> hotThreads;
+
+        private ThreadDumpDescriptor(List<ThreadInfo> threads,
+                                     List<HotThreadDescriptor> hotThreads) {
             this.threads = threads;
+            this.hotThreads = hotThreads;
         }
 
         public List<ThreadInfo> getThreads() {
             return this.threads;
         }
 
+        public List<HotThreadDescriptor> getHotThreads() {
+            return this.hotThreads;
+        }
+
+    }
+
+    /**
+     * A description of a thread and the CPU time that it consumed over a sampling
+     * interval. Primarily intended for serialization to JSON.
+     */
+    public static final class HotThreadDescriptor {
+
+        private final long threadId;
+
+        private final String threadName;
+
+        private final Thread.State threadState;
+
+        private final long cpuTime;
+
+        private final double cpuUsage;
+
+        private final StackTraceElement[] stackTrace;
+
+        private HotThreadDescriptor(ThreadInfo info, long cpuTime, double cpuUsage) {
+            this.threadId = info.getThreadId();
+            this.threadName = info.getThreadName();
+            this.threadState = info.getThreadState();
+            this.cpuTime = cpuTime;
+            this.cpuUsage = cpuUsage;
+            this.stackTrace = info.getStackTrace();
+        }
+
+        public long getThreadId() {
+            return this.threadId;
+        }
+
+        public String getThreadName() {
+            return this.threadName;
+        }
+
+        public Thread.State getThreadState() {
+            return this.threadState;
+        }
+
+        /**
+         * Returns the CPU time, in nanoseconds, consumed over the sampling interval.
+         *
+         * @return the CPU time
+         */
+        public long getCpuTime() {
+            return this.cpuTime;
+        }
+
+        /**
+         * Returns the CPU time consumed over the sampling interval as a fraction of the
+         * interval.
+         *
+         * @return the CPU usage
+         */
+        public double getCpuUsage() {
+            return this.cpuUsage;
+        }
+
+        public StackTraceElement[] getStackTrace() {
+            return this.stackTrace;
+        }
+
     }
 
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.metrics;
 
+import io.micrometer.core.instrument.Measurement;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Statistic;
@@ -28,11 +29,15 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 /**
  * An {@link Endpoint} for exposing the metrics held by a {@link MeterRegistry}.
+ * <p>
+ * Meter names are indexed on first use and the index is only rebuilt once a meter has
+ * been added to one of the registries.
  *
  * @author Jon Schneider
  * @author Phillip Webb
@@ -41,17 +46,52 @@ import java.util.stream.Collectors;
 @Endpoint(id = "metrics")
 public class MetricsEndpoint {
 
+    private static final Statistic[] STATISTICS = Statistic.values();
+
     private final MeterRegistry registry;
 
+    private final Set<MeterRegistry> indexedRegistries = Collections
+            .newSetFromMap(new IdentityHashMap<>());
+
+    private final AtomicLong modifications = new AtomicLong();
+
+    private volatile NameIndex nameIndex;
+
     public MetricsEndpoint(MeterRegistry registry) {
         this.registry = registry;
     }
 
     @ReadOperation
     public ListNamesResponse listNames() {
-        Set<String> names = new LinkedHashSet<>();
-        collectNames(names, this.registry);
-        return new ListNamesResponse(names);
+        return new ListNamesResponse(getNames());
+    }
+
+    private Set<String> getNames() {
+        listenForNewMeters(this.registry);
+        long modifications = this.modifications.get();
+        NameIndex nameIndex = this.nameIndex;
+        if (nameIndex == null || nameIndex.modifications != modifications) {
+            Set<String> names = new LinkedHashSet<>();
+            collectNames(names, this.registry);
+            nameIndex = new NameIndex(modifications, Collections.unmodifiableSet(names));
+            this.nameIndex = nameIndex;
+        }
+        return nameIndex.names;
+    }
+
+    private void listenForNewMeters(MeterRegistry registry) {
+        if (registry instanceof CompositeMeterRegistry) {
+            ((CompositeMeterRegistry) registry).getRegistries()
+                    .forEach(this::listenForNewMeters);
+        } else {
+            synchronized (this.indexedRegistries) {
+                if (this.indexedRegistries.add(registry)) {
+                    registry.config().onMeterAdded(
+                            (meter) -> this.modifications.incrementAndGet());
+                    this.modifications.incrementAndGet();
+                }
+            }
+        }
     }
 
     private void collectNames(Set<String> names, MeterRegistry registry) {
@@ -70,22 +110,26 @@ public class MetricsEndpoint {
     @ReadOperation
     public MetricResponse metric(@Selector String requiredMetricName,
                                  @Nullable List<String> tag) {
-        Assert.isTrue(tag == null || tag.stream().allMatch((t) -> t.contains(":")),
-                "Each tag parameter must be in the form key:value");
         List<Tag> tags = parseTags(tag);
+        return getMetric(requiredMetricName, tags);
+    }
+
+    private MetricResponse getMetric(String name, List<Tag> tags) {
         List<Meter> meters = new ArrayList<>();
-        collectMeters(meters, this.registry, requiredMetricName, tags);
+        collectMeters(meters, this.registry, name, tags);
         if (meters.isEmpty()) {
             return null;
         }
-        Map<Statistic, Double> samples = getSamples(meters);
+        List<Sample> samples = getSamples(meters);
         Map<String, Set<String>> availableTags = getAvailableTags(meters);
         tags.forEach((t) -> availableTags.remove(t.getKey()));
-        return new MetricResponse(requiredMetricName, asList(samples, Sample::new),
+        return new MetricResponse(name, samples,
                 asList(availableTags, AvailableTag::new));
     }
 
     private List<Tag> parseTags(List<String> tags) {
+        Assert.isTrue(tags == null || tags.stream().allMatch((t) -> t.contains(":")),
+                "Each tag parameter must be in the form key:value");
         return tags == null ? Collections.emptyList() : tags.stream().map((t) -> {
             String[] tagParts = t.split(":", 2);
             return Tag.of(tagParts[0], tagParts[1]);
@@ -102,21 +146,38 @@ public class MetricsEndpoint {
         }
     }
 
-    private Map<Statistic, Double> getSamples(List<Meter> meters) {
-        Map<Statistic, Double> samples = new LinkedHashMap<>();
-        meters.forEach((meter) -> mergeMeasurements(samples, meter));
+    private List<Sample> getSamples(List<Meter> meters) {
+        double[] values = new double[STATISTICS.length];
+        int[] order = new int[STATISTICS.length];
+        int count = 0;
+        for (Meter meter : meters) {
+            for (Measurement measurement : meter.measure()) {
+                int index = measurement.getStatistic().ordinal();
+                double value = measurement.getValue();
+                if (!contains(order, count, index)) {
+                    order[count++] = index;
+                    values[index] = value;
+                } else if (Statistic.MAX.ordinal() == index) {
+                    values[index] = Math.max(values[index], value);
+                } else {
+                    values[index] += value;
+                }
+            }
+        }
+        List<Sample> samples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            samples.add(new Sample(STATISTICS[order[i]], values[order[i]]));
+        }
         return samples;
     }
 
-    private void mergeMeasurements(Map<Statistic, Double> samples, Meter meter) {
-        meter.measure()
-                .forEach((measurement) -> samples.merge(measurement.getStatistic(),
-                        measurement.getValue(),
-                        mergeFunction(measurement.getStatistic())));
-    }
-
-    private BiFunction<Double, Double, Double> mergeFunction(Statistic statistic) {
-        return Statistic.MAX.equals(statistic) ? Double::max : Double::sum;
+    private boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private Map<String, Set<String>> getAvailableTags(List<Meter> meters) {
@@ -126,17 +187,9 @@ public class MetricsEndpoint {
     }
 
     private void mergeAvailableTags(Map<String, Set<String>> availableTags, Meter meter) {
-        meter.getId().getTags().forEach((tag) -> {
-            Set<String> value = Collections.singleton(tag.getValue());
-            availableTags.merge(tag.getKey(), value, this::merge);
-        });
-    }
-
-    private <T> Set<T> merge(Set<T> set1, Set<T> set2) {
-        Set<T> result = new HashSet<>(set1.size() + set2.size());
-        result.addAll(set1);
-        result.addAll(set2);
-        return result;
+        meter.getId().getTags().forEach((tag) -> availableTags
+                .computeIfAbsent(tag.getKey(), (key) -> new HashSet<>())
+                .add(tag.getValue()));
     }
 
     private <K, V, T> List<T> asList(Map<K, V> map, BiFunction<K, V, T> mapper) {
@@ -145,6 +198,23 @@ public class MetricsEndpoint {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /**
+     * Snapshot of the meter names along with the number of modifications that had been
+     * observed when it was taken.
+     */
+    private static final class NameIndex {
+
+        private final long modifications;
+
+        private final Set<String> names;
+
+        private NameIndex(long modifications, Set<String> names) {
+            this.modifications = modifications;
+            this.names = names;
+        }
+
+    }
+
     /**
      * Response payload for a metric name listing.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,38 @@
 
 package org.springframework.boot.actuate.metrics.export.prometheus;
 
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.ChunkedResourceInputStream;
 import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * {@link Endpoint} that outputs metrics in a format that can be scraped by the Prometheus
  * server.
+ * <p>
+ * The exposition is rendered lazily, one metric family at a time, as the response is
+ * written so that a scrape only requires a buffer large enough for the largest family
+ * rather than for the whole exposition.
  *
  * @author Jon Schneider
  * @since 2.0.0
@@ -43,16 +62,134 @@ public class PrometheusScrapeEndpoint {
     }
 
     @ReadOperation(produces = TextFormat.CONTENT_TYPE_004)
-    public String scrape() {
-        try {
-            Writer writer = new StringWriter();
-            TextFormat.write004(writer, this.collectorRegistry.metricFamilySamples());
-            return writer.toString();
-        } catch (IOException e) {
-            // This actually never happens since StringWriter::write() doesn't throw any
-            // IOException
-            throw new RuntimeException("Writing metrics failed", e);
+    public Resource scrape(@Nullable Set<String> includedNames) {
+        return new ScrapeResource(this.collectorRegistry, includedNames);
+    }
+
+    /**
+     * {@link Resource} that renders the exposition of a {@link CollectorRegistry} when
+     * its content is read.
+     */
+    private static final class ScrapeResource extends AbstractResource {
+
+        private final CollectorRegistry collectorRegistry;
+
+        private final Set<String> includedNames;
+
+        private ScrapeResource(CollectorRegistry collectorRegistry,
+                               Set<String> includedNames) {
+            this.collectorRegistry = collectorRegistry;
+            this.includedNames = includedNames;
         }
+
+        @Override
+        public String getDescription() {
+            return "Prometheus scrape";
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            Enumeration<MetricFamilySamples> samples = this.collectorRegistry
+                    .metricFamilySamples();
+            if (!CollectionUtils.isEmpty(this.includedNames)) {
+                samples = new FilteredMetricFamilySamples(samples, this.includedNames);
+            }
+            return new ExpositionInputStream(samples);
+        }
+
+    }
+
+    /**
+     * {@link Enumeration} that only returns the samples whose name, or whose family
+     * name, is included.
+     */
+    private static final class FilteredMetricFamilySamples
+            implements Enumeration<MetricFamilySamples> {
+
+        private final Enumeration<MetricFamilySamples> samples;
+
+        private final Set<String> includedNames;
+
+        private MetricFamilySamples next;
+
+        private FilteredMetricFamilySamples(Enumeration<MetricFamilySamples> samples,
+                                            Set<String> includedNames) {
+            this.samples = samples;
+            this.includedNames = includedNames;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            while (this.next == null && this.samples.hasMoreElements()) {
+                this.next = filter(this.samples.nextElement());
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public MetricFamilySamples nextElement() {
+            if (!hasMoreElements()) {
+                throw new NoSuchElementException();
+            }
+            MetricFamilySamples next = this.next;
+            this.next = null;
+            return next;
+        }
+
+        private MetricFamilySamples filter(MetricFamilySamples family) {
+            if (this.includedNames.contains(family.name)) {
+                return family;
+            }
+            List<Sample> samples = family.samples.stream()
+                    .filter((sample) -> this.includedNames.contains(sample.name))
+                    .collect(Collectors.toList());
+            if (samples.isEmpty()) {
+                return null;
+            }
+            return new MetricFamilySamples(family.name, family.type, family.help,
+                    samples);
+        }
+
+    }
+
+    /**
+     * {@link InputStream} that renders one metric family at a time into a buffer that
+     * is reused for the whole exposition.
+     */
+    private static final class ExpositionInputStream
+            extends ChunkedResourceInputStream {
+
+        private final Enumeration<MetricFamilySamples> samples;
+
+        private final Writer writer = new OutputStreamWriter(getBuffer(),
+                StandardCharsets.UTF_8);
+
+        private ExpositionInputStream(Enumeration<MetricFamilySamples> samples) {
+            super(8192);
+            this.samples = samples;
+        }
+
+        @Override
+        protected boolean writeNextChunk() throws IOException {
+            if (!this.samples.hasMoreElements()) {
+                return false;
+            }
+            TextFormat.write004(this.writer, Collections
+                    .enumeration(Collections.singleton(this.samples.nextElement())));
+            this.writer.flush();
+            return true;
+        }
+
     }
 
 }
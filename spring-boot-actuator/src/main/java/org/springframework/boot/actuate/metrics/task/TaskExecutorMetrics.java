@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A {@link MeterBinder} for a {@link ThreadPoolExecutor}, such as the one that backs a
+ * {@code ThreadPoolTaskExecutor} or {@code ThreadPoolTaskScheduler}. Records the
+ * standard executor metrics (active, queued, completed and pool size) along with the
+ * number of rejected tasks. Rejections are counted by wrapping the executor's
+ * {@link RejectedExecutionHandler}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class TaskExecutorMetrics implements MeterBinder {
+
+    private final ThreadPoolExecutor executor;
+
+    private final String name;
+
+    private final Iterable<Tag> tags;
+
+    /**
+     * Create a new meter binder recording the given executor.
+     *
+     * @param executor the executor to instrument
+     * @param name     the name of the executor, used as the {@code name} tag
+     * @param tags     additional tags to apply to all recorded metrics
+     */
+    public TaskExecutorMetrics(ThreadPoolExecutor executor, String name,
+                               Iterable<Tag> tags) {
+        Assert.notNull(executor, "Executor must not be null");
+        Assert.notNull(name, "Name must not be null");
+        this.executor = executor;
+        this.name = name;
+        this.tags = (tags != null ? tags : Collections.emptyList());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(this.executor, this.name, this.tags).bindTo(registry);
+        Counter rejected = Counter.builder("executor.rejected")
+                .tags(Tags.concat(this.tags, "name", this.name))
+                .description("The number of tasks that were rejected by the executor")
+                .register(registry);
+        this.executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(
+                this.executor.getRejectedExecutionHandler(), rejected));
+    }
+
+    /**
+     * {@link RejectedExecutionHandler} that counts rejections before delegating.
+     */
+    private static final class CountingRejectedExecutionHandler
+            implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler delegate;
+
+        private final Counter counter;
+
+        private CountingRejectedExecutionHandler(RejectedExecutionHandler delegate,
+                                                 Counter counter) {
+            this.delegate = delegate;
+            this.counter = counter;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            this.counter.increment();
+            this.delegate.rejectedExecution(task, executor);
+        }
+
+    }
+
+}
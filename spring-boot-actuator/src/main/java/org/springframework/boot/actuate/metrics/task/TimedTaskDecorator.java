@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+
+/**
+ * {@link TaskDecorator} that records the execution time of each task in a {@link Timer}
+ * named {@code executor}, tagged with the name of the executor.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class TimedTaskDecorator implements TaskDecorator {
+
+    private final Timer timer;
+
+    /**
+     * Create a new decorator that records tasks in the given registry.
+     *
+     * @param registry the registry
+     * @param name     the name of the executor, used as the {@code name} tag
+     * @param tags     additional tags to apply to the timer
+     */
+    public TimedTaskDecorator(MeterRegistry registry, String name, Iterable<Tag> tags) {
+        Assert.notNull(registry, "Registry must not be null");
+        Assert.notNull(name, "Name must not be null");
+        Iterable<Tag> timerTags = (tags != null ? tags : Collections.emptyList());
+        this.timer = Timer.builder("executor")
+                .tags(Tags.concat(timerTags, "name", name))
+                .description("Time taken to execute tasks").register(registry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return this.timer.wrap(runnable);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link MeterBinder} for the connection pool of an Apache HttpClient, typically a
+ * {@code PoolingHttpClientConnectionManager}. Reports the number of leased, pending and
+ * available connections along with the pool's limits.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class HttpClientConnectionPoolMetrics implements MeterBinder {
+
+    private final ConnPoolControl<?> pool;
+
+    private final String name;
+
+    private final Iterable<Tag> tags;
+
+    /**
+     * Create a new meter binder recording the given connection pool.
+     *
+     * @param pool the connection pool
+     * @param name the name prefix of the metrics
+     * @param tags tags to apply to all recorded metrics
+     */
+    public HttpClientConnectionPoolMetrics(ConnPoolControl<?> pool, String name,
+                                           Iterable<Tag> tags) {
+        Assert.notNull(pool, "Pool must not be null");
+        Assert.notNull(name, "Name must not be null");
+        this.pool = pool;
+        this.name = name;
+        this.tags = (tags != null ? tags : Collections.emptyList());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindConnections(registry, "leased", PoolStats::getLeased);
+        bindConnections(registry, "available", PoolStats::getAvailable);
+        Gauge.builder(this.name + ".pending", this.pool,
+                (pool) -> pool.getTotalStats().getPending()).tags(this.tags)
+                .description("Number of connection requests waiting for a connection")
+                .register(registry);
+        Gauge.builder(this.name + ".max", this.pool, ConnPoolControl::getMaxTotal)
+                .tags(this.tags)
+                .description("Maximum number of connections in the pool")
+                .register(registry);
+        Gauge.builder(this.name + ".route.max", this.pool,
+                ConnPoolControl::getDefaultMaxPerRoute).tags(this.tags)
+                .description("Default maximum number of connections per route")
+                .register(registry);
+    }
+
+    private void bindConnections(MeterRegistry registry, String state,
+                                 ToIntFunction<PoolStats> function) {
+        Gauge.builder(this.name + ".connections", this.pool,
+                (pool) -> function.applyAsInt(pool.getTotalStats()))
+                .tags(Tags.concat(this.tags, "state", state))
+                .description("Number of connections in the pool by state")
+                .register(registry);
+    }
+
+}
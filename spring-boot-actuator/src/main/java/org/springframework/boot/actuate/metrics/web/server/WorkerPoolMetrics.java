@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.actuate.metrics.web.server;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.web.context.WebServerWorkerPoolMonitor;
+import org.springframework.boot.web.server.WorkerPool;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link MeterBinder} for the {@link WorkerPool} of an embedded web server. Values
+ * that the web server does not expose, or that are not available before the server has
+ * started, are reported as {@code NaN}. Binding enables queue wait sampling on the
+ * monitor.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class WorkerPoolMetrics implements MeterBinder {
+
+    private final WebServerWorkerPoolMonitor monitor;
+
+    private final String name;
+
+    private final Iterable<Tag> tags;
+
+    /**
+     * Create a new meter binder recording the pool monitored by the given
+     * {@link WebServerWorkerPoolMonitor}.
+     *
+     * @param monitor the worker pool monitor
+     * @param name    the name prefix of the metrics
+     * @param tags    tags to apply to all recorded metrics
+     */
+    public WorkerPoolMetrics(WebServerWorkerPoolMonitor monitor, String name,
+                             Iterable<Tag> tags) {
+        Assert.notNull(monitor, "Monitor must not be null");
+        Assert.notNull(name, "Name must not be null");
+        this.monitor = monitor;
+        this.name = name;
+        this.tags = (tags != null ? tags : Collections.emptyList());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.monitor.enableQueueWaitSampling();
+        bindPool(registry, "threads.min", WorkerPool::getMinThreads);
+        bindPool(registry, "threads.max", WorkerPool::getMaxThreads);
+        bindPool(registry, "threads.current", WorkerPool::getThreads);
+        bindPool(registry, "threads.busy", WorkerPool::getBusyThreads);
+        bindPool(registry, "queue.size", WorkerPool::getQueueSize);
+        bindPool(registry, "accept.backlog.configured",
+                WorkerPool::getConfiguredAcceptBacklog);
+        FunctionTimer.builder(this.name + ".queue.wait", this.monitor,
+                WebServerWorkerPoolMonitor::getQueueWaitCount,
+                (monitor) -> monitor.getQueueWaitTotalTime(TimeUnit.NANOSECONDS),
+                TimeUnit.NANOSECONDS).tags(this.tags)
+                .description("Sampled time spent waiting for a worker thread")
+                .register(registry);
+    }
+
+    private void bindPool(MeterRegistry registry, String name,
+                          ToIntFunction<WorkerPool> function) {
+        registry.gauge(this.name + "." + name, this.tags, this.monitor,
+                (monitor) -> getValue(monitor.getWorkerPool(), function));
+    }
+
+    private double getValue(WorkerPool workerPool, ToIntFunction<WorkerPool> function) {
+        if (workerPool == null) {
+            return Double.NaN;
+        }
+        int value = function.applyAsInt(workerPool);
+        return (value >= 0 ? value : Double.NaN);
+    }
+
+}
@@ -19,36 +19,49 @@ package org.springframework.boot.actuate.web.mappings;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * {@link Endpoint} to expose HTTP request mappings.
+ * {@link Endpoint} to expose HTTP request mappings. The mappings of each context are
+ * described once and then cached until the next {@link ApplicationContextEvent}, for
+ * example the context being refreshed.
  *
  * @author Andy Wilkinson
  * @since 2.0.0
  */
 @Endpoint(id = "mappings")
-public class MappingsEndpoint {
+public class MappingsEndpoint implements ApplicationListener<ApplicationContextEvent> {
 
     private final Collection<MappingDescriptionProvider> descriptionProviders;
 
     private final ApplicationContext context;
 
+    private final Map<ApplicationContext, ContextMappings> cache = new ConcurrentReferenceHashMap<>();
+
     public MappingsEndpoint(Collection<MappingDescriptionProvider> descriptionProviders,
                             ApplicationContext context) {
         this.descriptionProviders = descriptionProviders;
         this.context = context;
     }
 
+    @Override
+    public void onApplicationEvent(ApplicationContextEvent event) {
+        this.cache.clear();
+    }
+
     @ReadOperation
     public ApplicationMappings mappings() {
         ApplicationContext target = this.context;
         Map<String, ContextMappings> contextMappings = new HashMap<>();
         while (target != null) {
-            contextMappings.put(target.getId(), mappingsForContext(target));
+            contextMappings.put(target.getId(),
+                    this.cache.computeIfAbsent(target, this::mappingsForContext));
             target = target.getParent();
         }
         return new ApplicationMappings(contextMappings);
@@ -20,6 +20,7 @@ import org.springframework.http.HttpHeaders;
 
 import java.net.URI;
 import java.security.Principal;
+import java.time.Instant;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -56,6 +57,19 @@ public class HttpExchangeTracer {
         return new HttpTrace(new FilteredTraceableRequest(request));
     }
 
+    /**
+     * Begins the tracing of an exchange whose {@code request} was received at the given
+     * {@code timestamp}. Allows the trace to be created only once the exchange is known
+     * to be {@link HttpTraceSampler sampled}.
+     *
+     * @param request   the received request
+     * @param timestamp the time at which the request was received
+     * @return the HTTP trace for the exchange
+     */
+    public final HttpTrace receivedRequest(TraceableRequest request, Instant timestamp) {
+        return new HttpTrace(new FilteredTraceableRequest(request), timestamp);
+    }
+
     /**
      * Ends the tracing of the exchange that is being concluded by sending the given
      * {@code response}.
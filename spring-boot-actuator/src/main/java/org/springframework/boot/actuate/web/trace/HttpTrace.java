@@ -33,7 +33,7 @@ import java.util.Map;
  */
 public final class HttpTrace {
 
-    private final Instant timestamp = Instant.now();
+    private final Instant timestamp;
     private final Request request;
     private volatile Principal principal;
     private volatile Session session;
@@ -42,6 +42,11 @@ public final class HttpTrace {
     private volatile Long timeTaken;
 
     HttpTrace(TraceableRequest request) {
+        this(request, Instant.now());
+    }
+
+    HttpTrace(TraceableRequest request, Instant timestamp) {
+        this.timestamp = timestamp;
         this.request = new Request(request);
     }
 
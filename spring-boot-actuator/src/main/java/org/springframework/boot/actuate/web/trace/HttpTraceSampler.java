@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.web.trace;
+
+/**
+ * Strategy used to decide whether an HTTP exchange should be traced. Consulted once the
+ * response status and the time taken are known, but before a {@link HttpTrace} is
+ * created and any request or response headers are copied.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ * @see RuleBasedHttpTraceSampler
+ */
+@FunctionalInterface
+public interface HttpTraceSampler {
+
+    /**
+     * A sampler that traces every exchange.
+     */
+    HttpTraceSampler ALWAYS = (request, status, timeTaken) -> true;
+
+    /**
+     * Returns whether the exchange should be traced.
+     *
+     * @param request   the received request
+     * @param status    the status of the response
+     * @param timeTaken the time taken to handle the exchange in milliseconds
+     * @return {@code true} if the exchange should be traced
+     */
+    boolean isSampled(TraceableRequest request, int status, long timeTaken);
+
+}
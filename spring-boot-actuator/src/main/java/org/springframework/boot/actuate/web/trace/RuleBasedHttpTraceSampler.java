@@ -0,0 +1,187 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.web.trace;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.PathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpTraceSampler} that samples exchanges using an ordered list of
+ * {@link Rule rules}. The first rule that matches the exchange's path, status and time
+ * taken decides whether it is sampled. Exchanges that match no rule are sampled with a
+ * default probability.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class RuleBasedHttpTraceSampler implements HttpTraceSampler {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final double probability;
+
+    private final List<Rule> rules;
+
+    /**
+     * Create a new {@link RuleBasedHttpTraceSampler} instance.
+     *
+     * @param probability the probability with which exchanges that match no rule are
+     *                    sampled
+     * @param rules       the rules, in the order in which they are consulted
+     */
+    public RuleBasedHttpTraceSampler(double probability, List<Rule> rules) {
+        Assert.isTrue(probability >= 0 && probability <= 1,
+                "Probability must be between 0 and 1");
+        Assert.notNull(rules, "Rules must not be null");
+        this.probability = probability;
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+    }
+
+    @Override
+    public boolean isSampled(TraceableRequest request, int status, long timeTaken) {
+        String path = null;
+        for (Rule rule : this.rules) {
+            if (rule.pattern != null && path == null) {
+                path = getPath(request);
+            }
+            if (rule.matches(path, status, timeTaken)) {
+                return rule.sample();
+            }
+        }
+        return sample(this.probability);
+    }
+
+    private String getPath(TraceableRequest request) {
+        String path = request.getUri().getPath();
+        return path == null ? "" : path;
+    }
+
+    private static boolean sample(double probability) {
+        if (probability >= 1) {
+            return true;
+        }
+        return probability > 0 && ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    /**
+     * A sampling rule. Criteria that are {@code null} or empty match every exchange.
+     */
+    public static final class Rule {
+
+        private final String pattern;
+
+        private final Set<HttpStatus.Series> series;
+
+        private final long minTimeTaken;
+
+        private final double probability;
+
+        private final RateLimiter rateLimiter;
+
+        /**
+         * Create a new {@link Rule}.
+         *
+         * @param pattern      the Ant-style path pattern to match or {@code null}
+         * @param series       the status classes to match or {@code null}
+         * @param minTimeTaken the minimum time taken to match or {@code null}
+         * @param probability  the probability with which matching exchanges are sampled
+         * @param rateLimit    the maximum number of matching exchanges that are sampled
+         *                     per second or {@code null} for no limit
+         */
+        public Rule(String pattern, Set<HttpStatus.Series> series, Duration minTimeTaken,
+                    double probability, Integer rateLimit) {
+            Assert.isTrue(probability >= 0 && probability <= 1,
+                    "Probability must be between 0 and 1");
+            Assert.isTrue(rateLimit == null || rateLimit >= 0,
+                    "Rate limit must not be negative");
+            this.pattern = pattern;
+            this.series = (series == null || series.isEmpty()) ? null
+                    : EnumSet.copyOf(series);
+            this.minTimeTaken = minTimeTaken == null ? 0 : minTimeTaken.toMillis();
+            this.probability = probability;
+            this.rateLimiter = rateLimit == null ? null : new RateLimiter(rateLimit);
+        }
+
+        private boolean matches(String path, int status, long timeTaken) {
+            return timeTaken >= this.minTimeTaken && matchesStatus(status)
+                    && (this.pattern == null || PATH_MATCHER.match(this.pattern, path));
+        }
+
+        private boolean matchesStatus(int status) {
+            if (this.series == null) {
+                return true;
+            }
+            for (HttpStatus.Series candidate : this.series) {
+                if (candidate.value() == status / 100) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean sample() {
+            return RuleBasedHttpTraceSampler.sample(this.probability)
+                    && (this.rateLimiter == null || this.rateLimiter.tryAcquire());
+        }
+
+    }
+
+    /**
+     * Token bucket that allows up to a given number of permits per second.
+     */
+    private static final class RateLimiter {
+
+        private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+        private final int permitsPerSecond;
+
+        private double permits;
+
+        private long lastRefill = System.nanoTime();
+
+        private RateLimiter(int permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.permits = permitsPerSecond;
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            long elapsed = now - this.lastRefill;
+            this.lastRefill = now;
+            this.permits = Math.min(this.permitsPerSecond, this.permits
+                    + ((double) elapsed * this.permitsPerSecond / NANOS_PER_SECOND));
+            if (this.permits < 1) {
+                return false;
+            }
+            this.permits--;
+            return true;
+        }
+
+    }
+
+}
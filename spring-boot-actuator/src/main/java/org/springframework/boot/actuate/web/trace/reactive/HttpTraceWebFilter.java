@@ -19,6 +19,7 @@ package org.springframework.boot.actuate.web.trace.reactive;
 import org.springframework.boot.actuate.web.trace.HttpExchangeTracer;
 import org.springframework.boot.actuate.web.trace.HttpTrace;
 import org.springframework.boot.actuate.web.trace.HttpTraceRepository;
+import org.springframework.boot.actuate.web.trace.HttpTraceSampler;
 import org.springframework.boot.actuate.web.trace.Include;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
@@ -28,6 +29,7 @@ import org.springframework.web.server.*;
 import reactor.core.publisher.Mono;
 
 import java.security.Principal;
+import java.time.Instant;
 import java.util.Set;
 
 /**
@@ -42,15 +44,22 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
     private final HttpTraceRepository repository;
     private final HttpExchangeTracer tracer;
     private final Set<Include> includes;
+    private final HttpTraceSampler sampler;
     // Not LOWEST_PRECEDENCE, but near the end, so it has a good chance of catching all
     // enriched headers, but users can add stuff after this if they want to
     private int order = Ordered.LOWEST_PRECEDENCE - 10;
 
     public HttpTraceWebFilter(HttpTraceRepository repository, HttpExchangeTracer tracer,
                               Set<Include> includes) {
+        this(repository, tracer, includes, HttpTraceSampler.ALWAYS);
+    }
+
+    public HttpTraceWebFilter(HttpTraceRepository repository, HttpExchangeTracer tracer,
+                              Set<Include> includes, HttpTraceSampler sampler) {
         this.repository = repository;
         this.tracer = tracer;
         this.includes = includes;
+        this.sampler = sampler;
     }
 
     @Override
@@ -84,16 +93,21 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
 
     private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain,
                               Principal principal, WebSession session) {
-        ServerWebExchangeTraceableRequest request = new ServerWebExchangeTraceableRequest(
-                exchange);
-        HttpTrace trace = this.tracer.receivedRequest(request);
+        Instant timestamp = Instant.now();
         return chain.filter(exchange).doAfterSuccessOrError((aVoid, ex) -> {
-            this.tracer.sendingResponse(trace,
-                    new TraceableServerHttpResponse(ex == null ? exchange.getResponse()
+            TraceableServerHttpResponse response = new TraceableServerHttpResponse(
+                    ex == null ? exchange.getResponse()
                             : new CustomStatusResponseDecorator(ex,
-                            exchange.getResponse())),
-                    () -> principal, () -> getStartedSessionId(session));
-            this.repository.add(trace);
+                            exchange.getResponse()));
+            ServerWebExchangeTraceableRequest request = new ServerWebExchangeTraceableRequest(
+                    exchange);
+            long timeTaken = System.currentTimeMillis() - timestamp.toEpochMilli();
+            if (this.sampler.isSampled(request, response.getStatus(), timeTaken)) {
+                HttpTrace trace = this.tracer.receivedRequest(request, timestamp);
+                this.tracer.sendingResponse(trace, response, () -> principal,
+                        () -> getStartedSessionId(session));
+                this.repository.add(trace);
+            }
         });
     }
 
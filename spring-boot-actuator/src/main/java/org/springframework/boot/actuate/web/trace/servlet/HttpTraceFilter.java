@@ -19,6 +19,7 @@ package org.springframework.boot.actuate.web.trace.servlet;
 import org.springframework.boot.actuate.web.trace.HttpExchangeTracer;
 import org.springframework.boot.actuate.web.trace.HttpTrace;
 import org.springframework.boot.actuate.web.trace.HttpTraceRepository;
+import org.springframework.boot.actuate.web.trace.HttpTraceSampler;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -31,6 +32,7 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
+import java.time.Instant;
 
 /**
  * Servlet {@link Filter} that logs all requests to an {@link HttpTraceRepository}.
@@ -46,6 +48,7 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
 
     private final HttpTraceRepository repository;
     private final HttpExchangeTracer tracer;
+    private final HttpTraceSampler sampler;
     // Not LOWEST_PRECEDENCE, but near the end, so it has a good chance of catching all
     // enriched headers, but users can add stuff after this if they want to
     private int order = Ordered.LOWEST_PRECEDENCE - 10;
@@ -57,8 +60,22 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
      * @param tracer     used to trace exchanges
      */
     public HttpTraceFilter(HttpTraceRepository repository, HttpExchangeTracer tracer) {
+        this(repository, tracer, HttpTraceSampler.ALWAYS);
+    }
+
+    /**
+     * Create a new {@link HttpTraceFilter} instance that only traces the exchanges that
+     * are accepted by the given {@code sampler}.
+     *
+     * @param repository the trace repository
+     * @param tracer     used to trace exchanges
+     * @param sampler    used to decide which exchanges are traced
+     */
+    public HttpTraceFilter(HttpTraceRepository repository, HttpExchangeTracer tracer,
+                           HttpTraceSampler sampler) {
         this.repository = repository;
         this.tracer = tracer;
+        this.sampler = sampler;
     }
 
     @Override
@@ -74,20 +91,25 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        TraceableHttpServletRequest traceableRequest = new TraceableHttpServletRequest(
-                request);
-        HttpTrace trace = this.tracer.receivedRequest(traceableRequest);
+        Instant timestamp = Instant.now();
         int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
         try {
             filterChain.doFilter(request, response);
             status = response.getStatus();
         } finally {
-            TraceableHttpServletResponse traceableResponse = new TraceableHttpServletResponse(
-                    status == response.getStatus() ? response
-                            : new CustomStatusResponseWrapper(response, status));
-            this.tracer.sendingResponse(trace, traceableResponse,
-                    request::getUserPrincipal, () -> getSessionId(request));
-            this.repository.add(trace);
+            TraceableHttpServletRequest traceableRequest = new TraceableHttpServletRequest(
+                    request);
+            long timeTaken = System.currentTimeMillis() - timestamp.toEpochMilli();
+            if (this.sampler.isSampled(traceableRequest, status, timeTaken)) {
+                HttpTrace trace = this.tracer.receivedRequest(traceableRequest,
+                        timestamp);
+                TraceableHttpServletResponse traceableResponse = new TraceableHttpServletResponse(
+                        status == response.getStatus() ? response
+                                : new CustomStatusResponseWrapper(response, status));
+                this.tracer.sendingResponse(trace, traceableResponse,
+                        request::getUserPrincipal, () -> getSessionId(request));
+                this.repository.add(trace);
+            }
         }
     }
 
@@ -91,6 +91,24 @@ public class BeansEndpointTests {
         });
     }
 
+    @Test
+    public void contextBeansAreReusedUntilSingletonsChange() {
+        ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withUserConfiguration(EndpointConfiguration.class,
+                        LazyBeanConfiguration.class);
+        contextRunner.run((context) -> {
+            BeansEndpoint endpoint = context.getBean(BeansEndpoint.class);
+            ContextBeans first = endpoint.beans().getContexts().get(context.getId());
+            assertThat(endpoint.beans().getContexts().get(context.getId()))
+                    .isSameAs(first);
+            context.getBean("lazyBean");
+            ContextBeans afterLazyBean = endpoint.beans().getContexts()
+                    .get(context.getId());
+            assertThat(afterLazyBean).isNotSameAs(first);
+            assertThat(afterLazyBean.getBeans()).containsKey("lazyBean");
+        });
+    }
+
     @Test
     public void beansInParentContextAreFound() {
         ApplicationContextRunner parentRunner = new ApplicationContextRunner()
@@ -158,6 +158,38 @@ public class ConfigurationPropertiesReportEndpointTests {
         load(Collections.emptyList(), properties);
     }
 
+    @Test
+    public void reportReflectsChangesToBoundValues() {
+        new ApplicationContextRunner().withUserConfiguration(Config.class)
+                .run((context) -> {
+                    ConfigurationPropertiesReportEndpoint endpoint = context
+                            .getBean(ConfigurationPropertiesReportEndpoint.class);
+                    assertThat(endpoint.configurationProperties().getContexts()
+                            .get(context.getId()).getBeans().get("testProperties")
+                            .getProperties().get("myTestProperty")).isEqualTo("654321");
+                    context.getBean(TestProperties.class).setMyTestProperty("123456");
+                    assertThat(endpoint.configurationProperties().getContexts()
+                            .get(context.getId()).getBeans().get("testProperties")
+                            .getProperties().get("myTestProperty")).isEqualTo("123456");
+                });
+    }
+
+    @Test
+    public void reportIsRebuiltWhenKeysToSanitizeChange() {
+        new ApplicationContextRunner().withUserConfiguration(Config.class)
+                .run((context) -> {
+                    ConfigurationPropertiesReportEndpoint endpoint = context
+                            .getBean(ConfigurationPropertiesReportEndpoint.class);
+                    assertThat(endpoint.configurationProperties().getContexts()
+                            .get(context.getId()).getBeans().get("testProperties")
+                            .getProperties().get("myTestProperty")).isEqualTo("654321");
+                    endpoint.setKeysToSanitize("property");
+                    assertThat(endpoint.configurationProperties().getContexts()
+                            .get(context.getId()).getBeans().get("testProperties")
+                            .getProperties().get("myTestProperty")).isEqualTo("******");
+                });
+    }
+
     private void load(String keyToSanitize,
                       BiConsumer<ApplicationContext, ContextConfigurationProperties> properties) {
         load(Collections.singletonList(keyToSanitize), properties);
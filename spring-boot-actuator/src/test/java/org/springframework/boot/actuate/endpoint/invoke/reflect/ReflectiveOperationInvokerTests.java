@@ -23,12 +23,16 @@ import org.junit.rules.ExpectedException;
 import org.springframework.boot.actuate.endpoint.OperationType;
 import org.springframework.boot.actuate.endpoint.invoke.MissingParametersException;
 import org.springframework.boot.actuate.endpoint.invoke.ParameterValueMapper;
+import org.springframework.boot.actuate.endpoint.invoke.reflect.example.PackagePrivateEndpoint;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 
 /**
  * Tests for {@link ReflectiveOperationInvoker}.
@@ -112,6 +116,55 @@ public class ReflectiveOperationInvokerTests {
         assertThat(result).isEqualTo("4321");
     }
 
+    @Test
+    public void invokeWhenMethodThrowsRuntimeExceptionShouldPropagateException() {
+        ReflectiveOperationInvoker invoker = createInvoker("fail", String.class);
+        this.thrown.expect(IllegalStateException.class);
+        this.thrown.expectMessage("boot");
+        invoker.invoke(Collections.singletonMap("name", "boot"));
+    }
+
+    @Test
+    public void invokeWhenMethodThrowsCheckedExceptionShouldThrowUndeclaredThrowableException() {
+        ReflectiveOperationInvoker invoker = createInvoker("failChecked", String.class);
+        this.thrown.expect(UndeclaredThrowableException.class);
+        this.thrown.expectCause(instanceOf(IOException.class));
+        invoker.invoke(Collections.singletonMap("name", "boot"));
+    }
+
+    @Test
+    public void invokeWhenMethodReturnsVoidShouldReturnNull() {
+        ReflectiveOperationInvoker invoker = createInvoker("consume", String.class);
+        assertThat(invoker.invoke(Collections.singletonMap("name", "boot"))).isNull();
+    }
+
+    @Test
+    public void invokeWhenMethodReturnsPrimitiveShouldReturnBoxedValue() {
+        ReflectiveOperationInvoker invoker = createInvoker("length", String.class);
+        assertThat(invoker.invoke(Collections.singletonMap("name", "boot"))).isEqualTo(4);
+    }
+
+    @Test
+    public void invokeWhenMethodIsPackagePrivateInAnotherPackageShouldInvokeMethod() {
+        Object target = PackagePrivateEndpoint.create();
+        OperationMethod operationMethod = new OperationMethod(ReflectionUtils
+                .findMethod(target.getClass(), "greet", String.class),
+                OperationType.READ);
+        ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(target,
+                operationMethod, this.parameterValueMapper);
+        assertThat(invoker.invoke(Collections.singletonMap("name", "boot")))
+                .isEqualTo("Hello boot");
+    }
+
+    private ReflectiveOperationInvoker createInvoker(String methodName,
+                                                     Class<?>... parameterTypes) {
+        OperationMethod operationMethod = new OperationMethod(
+                ReflectionUtils.findMethod(Example.class, methodName, parameterTypes),
+                OperationType.READ);
+        return new ReflectiveOperationInvoker(this.target, operationMethod,
+                this.parameterValueMapper);
+    }
+
     static class Example {
 
         String reverse(String name) {
@@ -122,6 +175,21 @@ public class ReflectiveOperationInvokerTests {
             return new StringBuilder(String.valueOf(name)).reverse().toString();
         }
 
+        String fail(String name) {
+            throw new IllegalStateException(name);
+        }
+
+        String failChecked(String name) throws IOException {
+            throw new IOException(name);
+        }
+
+        void consume(String name) {
+        }
+
+        int length(String name) {
+            return name.length();
+        }
+
     }
 
 }
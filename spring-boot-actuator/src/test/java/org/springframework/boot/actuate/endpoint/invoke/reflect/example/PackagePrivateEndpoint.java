@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint.invoke.reflect.example;
+
+/**
+ * Factory for an endpoint whose type and operation are package-private and declared
+ * outside of the package of the invoker.
+ *
+ * @author agent (agent@local)
+ */
+public final class PackagePrivateEndpoint {
+
+    private PackagePrivateEndpoint() {
+    }
+
+    public static Object create() {
+        return new Example();
+    }
+
+    static class Example {
+
+        String greet(String name) {
+            return "Hello " + name;
+        }
+
+    }
+
+}
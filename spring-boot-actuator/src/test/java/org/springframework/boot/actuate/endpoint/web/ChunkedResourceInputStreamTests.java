@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint.web;
+
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ChunkedResourceInputStream}.
+ *
+ * @author agent (agent@local)
+ */
+public class ChunkedResourceInputStreamTests {
+
+    @Test
+    public void readsAllChunksInOrder() throws IOException {
+        ChunkedResourceInputStream inputStream = new TestInputStream("alpha", "",
+                "beta", "gamma");
+        assertThat(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8))
+                .isEqualTo("alphabetagamma");
+    }
+
+    @Test
+    public void singleByteReadsSpanChunks() throws IOException {
+        ChunkedResourceInputStream inputStream = new TestInputStream("a", "b");
+        assertThat(inputStream.read()).isEqualTo('a');
+        assertThat(inputStream.read()).isEqualTo('b');
+        assertThat(inputStream.read()).isEqualTo(-1);
+    }
+
+    @Test
+    public void bufferedReadIsLimitedToCurrentChunk() throws IOException {
+        ChunkedResourceInputStream inputStream = new TestInputStream("abc", "de");
+        byte[] bytes = new byte[8];
+        assertThat(inputStream.read(bytes, 0, 8)).isEqualTo(3);
+        assertThat(inputStream.read(bytes, 3, 5)).isEqualTo(2);
+        assertThat(new String(bytes, 0, 5, StandardCharsets.UTF_8)).isEqualTo("abcde");
+        assertThat(inputStream.read(bytes, 0, 8)).isEqualTo(-1);
+    }
+
+    @Test
+    public void emptyContent() throws IOException {
+        assertThat(new TestInputStream().read()).isEqualTo(-1);
+    }
+
+    private static class TestInputStream extends ChunkedResourceInputStream {
+
+        private final Iterator<String> chunks;
+
+        TestInputStream(String... chunks) {
+            super(4);
+            this.chunks = Arrays.asList(chunks).iterator();
+        }
+
+        @Override
+        protected boolean writeNextChunk() throws IOException {
+            if (!this.chunks.hasNext()) {
+                return false;
+            }
+            getBuffer().write(this.chunks.next().getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+
+    }
+
+}
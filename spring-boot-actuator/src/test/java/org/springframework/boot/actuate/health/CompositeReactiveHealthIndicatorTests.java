@@ -78,6 +78,18 @@ public class CompositeReactiveHealthIndicatorTests {
         }).verifyComplete();
     }
 
+    @Test
+    public void indicatorTimeoutTakesPrecedence() {
+        this.indicator.addHealthIndicator("slow", new TimeoutHealth(10000, Status.UP))
+                .addHealthIndicator("fast", new TimeoutHealth(10, Status.UP))
+                .timeoutStrategy(20000, UNKNOWN_HEALTH).timeoutStrategy("slow", 100);
+        StepVerifier.create(this.indicator.health()).consumeNextWith((h) -> {
+            assertThat(h.getDetails()).containsOnlyKeys("slow", "fast");
+            assertThat(h.getDetails().get("slow")).isEqualTo(UNKNOWN_HEALTH);
+            assertThat(h.getDetails().get("fast")).isEqualTo(HEALTHY);
+        }).verifyComplete();
+    }
+
     @Test
     public void timeoutNotReached() {
         this.indicator.addHealthIndicator("slow", new TimeoutHealth(10000, Status.UP))
@@ -17,6 +17,8 @@
 package org.springframework.boot.actuate.health;
 
 import org.junit.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import static org.mockito.BDDMockito.given;
@@ -61,4 +63,21 @@ public class HealthIndicatorReactiveAdapterTests {
                 .verifyComplete();
     }
 
+    @Test
+    public void delegateRunsOnTheProvidedScheduler() {
+        Scheduler scheduler = Schedulers.newSingle("test-health");
+        try {
+            HealthIndicator delegate = () -> Health
+                    .status(Thread.currentThread().getName().startsWith("test-health")
+                            ? Status.UP : Status.DOWN)
+                    .build();
+            HealthIndicatorReactiveAdapter adapter = new HealthIndicatorReactiveAdapter(
+                    delegate, scheduler);
+            StepVerifier.create(adapter.health())
+                    .expectNext(Health.status(Status.UP).build()).verifyComplete();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
 }
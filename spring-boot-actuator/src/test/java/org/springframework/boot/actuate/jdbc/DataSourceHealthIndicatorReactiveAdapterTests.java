@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.jdbc;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicatorReactiveAdapter;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for invoking a {@link DataSourceHealthIndicator} through a
+ * {@link HealthIndicatorReactiveAdapter} from an event loop thread.
+ *
+ * @author agent (agent@local)
+ */
+public class DataSourceHealthIndicatorReactiveAdapterTests {
+
+    private final ExecutorService eventLoop = Executors
+            .newSingleThreadExecutor(new CustomizableThreadFactory("event-loop-"));
+
+    private final Scheduler blockingScheduler = Schedulers.fromExecutorService(
+            Executors.newFixedThreadPool(2,
+                    new CustomizableThreadFactory("health-indicator-")));
+
+    @After
+    public void shutdown() {
+        this.eventLoop.shutdownNow();
+        this.blockingScheduler.dispose();
+    }
+
+    @Test
+    public void eventLoopIsNotBlockedByDataSourceHealthCheck() throws Exception {
+        CountDownLatch connectionRequested = new CountDownLatch(1);
+        CountDownLatch releaseConnection = new CountDownLatch(1);
+        AtomicReference<String> connectionThread = new AtomicReference<>();
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.getConnection()).willAnswer((invocation) -> {
+            connectionThread.set(Thread.currentThread().getName());
+            connectionRequested.countDown();
+            releaseConnection.await();
+            throw new SQLException("Unavailable");
+        });
+        HealthIndicatorReactiveAdapter adapter = new HealthIndicatorReactiveAdapter(
+                new DataSourceHealthIndicator(dataSource), this.blockingScheduler);
+        CompletableFuture<Health> health = new CompletableFuture<>();
+        this.eventLoop.submit(() -> adapter.health().subscribe(health::complete,
+                health::completeExceptionally)).get(1, TimeUnit.SECONDS);
+        assertThat(connectionRequested.await(5, TimeUnit.SECONDS)).isTrue();
+        // The health check is blocked, yet the event loop can still process work
+        assertThat(this.eventLoop.submit(() -> true).get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(health).isNotDone();
+        releaseConnection.countDown();
+        assertThat(health.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.DOWN);
+        assertThat(connectionThread.get()).startsWith("health-indicator-");
+    }
+
+}
@@ -26,8 +26,12 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StreamUtils;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -82,4 +86,53 @@ public class LogFileWebEndpointTests {
                 StandardCharsets.UTF_8)).isEqualTo("--TEST--");
     }
 
+    @Test
+    public void regionResponseWithOffset() throws Exception {
+        this.environment.setProperty("logging.file", this.logFile.getAbsolutePath());
+        Resource resource = this.endpoint.logFile(2L, null, null);
+        assertThat(resource.contentLength()).isEqualTo(6);
+        assertThat(contentOf(resource)).isEqualTo("TEST--");
+    }
+
+    @Test
+    public void regionResponseWithOffsetBeyondEndOfRotatedFile() throws Exception {
+        this.environment.setProperty("logging.file", this.logFile.getAbsolutePath());
+        Resource resource = this.endpoint.logFile(100L, null, null);
+        assertThat(contentOf(resource)).isEqualTo("--TEST--");
+    }
+
+    @Test
+    public void regionResponseWithTail() throws Exception {
+        this.environment.setProperty("logging.file", this.logFile.getAbsolutePath());
+        assertThat(contentOf(this.endpoint.logFile(null, 3L, null))).isEqualTo("T--");
+        assertThat(contentOf(this.endpoint.logFile(null, 100L, null)))
+                .isEqualTo("--TEST--");
+    }
+
+    @Test
+    public void followWithNoAppendedBytesReturnsEmptyRegion() throws Exception {
+        this.environment.setProperty("logging.file", this.logFile.getAbsolutePath());
+        this.endpoint.setFollowTimeout(Duration.ofMillis(50));
+        Resource resource = this.endpoint.logFile(8L, null, true);
+        assertThat(resource.contentLength()).isEqualTo(0);
+    }
+
+    @Test
+    public void followReturnsAppendedBytes() throws Exception {
+        this.environment.setProperty("logging.file", this.logFile.getAbsolutePath());
+        this.endpoint.setFollowTimeout(Duration.ofSeconds(10));
+        CompletableFuture<Resource> follow = CompletableFuture
+                .supplyAsync(() -> this.endpoint.logFile(8L, null, true));
+        Thread.sleep(100);
+        try (OutputStream output = new FileOutputStream(this.logFile, true)) {
+            output.write("--MORE--".getBytes());
+        }
+        assertThat(contentOf(follow.get())).isEqualTo("--MORE--");
+    }
+
+    private String contentOf(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(),
+                StandardCharsets.UTF_8);
+    }
+
 }
@@ -70,6 +70,14 @@ public class LogFileWebEndpointWebIntegrationTests {
                 .expectBody(String.class).isEqualTo("--TEST--");
     }
 
+    @Test
+    public void getRequestWithOffsetProducesResponseWithRegionOfLogFile() {
+        TestPropertyValues.of("logging.file:" + this.logFile.getAbsolutePath())
+                .applyTo(context);
+        client.get().uri("/actuator/logfile?offset=2").exchange().expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("TEST--");
+    }
+
     @Configuration
     static class TestConfiguration {
 
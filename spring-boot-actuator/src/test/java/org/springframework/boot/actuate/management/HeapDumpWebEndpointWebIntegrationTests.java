@@ -27,10 +27,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -71,6 +75,19 @@ public class HeapDumpWebEndpointWebIntegrationTests {
         assertHeapDumpFileIsDeleted();
     }
 
+    @Test
+    public void getRequestWithCompressShouldReturnGzippedHeapDumpInResponseBody()
+            throws Exception {
+        byte[] body = client.get().uri("/actuator/heapdump?compress=true").exchange()
+                .expectStatus().isOk().expectHeader()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM).expectBody(byte[].class)
+                .returnResult().getResponseBody();
+        assertThat(StreamUtils.copyToString(
+                new GZIPInputStream(new ByteArrayInputStream(body)),
+                StandardCharsets.UTF_8)).isEqualTo("HEAPDUMP");
+        assertHeapDumpFileIsDeleted();
+    }
+
     private void assertHeapDumpFileIsDeleted() throws InterruptedException {
         long end = System.currentTimeMillis() + 5000;
         while (System.currentTimeMillis() < end && this.endpoint.file.exists()) {
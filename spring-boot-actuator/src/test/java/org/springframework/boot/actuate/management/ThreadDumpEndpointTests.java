@@ -16,7 +16,16 @@
 
 package org.springframework.boot.actuate.management;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.management.ThreadDumpEndpoint.HotThreadDescriptor;
+import org.springframework.boot.actuate.management.ThreadDumpEndpoint.ThreadDumpDescriptor;
+
+import java.lang.management.ThreadInfo;
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,10 +37,72 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class ThreadDumpEndpointTests {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void dumpThreads() {
         assertThat(new ThreadDumpEndpoint().threadDump().getThreads().size())
                 .isGreaterThan(0);
     }
 
+    @Test
+    public void dumpThreadsWithDepthOmitsLockInfo() {
+        ThreadDumpDescriptor descriptor = new ThreadDumpEndpoint().threadDump(2, null,
+                null);
+        assertThat(descriptor.getThreads()).isNotEmpty();
+        assertThat(descriptor.getHotThreads()).isNull();
+        for (ThreadInfo thread : descriptor.getThreads()) {
+            if (thread != null) {
+                assertThat(thread.getStackTrace().length).isLessThanOrEqualTo(2);
+                assertThat(thread.getLockedMonitors()).isEmpty();
+                assertThat(thread.getLockedSynchronizers()).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    public void hotThreadsAreLimitedToTop() {
+        ThreadDumpDescriptor descriptor = new ThreadDumpEndpoint().threadDump(null, 2,
+                Duration.ofMillis(20));
+        assertThat(descriptor.getThreads()).isNull();
+        List<HotThreadDescriptor> hotThreads = descriptor.getHotThreads();
+        assertThat(hotThreads.size()).isLessThanOrEqualTo(2);
+        for (int i = 1; i < hotThreads.size(); i++) {
+            assertThat(hotThreads.get(i).getCpuTime())
+                    .isLessThanOrEqualTo(hotThreads.get(i - 1).getCpuTime());
+        }
+    }
+
+    @Test
+    public void negativeDepthIsAnInvalidRequest() {
+        this.thrown.expect(InvalidEndpointRequestException.class);
+        this.thrown.expectMessage("'depth'");
+        new ThreadDumpEndpoint().threadDump(-1, null, null);
+    }
+
+    @Test
+    public void negativeTopIsAnInvalidRequest() {
+        this.thrown.expect(InvalidEndpointRequestException.class);
+        this.thrown.expectMessage("'top'");
+        new ThreadDumpEndpoint().threadDump(null, -1, null);
+    }
+
+    @Test
+    public void negativeIntervalIsAnInvalidRequest() {
+        this.thrown.expect(InvalidEndpointRequestException.class);
+        this.thrown.expectMessage("'interval'");
+        new ThreadDumpEndpoint().threadDump(null, 1, Duration.ofSeconds(-1));
+    }
+
+    @Test
+    public void intervalIsCapped() {
+        ThreadDumpEndpoint endpoint = new ThreadDumpEndpoint();
+        assertThat(endpoint.getInterval(null)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(endpoint.getInterval(Duration.ofSeconds(5)))
+                .isEqualTo(Duration.ofSeconds(5));
+        assertThat(endpoint.getInterval(Duration.ofMinutes(5)))
+                .isEqualTo(Duration.ofSeconds(10));
+    }
+
 }
@@ -73,6 +73,29 @@ public class MetricsEndpointTests {
         assertThat(endpoint.listNames().getNames()).containsOnly("counter1", "counter2");
     }
 
+    @Test
+    public void listNamesIncludesMetersAddedAfterPreviousListing() {
+        this.registry.counter("com.example.foo");
+        assertThat(this.endpoint.listNames().getNames()).containsOnly("com.example.foo");
+        this.registry.counter("com.example.bar");
+        assertThat(this.endpoint.listNames().getNames()).containsOnly("com.example.foo",
+                "com.example.bar");
+    }
+
+    @Test
+    public void listNamesIncludesRegistriesAddedToCompositeAfterPreviousListing() {
+        CompositeMeterRegistry composite = new CompositeMeterRegistry();
+        SimpleMeterRegistry reg1 = new SimpleMeterRegistry();
+        composite.add(reg1);
+        reg1.counter("counter1");
+        MetricsEndpoint endpoint = new MetricsEndpoint(composite);
+        assertThat(endpoint.listNames().getNames()).containsOnly("counter1");
+        SimpleMeterRegistry reg2 = new SimpleMeterRegistry();
+        reg2.counter("counter2");
+        composite.add(reg2);
+        assertThat(endpoint.listNames().getNames()).containsOnly("counter1", "counter2");
+    }
+
     @Test
     public void metricValuesAreTheSumOfAllTimeSeriesMatchingTags() {
         this.registry.counter("cache", "result", "hit", "host", "1").increment(2);
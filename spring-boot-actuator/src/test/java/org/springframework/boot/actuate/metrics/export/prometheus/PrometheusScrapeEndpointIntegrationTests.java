@@ -17,6 +17,7 @@
 package org.springframework.boot.actuate.metrics.export.prometheus;
 
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.prometheus.client.CollectorRegistry;
@@ -29,6 +30,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Tests for {@link PrometheusScrapeEndpoint}.
  *
@@ -46,6 +49,24 @@ public class PrometheusScrapeEndpointIntegrationTests {
                 .contentType(MediaType.parseMediaType(TextFormat.CONTENT_TYPE_004));
     }
 
+    @Test
+    public void scrapeIncludesAllMetrics() {
+        String body = client.get().uri("/actuator/prometheus").exchange().expectStatus()
+                .isOk().expectBody(String.class).returnResult().getResponseBody();
+        assertThat(body).contains("counter1_total").contains("counter2_total")
+                .contains("gauge1");
+    }
+
+    @Test
+    public void scrapeWithIncludedNames() {
+        String body = client.get()
+                .uri("/actuator/prometheus?includedNames=counter1_total,gauge1")
+                .exchange().expectStatus().isOk().expectBody(String.class)
+                .returnResult().getResponseBody();
+        assertThat(body).contains("counter1_total").contains("gauge1")
+                .doesNotContain("counter2_total");
+    }
+
     @Configuration
     static class TestConfiguration {
 
@@ -62,7 +83,12 @@ public class PrometheusScrapeEndpointIntegrationTests {
 
         @Bean
         public MeterRegistry registry(CollectorRegistry registry) {
-            return new PrometheusMeterRegistry((k) -> null, registry, Clock.SYSTEM);
+            PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(
+                    (k) -> null, registry, Clock.SYSTEM);
+            Counter.builder("counter1").register(meterRegistry);
+            Counter.builder("counter2").register(meterRegistry);
+            meterRegistry.gauge("gauge1", 1);
+            return meterRegistry;
         }
 
     }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link TaskExecutorMetrics}.
+ *
+ * @author agent (agent@local)
+ */
+public class TaskExecutorMetricsTests {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0,
+            TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+
+    @After
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void executorIsInstrumented() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new TaskExecutorMetrics(this.executor, "test", Tags.of("env", "prod"))
+                .bindTo(registry);
+        CountDownLatch latch = new CountDownLatch(1);
+        this.executor.execute(() -> awaitQuietly(latch));
+        this.executor.execute(() -> {
+        });
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> this.executor.execute(() -> {
+                }));
+        assertThat(registry.get("executor.rejected").tags("name", "test", "env", "prod")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("executor.queued").tags("name", "test").gauge().value())
+                .isEqualTo(1);
+        assertThat(registry.get("executor.active").gauge().value()).isEqualTo(1);
+        latch.countDown();
+        this.executor.shutdown();
+        assertThat(this.executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.get("executor.completed").functionCounter().count())
+                .isEqualTo(2);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
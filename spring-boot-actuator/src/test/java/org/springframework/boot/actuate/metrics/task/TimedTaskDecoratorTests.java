@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TimedTaskDecorator}.
+ *
+ * @author agent (agent@local)
+ */
+public class TimedTaskDecoratorTests {
+
+    @Test
+    public void decoratedTaskIsTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedTaskDecorator decorator = new TimedTaskDecorator(registry, "test", null);
+        AtomicBoolean ran = new AtomicBoolean();
+        decorator.decorate(() -> ran.set(true)).run();
+        assertThat(ran).isTrue();
+        assertThat(registry.get("executor").tags("name", "test").timer().count())
+                .isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.client;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link HttpClientConnectionPoolMetrics}.
+ *
+ * @author agent (agent@local)
+ */
+public class HttpClientConnectionPoolMetricsTests {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void connectionPoolIsInstrumented() {
+        ConnPoolControl<HttpRoute> pool = mock(ConnPoolControl.class);
+        given(pool.getTotalStats()).willReturn(new PoolStats(3, 2, 5, 20));
+        given(pool.getMaxTotal()).willReturn(20);
+        given(pool.getDefaultMaxPerRoute()).willReturn(4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new HttpClientConnectionPoolMetrics(pool, "httpclient.pool",
+                Tags.of("name", "restTemplate")).bindTo(registry);
+        assertThat(registry.get("httpclient.pool.connections").tags("name",
+                "restTemplate", "state", "leased").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("httpclient.pool.connections")
+                .tags("state", "available").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("httpclient.pool.pending").gauge().value())
+                .isEqualTo(2);
+        assertThat(registry.get("httpclient.pool.max").gauge().value()).isEqualTo(20);
+        assertThat(registry.get("httpclient.pool.route.max").gauge().value())
+                .isEqualTo(4);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.actuate.metrics.web.server;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.springframework.boot.web.context.WebServerWorkerPoolMonitor;
+import org.springframework.boot.web.server.WorkerPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link WorkerPoolMetrics}.
+ *
+ * @author agent (agent@local)
+ */
+public class WorkerPoolMetricsTests {
+
+    @Test
+    public void workerPoolIsInstrumented() {
+        WebServerWorkerPoolMonitor monitor = mock(WebServerWorkerPoolMonitor.class);
+        WorkerPool workerPool = mock(WorkerPool.class);
+        given(monitor.getWorkerPool()).willReturn(workerPool);
+        given(workerPool.getMaxThreads()).willReturn(200);
+        given(workerPool.getBusyThreads()).willReturn(-1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new WorkerPoolMetrics(monitor, "server.worker", Tags.of("env", "prod"))
+                .bindTo(registry);
+        assertThat(registry.get("server.worker.threads.max").tags("env", "prod")
+                .gauge().value()).isEqualTo(200);
+        assertThat(registry.get("server.worker.threads.busy").gauge().value())
+                .isNaN();
+        assertThat(registry.get("server.worker.queue.wait").functionTimer())
+                .isNotNull();
+    }
+
+    @Test
+    public void bindingEnablesQueueWaitSampling() {
+        WebServerWorkerPoolMonitor monitor = mock(WebServerWorkerPoolMonitor.class);
+        new WorkerPoolMetrics(monitor, "server.worker", null)
+                .bindTo(new SimpleMeterRegistry());
+        verify(monitor).enableQueueWaitSampling();
+    }
+
+    @Test
+    public void configuredAcceptBacklogIsInstrumented() {
+        WebServerWorkerPoolMonitor monitor = mock(WebServerWorkerPoolMonitor.class);
+        WorkerPool workerPool = mock(WorkerPool.class);
+        given(monitor.getWorkerPool()).willReturn(workerPool);
+        given(workerPool.getConfiguredAcceptBacklog()).willReturn(100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new WorkerPoolMetrics(monitor, "server.worker", null).bindTo(registry);
+        assertThat(registry.get("server.worker.accept.backlog.configured").gauge()
+                .value()).isEqualTo(100);
+    }
+
+    @Test
+    public void gaugesAreNaNBeforeServerHasStarted() {
+        WebServerWorkerPoolMonitor monitor = mock(WebServerWorkerPoolMonitor.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new WorkerPoolMetrics(monitor, "server.worker", null).bindTo(registry);
+        assertThat(registry.get("server.worker.queue.size").gauge().value()).isNaN();
+    }
+
+}
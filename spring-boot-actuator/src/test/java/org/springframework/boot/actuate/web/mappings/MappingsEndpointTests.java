@@ -27,6 +27,7 @@ import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.mock.web.MockServletConfig;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -123,6 +124,19 @@ public class MappingsEndpointTests {
                 });
     }
 
+    @Test
+    public void contextMappingsAreCachedUntilContextEvent() {
+        new ReactiveWebApplicationContextRunner()
+                .withUserConfiguration(EndpointConfiguration.class,
+                        ReactiveWebConfiguration.class)
+                .run((context) -> {
+                    ContextMappings first = contextMappings(context);
+                    assertThat(contextMappings(context)).isSameAs(first);
+                    context.publishEvent(new ContextRefreshedEvent(context));
+                    assertThat(contextMappings(context)).isNotSameAs(first);
+                });
+    }
+
     private ContextMappings contextMappings(ApplicationContext context) {
         ApplicationMappings applicationMappings = context.getBean(MappingsEndpoint.class)
                 .mappings();
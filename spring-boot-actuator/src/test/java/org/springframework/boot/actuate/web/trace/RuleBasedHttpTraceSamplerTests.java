@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.web.trace;
+
+import org.junit.Test;
+import org.springframework.boot.actuate.web.trace.RuleBasedHttpTraceSampler.Rule;
+import org.springframework.http.HttpStatus;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RuleBasedHttpTraceSampler}.
+ *
+ * @author agent (agent@local)
+ */
+public class RuleBasedHttpTraceSamplerTests {
+
+    @Test
+    public void exchangeThatMatchesNoRuleUsesDefaultProbability() {
+        assertThat(new RuleBasedHttpTraceSampler(1, Collections.emptyList())
+                .isSampled(createRequest("/one"), 200, 10)).isTrue();
+        assertThat(new RuleBasedHttpTraceSampler(0, Collections.emptyList())
+                .isSampled(createRequest("/one"), 200, 10)).isFalse();
+    }
+
+    @Test
+    public void ruleMatchesPathPattern() {
+        RuleBasedHttpTraceSampler sampler = new RuleBasedHttpTraceSampler(1,
+                Collections.singletonList(new Rule("/actuator/**", null, null, 0, null)));
+        assertThat(sampler.isSampled(createRequest("/actuator/health"), 200, 10))
+                .isFalse();
+        assertThat(sampler.isSampled(createRequest("/api/things"), 200, 10)).isTrue();
+    }
+
+    @Test
+    public void ruleMatchesStatusClass() {
+        RuleBasedHttpTraceSampler sampler = new RuleBasedHttpTraceSampler(0,
+                Collections.singletonList(new Rule(null,
+                        EnumSet.of(HttpStatus.Series.SERVER_ERROR), null, 1, null)));
+        assertThat(sampler.isSampled(createRequest("/one"), 503, 10)).isTrue();
+        assertThat(sampler.isSampled(createRequest("/one"), 404, 10)).isFalse();
+    }
+
+    @Test
+    public void ruleMatchesMinimumTimeTaken() {
+        RuleBasedHttpTraceSampler sampler = new RuleBasedHttpTraceSampler(0,
+                Collections.singletonList(
+                        new Rule(null, null, Duration.ofMillis(500), 1, null)));
+        assertThat(sampler.isSampled(createRequest("/one"), 200, 750)).isTrue();
+        assertThat(sampler.isSampled(createRequest("/one"), 200, 250)).isFalse();
+    }
+
+    @Test
+    public void firstMatchingRuleWins() {
+        RuleBasedHttpTraceSampler sampler = new RuleBasedHttpTraceSampler(0,
+                Arrays.asList(new Rule("/one", null, null, 0, null),
+                        new Rule(null, null, null, 1, null)));
+        assertThat(sampler.isSampled(createRequest("/one"), 200, 10)).isFalse();
+        assertThat(sampler.isSampled(createRequest("/two"), 200, 10)).isTrue();
+    }
+
+    @Test
+    public void ruleIsRateLimited() {
+        RuleBasedHttpTraceSampler sampler = new RuleBasedHttpTraceSampler(0,
+                Collections.singletonList(new Rule(null, null, null, 1, 2)));
+        assertThat(sampler.isSampled(createRequest("/one"), 200, 10)).isTrue();
+        assertThat(sampler.isSampled(createRequest("/one"), 200, 10)).isTrue();
+        assertThat(sampler.isSampled(createRequest("/one"), 200, 10)).isFalse();
+    }
+
+    private TraceableRequest createRequest(String path) {
+        TraceableRequest request = mock(TraceableRequest.class);
+        given(request.getMethod()).willReturn("GET");
+        given(request.getUri()).willReturn(URI.create("https://api.example.com" + path));
+        return request;
+    }
+
+}
@@ -100,6 +100,16 @@ public class HttpTraceFilterTests {
         assertThat(tracedPrincipal.getName()).isEqualTo("alice");
     }
 
+    @Test
+    public void filterDoesNotTraceExchangeThatIsNotSampled()
+            throws ServletException, IOException {
+        HttpTraceFilter filter = new HttpTraceFilter(this.repository, this.tracer,
+                (request, status, timeTaken) -> status >= 500);
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                new MockFilterChain());
+        assertThat(this.repository.findAll()).isEmpty();
+    }
+
     @Test
     public void statusIsAssumedToBe500WhenChainFails()
             throws ServletException, IOException {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,7 +53,8 @@ import java.util.List;
         JsonbAutoConfiguration.class})
 @Import({JacksonHttpMessageConvertersConfiguration.class,
         GsonHttpMessageConvertersConfiguration.class,
-        JsonbHttpMessageConvertersConfiguration.class})
+        JsonbHttpMessageConvertersConfiguration.class,
+        ProtobufHttpMessageConvertersConfiguration.class})
 public class HttpMessageConvertersAutoConfiguration {
 
     static final String PREFERRED_MAPPER_PROPERTY = "spring.http.converters.preferred-json-mapper";
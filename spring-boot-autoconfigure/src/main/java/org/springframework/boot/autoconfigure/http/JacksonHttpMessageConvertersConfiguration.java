@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package org.springframework.boot.autoconfigure.http;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -24,8 +26,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 
 /**
@@ -69,4 +73,36 @@ class JacksonHttpMessageConvertersConfiguration {
 
     }
 
+    @Configuration
+    @ConditionalOnClass(SmileFactory.class)
+    @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
+    protected static class MappingJackson2SmileHttpMessageConverterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+                Jackson2ObjectMapperBuilder builder) {
+            ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+            builder.configure(objectMapper);
+            return new MappingJackson2SmileHttpMessageConverter(objectMapper);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(CBORFactory.class)
+    @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
+    protected static class MappingJackson2CborHttpMessageConverterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+                Jackson2ObjectMapperBuilder builder) {
+            ObjectMapper objectMapper = new ObjectMapper(new CBORFactory());
+            builder.configure(objectMapper);
+            return new MappingJackson2CborHttpMessageConverter(objectMapper);
+        }
+
+    }
+
 }
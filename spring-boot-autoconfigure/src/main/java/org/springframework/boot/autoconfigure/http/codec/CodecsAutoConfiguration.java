@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,15 @@
 package org.springframework.boot.autoconfigure.http.codec;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Message;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.codec.ProtobufDecoder;
+import org.springframework.boot.web.codec.ProtobufEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.codec.CodecConfigurer;
@@ -63,4 +66,19 @@ public class CodecsAutoConfiguration {
 
     }
 
+    @Configuration
+    @ConditionalOnClass(Message.class)
+    static class ProtobufCodecConfiguration {
+
+        @Bean
+        public CodecCustomizer protobufCodecCustomizer() {
+            return (configurer) -> {
+                CodecConfigurer.CustomCodecs custom = configurer.customCodecs();
+                custom.decoder(new ProtobufDecoder());
+                custom.encoder(new ProtobufEncoder());
+            };
+        }
+
+    }
+
 }
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.joda.cfg.JacksonJodaDateFormat;
 import com.fasterxml.jackson.datatype.joda.ser.DateTimeSerializer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +35,7 @@ import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jackson.JsonComponentModule;
 import org.springframework.context.ApplicationContext;
@@ -160,6 +162,19 @@ public class JacksonAutoConfiguration {
 
     }
 
+    @Configuration
+    @ConditionalOnClass(AfterburnerModule.class)
+    @ConditionalOnProperty(prefix = "spring.jackson", name = "afterburner", havingValue = "true")
+    static class AfterburnerModuleConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(AfterburnerModule.class)
+        public AfterburnerModule afterburnerModule() {
+            return new AfterburnerModule();
+        }
+
+    }
+
     @Configuration
     @ConditionalOnClass({ObjectMapper.class, Jackson2ObjectMapperBuilder.class})
     static class JacksonObjectMapperBuilderConfiguration {
@@ -105,6 +105,13 @@ public class JacksonProperties {
      */
     private Locale locale;
 
+    /**
+     * Whether to register Jackson's Afterburner module, replacing reflection-based
+     * property access with generated bytecode. Requires jackson-module-afterburner to
+     * be on the classpath.
+     */
+    private boolean afterburner;
+
     public String getDateFormat() {
         return this.dateFormat;
     }
@@ -174,4 +181,12 @@ public class JacksonProperties {
         this.locale = locale;
     }
 
+    public boolean isAfterburner() {
+        return this.afterburner;
+    }
+
+    public void setAfterburner(boolean afterburner) {
+        this.afterburner = afterburner;
+    }
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.reactor.netty;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Properties for the Reactor Netty resources that are shared by the embedded server and
+ * {@code WebClient}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@ConfigurationProperties(prefix = "spring.reactor.netty")
+public class ReactorNettyProperties {
+
+    /**
+     * Whether to use the global Reactor Netty event loops. When disabled, dedicated event
+     * loops are created and shared by the embedded server and WebClient.
+     */
+    private boolean useGlobalResources = true;
+
+    /**
+     * Number of event loop threads to create when global resources are not used. When
+     * not set, the Reactor Netty default is used.
+     */
+    private Integer workerThreads;
+
+    /**
+     * Time after which a WebClient connection that has had no reads or writes is closed.
+     * Applies to connections that are in use as well as to pooled ones, so it also acts
+     * as a read timeout for responses. When not set, connections are not closed for
+     * inactivity.
+     */
+    private Duration clientIdleTimeout;
+
+    private final Pool pool = new Pool();
+
+    public boolean isUseGlobalResources() {
+        return this.useGlobalResources;
+    }
+
+    public void setUseGlobalResources(boolean useGlobalResources) {
+        this.useGlobalResources = useGlobalResources;
+    }
+
+    public Integer getWorkerThreads() {
+        return this.workerThreads;
+    }
+
+    public void setWorkerThreads(Integer workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public Duration getClientIdleTimeout() {
+        return this.clientIdleTimeout;
+    }
+
+    public void setClientIdleTimeout(Duration clientIdleTimeout) {
+        this.clientIdleTimeout = clientIdleTimeout;
+    }
+
+    public Pool getPool() {
+        return this.pool;
+    }
+
+    /**
+     * Client connection pool settings.
+     */
+    public static class Pool {
+
+        /**
+         * Maximum number of connections per remote address. When not set, the global
+         * elastic connection pool is used.
+         */
+        private Integer maxConnections;
+
+        /**
+         * Maximum time to wait for a connection to become available when the pool is
+         * exhausted.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(45);
+
+        public Integer getMaxConnections() {
+            return this.maxConnections;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Duration getAcquireTimeout() {
+            return this.acquireTimeout;
+        }
+
+        public void setAcquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+    }
+
+}
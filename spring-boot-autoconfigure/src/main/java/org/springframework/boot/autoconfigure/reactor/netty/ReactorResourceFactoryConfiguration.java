@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.reactor.netty;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.ReactorResourceFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.ipc.netty.http.HttpResources;
+import reactor.ipc.netty.resources.LoopResources;
+import reactor.ipc.netty.resources.PoolResources;
+
+/**
+ * Configuration for a {@link ReactorResourceFactory} that is shared by the embedded
+ * Netty server and the Reactor Netty {@code WebClient} connector. Should be
+ * {@code @Import}ed by the auto-configuration classes that use it.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnClass(HttpResources.class)
+@EnableConfigurationProperties(ReactorNettyProperties.class)
+public class ReactorResourceFactoryConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactorResourceFactory reactorResourceFactory(
+            ReactorNettyProperties properties) {
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.setUseGlobalResources(properties.isUseGlobalResources());
+        Integer workerThreads = properties.getWorkerThreads();
+        if (workerThreads != null) {
+            resourceFactory.setLoopResourcesSupplier(
+                    () -> LoopResources.create("reactor-http", workerThreads, true));
+        }
+        ReactorNettyProperties.Pool pool = properties.getPool();
+        if (pool.getMaxConnections() != null) {
+            resourceFactory.setConnectionPoolSupplier(() -> PoolResources.fixed("http",
+                    pool.getMaxConnections(), pool.getAcquireTimeout().toMillis()));
+        }
+        return resourceFactory;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.task;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link ThreadPoolTaskExecutor}.
+ * The executor is registered under the name that {@code @EnableAsync} looks for so that
+ * asynchronous methods do not fall back to a thread per task.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnClass(ThreadPoolTaskExecutor.class)
+@EnableConfigurationProperties(TaskExecutionProperties.class)
+public class TaskExecutionAutoConfiguration {
+
+    /**
+     * Bean name of the application {@link ThreadPoolTaskExecutor}.
+     */
+    public static final String APPLICATION_TASK_EXECUTOR_BEAN_NAME = "applicationTaskExecutor";
+
+    private final TaskExecutionProperties properties;
+
+    private final ObjectProvider<List<TaskDecorator>> taskDecorators;
+
+    private final ObjectProvider<List<TaskExecutorCustomizer>> taskExecutorCustomizers;
+
+    public TaskExecutionAutoConfiguration(TaskExecutionProperties properties,
+                                          ObjectProvider<List<TaskDecorator>> taskDecorators,
+                                          ObjectProvider<List<TaskExecutorCustomizer>> taskExecutorCustomizers) {
+        this.properties = properties;
+        this.taskDecorators = taskDecorators;
+        this.taskExecutorCustomizers = taskExecutorCustomizers;
+    }
+
+    @Bean(name = {APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnMissingBean(Executor.class)
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        TaskExecutionProperties.Pool pool = this.properties.getPool();
+        taskExecutor.setQueueCapacity(pool.getQueueCapacity());
+        taskExecutor.setCorePoolSize(pool.getCoreSize());
+        taskExecutor.setMaxPoolSize(pool.getMaxSize());
+        taskExecutor.setAllowCoreThreadTimeOut(pool.isAllowCoreThreadTimeout());
+        taskExecutor.setKeepAliveSeconds((int) pool.getKeepAlive().getSeconds());
+        taskExecutor.setThreadNamePrefix(this.properties.getThreadNamePrefix());
+        TaskExecutionProperties.Shutdown shutdown = this.properties.getShutdown();
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(shutdown.isAwaitTermination());
+        Duration awaitTerminationPeriod = shutdown.getAwaitTerminationPeriod();
+        if (awaitTerminationPeriod != null) {
+            taskExecutor.setAwaitTerminationSeconds(
+                    (int) awaitTerminationPeriod.getSeconds());
+        }
+        TaskDecorator taskDecorator = getTaskDecorator();
+        if (taskDecorator != null) {
+            taskExecutor.setTaskDecorator(taskDecorator);
+        }
+        List<TaskExecutorCustomizer> customizers = this.taskExecutorCustomizers
+                .getIfAvailable();
+        if (!CollectionUtils.isEmpty(customizers)) {
+            customizers = new ArrayList<>(customizers);
+            AnnotationAwareOrderComparator.sort(customizers);
+            customizers.forEach((customizer) -> customizer.customize(taskExecutor));
+        }
+        return taskExecutor;
+    }
+
+    private TaskDecorator getTaskDecorator() {
+        List<TaskDecorator> taskDecorators = this.taskDecorators.getIfAvailable();
+        if (CollectionUtils.isEmpty(taskDecorators)) {
+            return null;
+        }
+        List<TaskDecorator> sorted = new ArrayList<>(taskDecorators);
+        AnnotationAwareOrderComparator.sort(sorted);
+        if (sorted.size() == 1) {
+            return sorted.get(0);
+        }
+        return (runnable) -> {
+            Runnable decorated = runnable;
+            for (int i = sorted.size() - 1; i >= 0; i--) {
+                decorated = sorted.get(i).decorate(decorated);
+            }
+            return decorated;
+        };
+    }
+
+}
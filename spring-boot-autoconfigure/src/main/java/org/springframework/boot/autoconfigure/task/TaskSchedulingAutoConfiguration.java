@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.task;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link TaskScheduler}. The
+ * scheduler is only created when {@code @EnableScheduling} is used and no scheduler has
+ * been configured by the user, so that {@code @Scheduled} methods do not share a single
+ * thread.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnClass(ThreadPoolTaskScheduler.class)
+@EnableConfigurationProperties(TaskSchedulingProperties.class)
+@AutoConfigureAfter(TaskExecutionAutoConfiguration.class)
+public class TaskSchedulingAutoConfiguration {
+
+    private final TaskSchedulingProperties properties;
+
+    private final ObjectProvider<List<TaskSchedulerCustomizer>> taskSchedulerCustomizers;
+
+    public TaskSchedulingAutoConfiguration(TaskSchedulingProperties properties,
+                                           ObjectProvider<List<TaskSchedulerCustomizer>> taskSchedulerCustomizers) {
+        this.properties = properties;
+        this.taskSchedulerCustomizers = taskSchedulerCustomizers;
+    }
+
+    @Bean
+    @ConditionalOnBean(name = TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME)
+    @ConditionalOnMissingBean({SchedulingConfigurer.class, TaskScheduler.class,
+            ScheduledExecutorService.class})
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(this.properties.getPool().getSize());
+        taskScheduler.setThreadNamePrefix(this.properties.getThreadNamePrefix());
+        TaskExecutionProperties.Shutdown shutdown = this.properties.getShutdown();
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(shutdown.isAwaitTermination());
+        Duration awaitTerminationPeriod = shutdown.getAwaitTerminationPeriod();
+        if (awaitTerminationPeriod != null) {
+            taskScheduler.setAwaitTerminationSeconds(
+                    (int) awaitTerminationPeriod.getSeconds());
+        }
+        List<TaskSchedulerCustomizer> customizers = this.taskSchedulerCustomizers
+                .getIfAvailable();
+        if (!CollectionUtils.isEmpty(customizers)) {
+            customizers = new ArrayList<>(customizers);
+            AnnotationAwareOrderComparator.sort(customizers);
+            customizers.forEach((customizer) -> customizer.customize(taskScheduler));
+        }
+        return taskScheduler;
+    }
+
+}
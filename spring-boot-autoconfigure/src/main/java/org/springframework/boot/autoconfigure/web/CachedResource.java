@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * A static {@link Resource} whose content is served from a {@link ResourceContentCache}.
+ * The content, length, and last modified time are looked up each time they are needed
+ * so that changes to the underlying resource are reflected and the memory it occupies
+ * remains bounded by the cache, even if this resource is itself retained.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class CachedResource extends AbstractResource {
+
+    private final Resource resource;
+
+    private final HttpHeaders resourceHeaders;
+
+    private final ResourceContentCache cache;
+
+    public CachedResource(Resource resource, HttpHeaders resourceHeaders,
+                          ResourceContentCache cache) {
+        this.resource = resource;
+        this.resourceHeaders = resourceHeaders;
+        this.cache = cache;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        ResourceContentCache.Entry current = this.cache.get(this.resource);
+        return (current != null ? new ByteArrayInputStream(current.getContent())
+                : this.resource.getInputStream());
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public boolean isReadable() {
+        return true;
+    }
+
+    @Override
+    public URL getURL() throws IOException {
+        return this.resource.getURL();
+    }
+
+    @Override
+    public URI getURI() throws IOException {
+        return this.resource.getURI();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        ResourceContentCache.Entry current = this.cache.get(this.resource);
+        return (current != null ? current.getContentLength()
+                : this.resource.contentLength());
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        ResourceContentCache.Entry current = this.cache.get(this.resource);
+        return (current != null ? current.getLastModified()
+                : this.resource.lastModified());
+    }
+
+    @Override
+    public Resource createRelative(String relativePath) throws IOException {
+        return this.resource.createRelative(relativePath);
+    }
+
+    @Override
+    public String getFilename() {
+        return this.resource.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Cached " + this.resource.getDescription();
+    }
+
+    /**
+     * Return the headers that should be added to the response when serving this
+     * resource, i.e. those of the underlying resource.
+     *
+     * @return the response headers
+     */
+    public HttpHeaders getResponseHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(this.resourceHeaders);
+        return headers;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return this.resource.equals(((CachedResource) obj).resource);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.resource.hashCode();
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * A precompressed variant of a static {@link Resource} that keeps the file name of the
+ * original resource so that its media type is preserved.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class EncodedResource extends AbstractResource {
+
+    private final Resource original;
+
+    private final Resource encoded;
+
+    private final ResourceContentCoding coding;
+
+    public EncodedResource(Resource original, Resource encoded,
+                           ResourceContentCoding coding) {
+        this.original = original;
+        this.encoded = encoded;
+        this.coding = coding;
+    }
+
+    public ResourceContentCoding getCoding() {
+        return this.coding;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return this.encoded.getInputStream();
+    }
+
+    @Override
+    public boolean exists() {
+        return this.encoded.exists();
+    }
+
+    @Override
+    public boolean isReadable() {
+        return this.encoded.isReadable();
+    }
+
+    @Override
+    public boolean isFile() {
+        return this.encoded.isFile();
+    }
+
+    @Override
+    public URL getURL() throws IOException {
+        return this.encoded.getURL();
+    }
+
+    @Override
+    public URI getURI() throws IOException {
+        return this.encoded.getURI();
+    }
+
+    @Override
+    public File getFile() throws IOException {
+        return this.encoded.getFile();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return this.encoded.contentLength();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return this.encoded.lastModified();
+    }
+
+    @Override
+    public Resource createRelative(String relativePath) throws IOException {
+        return this.original.createRelative(relativePath);
+    }
+
+    @Override
+    public String getFilename() {
+        return this.original.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return this.encoded.getDescription();
+    }
+
+    /**
+     * Return the headers that should be added to the response when serving this
+     * resource.
+     *
+     * @return the response headers
+     */
+    public HttpHeaders getResponseHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_ENCODING, this.coding.getName());
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return headers;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return this.encoded.equals(((EncodedResource) obj).encoded);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.encoded.hashCode();
+    }
+
+}
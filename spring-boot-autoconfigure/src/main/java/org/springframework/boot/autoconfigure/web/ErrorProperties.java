@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,6 +44,13 @@ public class ErrorProperties {
      */
     private IncludeStacktrace includeStacktrace = IncludeStacktrace.NEVER;
 
+    /**
+     * Whether to cache error attributes per status and exception type. Only the
+     * "status", "error" and, if included, "exception" attributes are rendered and stack
+     * traces are never captured.
+     */
+    private boolean cacheAttributes;
+
     public String getPath() {
         return this.path;
     }
@@ -60,6 +67,14 @@ public class ErrorProperties {
         this.includeException = includeException;
     }
 
+    public boolean isCacheAttributes() {
+        return this.cacheAttributes;
+    }
+
+    public void setCacheAttributes(boolean cacheAttributes) {
+        this.cacheAttributes = cacheAttributes;
+    }
+
     public IncludeStacktrace getIncludeStacktrace() {
         return this.includeStacktrace;
     }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size-bounded, least-recently-used, in-memory cache of the content of static
+ * resources. The content of a resource that is a {@link Resource#isFile() file} is
+ * reloaded when its last modified time or length changes.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class ResourceContentCache {
+
+    private final long maxSize;
+
+    private final long maxFileSize;
+
+    private final boolean cacheFiles;
+
+    private final Map<Resource, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size;
+
+    /**
+     * Create a new {@link ResourceContentCache}.
+     *
+     * @param maxSize the maximum total size, in bytes, of the cached content
+     * @param maxFileSize the maximum size, in bytes, of a resource for it to be cached
+     * @param cacheFiles whether resources that are {@link Resource#isFile() files}
+     * should be cached
+     */
+    public ResourceContentCache(long maxSize, long maxFileSize, boolean cacheFiles) {
+        this.maxSize = maxSize;
+        this.maxFileSize = maxFileSize;
+        this.cacheFiles = cacheFiles;
+    }
+
+    /**
+     * Return the cached entry for the given resource, loading its content if
+     * necessary.
+     *
+     * @param resource the resource
+     * @return the entry or {@code null} if the resource cannot be cached
+     * @throws IOException if the content of the resource cannot be read
+     */
+    public Entry get(Resource resource) throws IOException {
+        Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(resource);
+        }
+        if (entry != null && !isStale(resource, entry)) {
+            return entry;
+        }
+        Entry loaded = (isCacheable(resource) ? load(resource) : null);
+        if (loaded != null) {
+            put(resource, loaded);
+        } else if (entry != null) {
+            remove(resource, entry);
+        }
+        return loaded;
+    }
+
+    /**
+     * Return the total size, in bytes, of the cached content.
+     *
+     * @return the size of the cache
+     */
+    public long getSize() {
+        synchronized (this.entries) {
+            return this.size;
+        }
+    }
+
+    private boolean isStale(Resource resource, Entry entry) throws IOException {
+        return resource.isFile() && (resource.lastModified() != entry.lastModified
+                || resource.contentLength() != entry.content.length);
+    }
+
+    private boolean isCacheable(Resource resource) throws IOException {
+        return resource.isReadable() && (this.cacheFiles || !resource.isFile())
+                && resource.contentLength() <= this.maxFileSize;
+    }
+
+    private Entry load(Resource resource) throws IOException {
+        long lastModified = resource.lastModified();
+        byte[] content;
+        try (InputStream inputStream = resource.getInputStream()) {
+            content = StreamUtils.copyToByteArray(inputStream);
+        }
+        if (content.length > this.maxFileSize) {
+            return null;
+        }
+        return new Entry(content, lastModified);
+    }
+
+    private void put(Resource resource, Entry entry) {
+        synchronized (this.entries) {
+            Entry previous = this.entries.put(resource, entry);
+            if (previous != null) {
+                this.size -= previous.content.length;
+            }
+            this.size += entry.content.length;
+            Iterator<Entry> iterator = this.entries.values().iterator();
+            while (this.size > this.maxSize && iterator.hasNext()) {
+                this.size -= iterator.next().content.length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remove(Resource resource, Entry entry) {
+        synchronized (this.entries) {
+            if (this.entries.remove(resource, entry)) {
+                this.size -= entry.content.length;
+            }
+        }
+    }
+
+    /**
+     * The cached content of a resource.
+     */
+    public static final class Entry {
+
+        private final byte[] content;
+
+        private final long lastModified;
+
+        Entry(byte[] content, long lastModified) {
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+
+        public byte[] getContent() {
+            return this.content;
+        }
+
+        public long getLastModified() {
+            return this.lastModified;
+        }
+
+        public long getContentLength() {
+            return this.content.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Content codings of precompressed static resources that can be served in response to
+ * a request's {@code Accept-Encoding} header.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public enum ResourceContentCoding {
+
+    /**
+     * Brotli, served from a {@code .br} variant of a resource.
+     */
+    BROTLI("br", ".br"),
+
+    /**
+     * Gzip, served from a {@code .gz} variant of a resource.
+     */
+    GZIP("gzip", ".gz");
+
+    private final String name;
+
+    private final String extension;
+
+    ResourceContentCoding(String name, String extension) {
+        this.name = name;
+        this.extension = extension;
+    }
+
+    /**
+     * Return the name of the coding as used in the {@code Content-Encoding} header.
+     *
+     * @return the name of the coding
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Return the extension of a resource variant encoded with this coding.
+     *
+     * @return the extension, including its leading dot
+     */
+    public String getExtension() {
+        return this.extension;
+    }
+
+    /**
+     * Return the codings that are accepted by the given {@code Accept-Encoding} header
+     * value, most efficient first. Codings that are explicitly refused with a quality
+     * value of zero are ignored.
+     *
+     * @param acceptEncoding the value of the header, may be {@code null}
+     * @return the accepted codings
+     */
+    public static List<ResourceContentCoding> getAccepted(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return Collections.emptyList();
+        }
+        List<String> accepted = new ArrayList<>();
+        for (String token : StringUtils
+                .tokenizeToStringArray(acceptEncoding.toLowerCase(Locale.ENGLISH), ",")) {
+            int parametersIndex = token.indexOf(';');
+            String name = (parametersIndex == -1 ? token
+                    : token.substring(0, parametersIndex).trim());
+            if (parametersIndex == -1 || !isRefused(token.substring(parametersIndex))) {
+                accepted.add(name);
+            }
+        }
+        List<ResourceContentCoding> codings = new ArrayList<>(2);
+        for (ResourceContentCoding coding : values()) {
+            if (accepted.contains(coding.name)) {
+                codings.add(coding);
+            }
+        }
+        return codings;
+    }
+
+    private static boolean isRefused(String parameters) {
+        for (String parameter : StringUtils.tokenizeToStringArray(parameters, ";")) {
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -110,6 +110,13 @@ public class ResourceProperties {
          * resource name variant with the "*.gz" extension.
          */
         private boolean gzipped = false;
+        /**
+         * Whether to enable resolution of precompressed resources that best match the
+         * request's Accept-Encoding header. Checks for resource name variants with the
+         * "*.br" and "*.gz" extensions, in that order.
+         */
+        private boolean compressed = false;
+        private final Memory memory = new Memory();
 
         static Boolean getEnabled(boolean fixedEnabled, boolean contentEnabled,
                                   Boolean chainEnabled) {
@@ -160,6 +167,65 @@ public class ResourceProperties {
             this.gzipped = gzipped;
         }
 
+        public boolean isCompressed() {
+            return this.compressed;
+        }
+
+        public void setCompressed(boolean compressed) {
+            this.compressed = compressed;
+        }
+
+        public Memory getMemory() {
+            return this.memory;
+        }
+
+    }
+
+    /**
+     * In-memory caching of the content of resolved resources.
+     */
+    public static class Memory {
+
+        /**
+         * Whether to serve the content of resolved resources from memory.
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum total size, in bytes, of the content held in memory. The least
+         * recently used content is evicted first.
+         */
+        private long maxSize = 10 * 1024 * 1024;
+
+        /**
+         * Maximum size, in bytes, of a resource for its content to be held in memory.
+         */
+        private long maxFileSize = 512 * 1024;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxSize() {
+            return this.maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getMaxFileSize() {
+            return this.maxFileSize;
+        }
+
+        public void setMaxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+        }
+
     }
 
     /**
@@ -196,6 +262,13 @@ public class ResourceProperties {
          */
         private String[] paths = new String[]{"/**"};
 
+        /**
+         * Location of a manifest of precomputed content hashes, as generated by the
+         * build plugins. Resources that are not listed in the manifest, or all
+         * resources if it does not exist, are hashed at runtime.
+         */
+        private String manifestLocation = "classpath:META-INF/resource-versions.properties";
+
         public boolean isEnabled() {
             return this.enabled;
         }
@@ -212,6 +285,14 @@ public class ResourceProperties {
             this.paths = paths;
         }
 
+        public String getManifestLocation() {
+            return this.manifestLocation;
+        }
+
+        public void setManifestLocation(String manifestLocation) {
+            this.manifestLocation = manifestLocation;
+        }
+
     }
 
     /**
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Content hashes of static resources that have been precomputed at build time, keyed
+ * by the path of each resource relative to the root of the classpath, for example
+ * {@code static/css/app.css}. A resource that is a {@link Resource#isFile() file} and
+ * that has been modified since a manifest file was written is treated as not being
+ * listed so that a stale hash is never used.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public final class ResourceVersionManifest {
+
+    private final Map<String, String> versions;
+
+    private final long lastModified;
+
+    private ResourceVersionManifest(Map<String, String> versions, long lastModified) {
+        this.versions = versions;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Return the precomputed version of the given resource. The variants of a
+     * precompressed resource share the version of the original resource.
+     *
+     * @param resource the resource
+     * @return the version or {@code null} if the resource is not in the manifest or has
+     * been modified since the manifest was written
+     */
+    public String getVersion(Resource resource) {
+        String path = getPath(resource);
+        if (path == null || isModifiedSinceManifest(resource)) {
+            return null;
+        }
+        String version = getVersion(path);
+        if (version == null) {
+            for (ResourceContentCoding coding : ResourceContentCoding.values()) {
+                if (path.endsWith(coding.getExtension())) {
+                    return getVersion(path.substring(0,
+                            path.length() - coding.getExtension().length()));
+                }
+            }
+        }
+        return version;
+    }
+
+    private boolean isModifiedSinceManifest(Resource resource) {
+        if (this.lastModified == -1 || !resource.isFile()) {
+            return false;
+        }
+        try {
+            return resource.lastModified() > this.lastModified;
+        } catch (IOException ex) {
+            return true;
+        }
+    }
+
+    private String getPath(Resource resource) {
+        if (resource instanceof ClassPathResource) {
+            return ((ClassPathResource) resource).getPath();
+        }
+        try {
+            return resource.getURL().getPath();
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private String getVersion(String path) {
+        String version = this.versions.get(path);
+        int separator = path.indexOf('/');
+        while (version == null && separator != -1) {
+            version = this.versions.get(path.substring(separator + 1));
+            separator = path.indexOf('/', separator + 1);
+        }
+        return version;
+    }
+
+    /**
+     * Return the number of resources in the manifest.
+     *
+     * @return the number of resources
+     */
+    public int size() {
+        return this.versions.size();
+    }
+
+    /**
+     * Load the manifest from the given resource.
+     *
+     * @param resource the manifest resource
+     * @return the manifest or {@code null} if the resource does not exist
+     * @throws IOException if the manifest cannot be read
+     */
+    public static ResourceVersionManifest load(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            return null;
+        }
+        Properties properties = PropertiesLoaderUtils.loadProperties(resource);
+        Map<String, String> versions = new HashMap<>(properties.size() * 2);
+        for (String name : properties.stringPropertyNames()) {
+            versions.put(name, properties.getProperty(name));
+        }
+        return new ResourceVersionManifest(versions,
+                (resource.isFile() ? resource.lastModified() : -1));
+    }
+
+}
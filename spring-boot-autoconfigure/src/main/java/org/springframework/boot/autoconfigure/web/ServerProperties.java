@@ -21,7 +21,9 @@ import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.boot.context.properties.bind.convert.DefaultDurationUnit;
 import org.springframework.boot.web.server.Compression;
 import org.springframework.boot.web.server.Http2;
+import org.springframework.boot.web.server.Shutdown;
 import org.springframework.boot.web.server.Ssl;
+import org.springframework.boot.web.server.WorkerPoolTuning;
 import org.springframework.boot.web.servlet.server.Jsp;
 import org.springframework.boot.web.servlet.server.Session;
 import org.springframework.util.Assert;
@@ -58,10 +60,15 @@ public class ServerProperties {
     private final Compression compression = new Compression();
     @NestedConfigurationProperty
     private final Http2 http2 = new Http2();
+    @NestedConfigurationProperty
+    private final Shutdown shutdown = new Shutdown();
+    @NestedConfigurationProperty
+    private final WorkerPoolTuning workerPool = new WorkerPoolTuning();
     private final Servlet servlet = new Servlet();
     private final Tomcat tomcat = new Tomcat();
     private final Jetty jetty = new Jetty();
     private final Undertow undertow = new Undertow();
+    private final Netty netty = new Netty();
     /**
      * Server HTTP port.
      */
@@ -171,6 +178,14 @@ public class ServerProperties {
         return this.http2;
     }
 
+    public Shutdown getShutdown() {
+        return this.shutdown;
+    }
+
+    public WorkerPoolTuning getWorkerPool() {
+        return this.workerPool;
+    }
+
     public Servlet getServlet() {
         return this.servlet;
     }
@@ -187,6 +202,10 @@ public class ServerProperties {
         return this.undertow;
     }
 
+    public Netty getNetty() {
+        return this.netty;
+    }
+
     /**
      * Servlet properties.
      */
@@ -1082,4 +1101,106 @@ public class ServerProperties {
 
     }
 
+    /**
+     * Netty properties.
+     */
+    public static class Netty {
+
+        /**
+         * Number of selector threads used to accept connections. When not set, the
+         * shared Reactor Netty default is used.
+         */
+        private Integer selectorThreads;
+
+        /**
+         * Number of worker (event loop) threads. When not set, the shared Reactor Netty
+         * default is used.
+         */
+        private Integer workerThreads;
+
+        /**
+         * Whether to prefer the native transport (epoll on Linux) over NIO when it is
+         * available.
+         */
+        private Boolean useNativeTransport;
+
+        /**
+         * Whether to use pooled buffers.
+         */
+        private Boolean pooledBuffers;
+
+        /**
+         * Whether to allocate buffers outside the Java heap.
+         */
+        private Boolean directBuffers;
+
+        /**
+         * Maximum length, in bytes, of the HTTP initial line (request line).
+         */
+        private Integer maxInitialLineLength;
+
+        /**
+         * Maximum time a connection may remain idle (no reads or writes) before it is
+         * closed. When not set, idle connections are kept open.
+         */
+        private Duration idleTimeout;
+
+        public Integer getSelectorThreads() {
+            return this.selectorThreads;
+        }
+
+        public void setSelectorThreads(Integer selectorThreads) {
+            this.selectorThreads = selectorThreads;
+        }
+
+        public Integer getWorkerThreads() {
+            return this.workerThreads;
+        }
+
+        public void setWorkerThreads(Integer workerThreads) {
+            this.workerThreads = workerThreads;
+        }
+
+        public Boolean getUseNativeTransport() {
+            return this.useNativeTransport;
+        }
+
+        public void setUseNativeTransport(Boolean useNativeTransport) {
+            this.useNativeTransport = useNativeTransport;
+        }
+
+        public Boolean getPooledBuffers() {
+            return this.pooledBuffers;
+        }
+
+        public void setPooledBuffers(Boolean pooledBuffers) {
+            this.pooledBuffers = pooledBuffers;
+        }
+
+        public Boolean getDirectBuffers() {
+            return this.directBuffers;
+        }
+
+        public void setDirectBuffers(Boolean directBuffers) {
+            this.directBuffers = directBuffers;
+        }
+
+        public Integer getMaxInitialLineLength() {
+            return this.maxInitialLineLength;
+        }
+
+        public void setMaxInitialLineLength(Integer maxInitialLineLength) {
+            this.maxInitialLineLength = maxInitialLineLength;
+        }
+
+        public Duration getIdleTimeout() {
+            return this.idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+    }
+
 }
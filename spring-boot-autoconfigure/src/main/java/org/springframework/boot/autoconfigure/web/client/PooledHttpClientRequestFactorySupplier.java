@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.client;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link Supplier} of {@link HttpComponentsClientHttpRequestFactory} instances that all
+ * share a single {@link CloseableHttpClient} backed by a pooled
+ * {@link HttpClientConnectionManager}. The connection manager's lifecycle is owned by
+ * the application context rather than by the request factories so that
+ * {@link HttpComponentsClientHttpRequestFactory#destroy() destroying} one factory does
+ * not close the pool for every other {@code RestTemplate}.
+ *
+ * @author agent (agent@local)
+ */
+class PooledHttpClientRequestFactorySupplier
+        implements Supplier<ClientHttpRequestFactory>, DisposableBean {
+
+    private final CloseableHttpClient httpClient;
+
+    private final IdleConnectionEvictor connectionEvictor;
+
+    PooledHttpClientRequestFactorySupplier(HttpClientConnectionManager connectionManager,
+                                           RestTemplateProperties.Pool pool) {
+        HttpClientBuilder builder = HttpClientBuilder.create().useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true);
+        if (pool.getKeepAlive() != null) {
+            builder.setKeepAliveStrategy(
+                    new CappedKeepAliveStrategy(pool.getKeepAlive().toMillis()));
+        }
+        this.httpClient = builder.build();
+        this.connectionEvictor = createConnectionEvictor(connectionManager,
+                pool.getMaxIdleTime());
+    }
+
+    private IdleConnectionEvictor createConnectionEvictor(
+            HttpClientConnectionManager connectionManager, Duration maxIdleTime) {
+        if (maxIdleTime == null) {
+            return null;
+        }
+        IdleConnectionEvictor evictor = new IdleConnectionEvictor(connectionManager,
+                maxIdleTime.toMillis(), TimeUnit.MILLISECONDS);
+        evictor.start();
+        return evictor;
+    }
+
+    @Override
+    public ClientHttpRequestFactory get() {
+        return new HttpComponentsClientHttpRequestFactory(this.httpClient);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.connectionEvictor != null) {
+            this.connectionEvictor.shutdown();
+        }
+        this.httpClient.close();
+    }
+
+    /**
+     * {@link ConnectionKeepAliveStrategy} that honours the server's {@code Keep-Alive}
+     * header but never keeps a connection alive for longer than a configured maximum.
+     */
+    private static final class CappedKeepAliveStrategy
+            implements ConnectionKeepAliveStrategy {
+
+        private final long maxKeepAlive;
+
+        private CappedKeepAliveStrategy(long maxKeepAlive) {
+            this.maxKeepAlive = maxKeepAlive;
+        }
+
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                    .getKeepAliveDuration(response, context);
+            return (keepAlive > 0 ? Math.min(keepAlive, this.maxKeepAlive)
+                    : this.maxKeepAlive);
+        }
+
+    }
+
+}
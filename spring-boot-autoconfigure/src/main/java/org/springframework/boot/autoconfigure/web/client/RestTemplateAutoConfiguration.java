@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,21 @@
 
 package org.springframework.boot.autoconfigure.web.client;
 
+import org.apache.http.client.HttpClient;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
@@ -31,6 +39,7 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,17 +53,22 @@ import java.util.List;
 @Configuration
 @AutoConfigureAfter(HttpMessageConvertersAutoConfiguration.class)
 @ConditionalOnClass(RestTemplate.class)
+@EnableConfigurationProperties(RestTemplateProperties.class)
 public class RestTemplateAutoConfiguration {
 
     private final ObjectProvider<HttpMessageConverters> messageConverters;
 
     private final ObjectProvider<List<RestTemplateCustomizer>> restTemplateCustomizers;
 
+    private final ObjectProvider<PooledHttpClientRequestFactorySupplier> requestFactorySupplier;
+
     public RestTemplateAutoConfiguration(
             ObjectProvider<HttpMessageConverters> messageConverters,
-            ObjectProvider<List<RestTemplateCustomizer>> restTemplateCustomizers) {
+            ObjectProvider<List<RestTemplateCustomizer>> restTemplateCustomizers,
+            ObjectProvider<PooledHttpClientRequestFactorySupplier> requestFactorySupplier) {
         this.messageConverters = messageConverters;
         this.restTemplateCustomizers = restTemplateCustomizers;
+        this.requestFactorySupplier = requestFactorySupplier;
     }
 
     @Bean
@@ -72,7 +86,57 @@ public class RestTemplateAutoConfiguration {
             AnnotationAwareOrderComparator.sort(customizers);
             builder = builder.customizers(customizers);
         }
+        PooledHttpClientRequestFactorySupplier requestFactorySupplier = this.requestFactorySupplier
+                .getIfAvailable();
+        if (requestFactorySupplier != null) {
+            builder = builder.requestFactory(requestFactorySupplier);
+        }
         return builder;
     }
 
+    /**
+     * Configures a connection pool that is shared by the {@link HttpClient} used by
+     * every {@link RestTemplate} created from the auto-configured
+     * {@link RestTemplateBuilder}.
+     */
+    @Configuration
+    @ConditionalOnClass({HttpClient.class, PoolingHttpClientConnectionManager.class})
+    @ConditionalOnProperty(prefix = "spring.resttemplate.pool", name = "enabled")
+    static class HttpClientConnectionPoolConfiguration {
+
+        private final RestTemplateProperties.Pool pool;
+
+        HttpClientConnectionPoolConfiguration(RestTemplateProperties properties) {
+            this.pool = properties.getPool();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public PoolingHttpClientConnectionManager restTemplateConnectionManager() {
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                    RegistryBuilder.<ConnectionSocketFactory>create()
+                            .register("http",
+                                    PlainConnectionSocketFactory.getSocketFactory())
+                            .register("https",
+                                    SSLConnectionSocketFactory.getSystemSocketFactory())
+                            .build());
+            connectionManager.setMaxTotal(this.pool.getMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(this.pool.getMaxPerRoute());
+            Duration validateAfterInactivity = this.pool.getValidateAfterInactivity();
+            if (validateAfterInactivity != null) {
+                connectionManager.setValidateAfterInactivity(
+                        (int) validateAfterInactivity.toMillis());
+            }
+            return connectionManager;
+        }
+
+        @Bean
+        public PooledHttpClientRequestFactorySupplier pooledHttpClientRequestFactorySupplier(
+                PoolingHttpClientConnectionManager restTemplateConnectionManager) {
+            return new PooledHttpClientRequestFactorySupplier(
+                    restTemplateConnectionManager, this.pool);
+        }
+
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for {@code RestTemplate}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@ConfigurationProperties(prefix = "spring.resttemplate")
+public class RestTemplateProperties {
+
+    private final Pool pool = new Pool();
+
+    public Pool getPool() {
+        return this.pool;
+    }
+
+    /**
+     * Connection pool settings for the Apache HttpClient request factory.
+     */
+    public static class Pool {
+
+        /**
+         * Whether to share a pooled Apache HttpClient between the RestTemplate
+         * instances created by the auto-configured RestTemplateBuilder.
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of connections in the pool.
+         */
+        private int maxTotal = 200;
+
+        /**
+         * Maximum number of connections per route.
+         */
+        private int maxPerRoute = 20;
+
+        /**
+         * Maximum time that an idle connection is kept alive. When not set, the
+         * server's "Keep-Alive" header is honoured and connections are otherwise kept
+         * alive indefinitely. When set, a shorter "Keep-Alive" advertised by the
+         * server still takes precedence.
+         */
+        private Duration keepAlive;
+
+        /**
+         * Time after which idle connections are evicted from the pool by a background
+         * thread. When not set, idle connections are not evicted.
+         */
+        private Duration maxIdleTime;
+
+        /**
+         * Period of inactivity after which a pooled connection is validated before
+         * being leased again.
+         */
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxTotal() {
+            return this.maxTotal;
+        }
+
+        public void setMaxTotal(int maxTotal) {
+            this.maxTotal = maxTotal;
+        }
+
+        public int getMaxPerRoute() {
+            return this.maxPerRoute;
+        }
+
+        public void setMaxPerRoute(int maxPerRoute) {
+            this.maxPerRoute = maxPerRoute;
+        }
+
+        public Duration getKeepAlive() {
+            return this.keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public Duration getMaxIdleTime() {
+            return this.maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getValidateAfterInactivity() {
+            return this.validateAfterInactivity;
+        }
+
+        public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+            this.validateAfterInactivity = validateAfterInactivity;
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.web.embedded.netty;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Customization for Netty-specific features.
+ *
+ * @author agent (agent@local)
+ */
+public final class NettyCustomizer {
+
+    private NettyCustomizer() {
+    }
+
+    public static void customizeNetty(ServerProperties serverProperties,
+                                      NettyReactiveWebServerFactory factory) {
+        ServerProperties.Netty nettyProperties = serverProperties.getNetty();
+        PropertyMapper propertyMapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        propertyMapper.from(nettyProperties::getSelectorThreads)
+                .to(factory::setSelectorThreads);
+        propertyMapper.from(nettyProperties::getWorkerThreads)
+                .to(factory::setWorkerThreads);
+        propertyMapper.from(nettyProperties::getUseNativeTransport)
+                .to(factory::setUseNativeTransport);
+        if (nettyProperties.getPooledBuffers() != null
+                || nettyProperties.getDirectBuffers() != null) {
+            customizeAllocator(factory, createAllocator(nettyProperties));
+        }
+        propertyMapper.from(serverProperties::getMaxHttpHeaderSize)
+                .when(NettyCustomizer::isPositive)
+                .to((maxHttpHeaderSize) -> customizeMaxHttpHeaderSize(factory,
+                        maxHttpHeaderSize));
+        propertyMapper.from(nettyProperties::getMaxInitialLineLength)
+                .when(NettyCustomizer::isPositive)
+                .to((maxInitialLineLength) -> customizeMaxInitialLineLength(factory,
+                        maxInitialLineLength));
+        propertyMapper.from(nettyProperties::getIdleTimeout)
+                .when((idleTimeout) -> !idleTimeout.isNegative() && !idleTimeout.isZero())
+                .to((idleTimeout) -> customizeIdleTimeout(factory, idleTimeout));
+    }
+
+    private static boolean isPositive(Number value) {
+        return value.longValue() > 0;
+    }
+
+    private static ByteBufAllocator createAllocator(
+            ServerProperties.Netty nettyProperties) {
+        boolean direct = !Boolean.FALSE.equals(nettyProperties.getDirectBuffers());
+        if (Boolean.FALSE.equals(nettyProperties.getPooledBuffers())) {
+            return new UnpooledByteBufAllocator(direct);
+        }
+        return new PooledByteBufAllocator(direct);
+    }
+
+    private static void customizeAllocator(NettyReactiveWebServerFactory factory,
+                                           ByteBufAllocator allocator) {
+        factory.addServerCustomizers(
+                (options) -> options.option(ChannelOption.ALLOCATOR, allocator));
+    }
+
+    private static void customizeMaxHttpHeaderSize(NettyReactiveWebServerFactory factory,
+                                                   int maxHttpHeaderSize) {
+        factory.addServerCustomizers(
+                (options) -> options.maxHeaderSize(maxHttpHeaderSize));
+    }
+
+    private static void customizeMaxInitialLineLength(
+            NettyReactiveWebServerFactory factory, int maxInitialLineLength) {
+        factory.addServerCustomizers(
+                (options) -> options.maxInitialLineLength(maxInitialLineLength));
+    }
+
+    private static void customizeIdleTimeout(NettyReactiveWebServerFactory factory,
+                                             Duration idleTimeout) {
+        long idleTimeoutMillis = idleTimeout.toMillis();
+        factory.addServerCustomizers((options) -> options
+                .afterChannelInit((channel) -> channel.pipeline().addFirst(
+                        new IdleStateHandler(0, 0, idleTimeoutMillis,
+                                TimeUnit.MILLISECONDS),
+                        new IdleConnectionCloser())));
+    }
+
+    /**
+     * Handler that closes a connection once it has been idle for too long.
+     */
+    private static class IdleConnectionCloser extends ChannelDuplexHandler {
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object event)
+                throws Exception {
+            if (event instanceof IdleStateEvent) {
+                ctx.close();
+                return;
+            }
+            super.userEventTriggered(ctx, event);
+        }
+
+    }
+
+}
@@ -18,10 +18,12 @@ package org.springframework.boot.autoconfigure.web.reactive;
 
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.autoconfigure.web.embedded.jetty.JettyCustomizer;
+import org.springframework.boot.autoconfigure.web.embedded.netty.NettyCustomizer;
 import org.springframework.boot.autoconfigure.web.embedded.tomcat.TomcatCustomizer;
 import org.springframework.boot.autoconfigure.web.embedded.undertow.UndertowCustomizer;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.web.embedded.jetty.JettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.undertow.UndertowReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ConfigurableReactiveWebServerFactory;
@@ -67,6 +69,7 @@ public class DefaultReactiveWebServerFactoryCustomizer
         map.from(this.serverProperties::getSsl).to(factory::setSsl);
         map.from(this.serverProperties::getCompression).to(factory::setCompression);
         map.from(this.serverProperties::getHttp2).to(factory::setHttp2);
+        map.from(this.serverProperties::getShutdown).to(factory::setShutdown);
         map.from(() -> factory).whenInstanceOf(TomcatReactiveWebServerFactory.class).to(
                 (tomcatFactory) -> TomcatCustomizer.customizeTomcat(this.serverProperties,
                         this.environment, tomcatFactory));
@@ -76,6 +79,9 @@ public class DefaultReactiveWebServerFactoryCustomizer
         map.from(() -> factory).whenInstanceOf(UndertowReactiveWebServerFactory.class)
                 .to((undertowFactory) -> UndertowCustomizer.customizeUndertow(
                         this.serverProperties, this.environment, undertowFactory));
+        map.from(() -> factory).whenInstanceOf(NettyReactiveWebServerFactory.class).to(
+                (nettyFactory) -> NettyCustomizer.customizeNetty(this.serverProperties,
+                        nettyFactory));
     }
 
 }
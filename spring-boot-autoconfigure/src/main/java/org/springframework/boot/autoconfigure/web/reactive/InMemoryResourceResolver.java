@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import org.springframework.boot.autoconfigure.web.CachedResource;
+import org.springframework.boot.autoconfigure.web.ResourceContentCache;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.resource.AbstractResourceResolver;
+import org.springframework.web.reactive.resource.HttpResource;
+import org.springframework.web.reactive.resource.ResourceResolverChain;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@link org.springframework.web.reactive.resource.ResourceResolver} that serves the
+ * content of the resolved resources from a {@link ResourceContentCache}. Resources
+ * that are files are expected to be excluded by the cache as they are already written
+ * to the response using zero-copy transfer. Content is read on the given
+ * {@link Scheduler} to keep blocking I/O off the event loop.
+ *
+ * @author agent (agent@local)
+ */
+class InMemoryResourceResolver extends AbstractResourceResolver {
+
+    private final ResourceContentCache cache;
+
+    private final Scheduler scheduler;
+
+    InMemoryResourceResolver(ResourceContentCache cache, Scheduler scheduler) {
+        this.cache = cache;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected Mono<Resource> resolveResourceInternal(ServerWebExchange exchange,
+                                                     String requestPath, List<? extends Resource> locations,
+                                                     ResourceResolverChain chain) {
+        return chain.resolveResource(exchange, requestPath, locations)
+                .flatMap((resource) -> Mono.fromCallable(() -> cache(resource))
+                        .subscribeOn(this.scheduler));
+    }
+
+    private Resource cache(Resource resource) {
+        try {
+            ResourceContentCache.Entry entry = this.cache.get(resource);
+            if (entry != null) {
+                return new HttpCachedResource(resource, this.cache);
+            }
+        } catch (IOException ex) {
+            this.logger.debug("Failed to cache resource [" + resource + "]", ex);
+        }
+        return resource;
+    }
+
+    @Override
+    protected Mono<String> resolveUrlPathInternal(String resourceUrlPath,
+                                                  List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * {@link CachedResource} whose response headers are applied by the resource
+     * handler.
+     */
+    private static final class HttpCachedResource extends CachedResource
+            implements HttpResource {
+
+        HttpCachedResource(Resource resource, ResourceContentCache cache) {
+            super(resource, getResourceHeaders(resource), cache);
+        }
+
+        private static HttpHeaders getResourceHeaders(Resource resource) {
+            return (resource instanceof HttpResource
+                    ? ((HttpResource) resource).getResponseHeaders() : new HttpHeaders());
+        }
+
+    }
+
+}
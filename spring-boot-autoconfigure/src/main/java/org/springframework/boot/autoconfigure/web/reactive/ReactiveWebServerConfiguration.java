@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +19,15 @@ package org.springframework.boot.autoconfigure.web.reactive;
 import io.undertow.Undertow;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.reactor.netty.ReactorResourceFactoryConfiguration;
 import org.springframework.boot.web.embedded.jetty.JettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.ReactorResourceFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.undertow.UndertowReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import reactor.ipc.netty.http.server.HttpServer;
 
 /**
@@ -39,11 +42,15 @@ abstract class ReactiveWebServerConfiguration {
 
     @ConditionalOnMissingBean(ReactiveWebServerFactory.class)
     @ConditionalOnClass({HttpServer.class})
+    @Import(ReactorResourceFactoryConfiguration.class)
     static class ReactorNettyAutoConfiguration {
 
         @Bean
-        public NettyReactiveWebServerFactory NettyReactiveWebServerFactory() {
-            return new NettyReactiveWebServerFactory();
+        public NettyReactiveWebServerFactory NettyReactiveWebServerFactory(
+                ReactorResourceFactory resourceFactory) {
+            NettyReactiveWebServerFactory serverFactory = new NettyReactiveWebServerFactory();
+            serverFactory.setResourceFactory(resourceFactory);
+            return serverFactory;
         }
 
     }
@@ -18,6 +18,7 @@ package org.springframework.boot.autoconfigure.web.reactive;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,10 +32,16 @@ import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.boot.autoconfigure.validation.ValidatorAdapter;
 import org.springframework.boot.autoconfigure.web.ConditionalOnEnabledResourceChain;
+import org.springframework.boot.autoconfigure.web.ResourceContentCache;
+import org.springframework.boot.autoconfigure.web.ResourceContentCoding;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
+import org.springframework.boot.autoconfigure.web.ResourceVersionManifest;
 import org.springframework.boot.autoconfigure.web.format.WebConversionService;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -42,25 +49,34 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.format.Formatter;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.format.support.FormattingConversionService;
 import org.springframework.http.CacheControl;
 import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ClassUtils;
 import org.springframework.validation.Validator;
 import org.springframework.web.reactive.config.*;
 import org.springframework.web.reactive.resource.AppCacheManifestTransformer;
+import org.springframework.web.reactive.resource.CachingResourceTransformer;
 import org.springframework.web.reactive.resource.GzipResourceResolver;
 import org.springframework.web.reactive.resource.ResourceResolver;
 import org.springframework.web.reactive.resource.VersionResourceResolver;
 import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
 import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
 import org.springframework.web.reactive.result.view.ViewResolver;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -251,16 +267,33 @@ public class WebFluxAutoConfiguration {
     }
 
     private static class ResourceChainResourceHandlerRegistrationCustomizer
-            implements ResourceHandlerRegistrationCustomizer {
+            implements ResourceHandlerRegistrationCustomizer, ResourceLoaderAware,
+            DisposableBean {
+
+        private static final String RESOURCE_CHAIN_CACHE_NAME = "spring-resource-chain-cache";
 
         @Autowired
         private ResourceProperties resourceProperties = new ResourceProperties();
 
+        private ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+        private ResourceContentCache resourceContentCache;
+
+        private Scheduler resourceContentScheduler;
+
         @Override
         public void customize(ResourceHandlerRegistration registration) {
             ResourceProperties.Chain properties = this.resourceProperties.getChain();
-            configureResourceChain(properties,
-                    registration.resourceChain(properties.isCache()));
+            boolean cacheByContentCoding = properties.isCache()
+                    && properties.isCompressed();
+            ResourceChainRegistration chain = registration
+                    .resourceChain(properties.isCache() && !cacheByContentCoding);
+            if (cacheByContentCoding) {
+                Cache cache = new ConcurrentMapCache(RESOURCE_CHAIN_CACHE_NAME);
+                chain.addResolver(new ContentCodingCachingResourceResolver(cache));
+                chain.addTransformer(new CachingResourceTransformer(cache));
+            }
+            configureResourceChain(properties, chain);
         }
 
         private void configureResourceChain(ResourceProperties.Chain properties,
@@ -269,7 +302,18 @@ public class WebFluxAutoConfiguration {
             if (strategy.getFixed().isEnabled() || strategy.getContent().isEnabled()) {
                 chain.addResolver(getVersionResourceResolver(strategy));
             }
-            if (properties.isGzipped()) {
+            if (properties.getMemory().isEnabled()) {
+                chain.addResolver(new InMemoryResourceResolver(
+                        getResourceContentCache(properties.getMemory()),
+                        getResourceContentScheduler()));
+            }
+            if (properties.isCompressed()) {
+                chain.addResolver(new PrecompressedResourceResolver(
+                        ResourceContentCoding.values()));
+            } else if (properties.isGzipped() && properties.getMemory().isEnabled()) {
+                chain.addResolver(
+                        new PrecompressedResourceResolver(ResourceContentCoding.GZIP));
+            } else if (properties.isGzipped()) {
                 chain.addResolver(new GzipResourceResolver());
             }
             if (properties.isHtmlApplicationCache()) {
@@ -277,6 +321,35 @@ public class WebFluxAutoConfiguration {
             }
         }
 
+        private ResourceContentCache getResourceContentCache(
+                ResourceProperties.Memory properties) {
+            if (this.resourceContentCache == null) {
+                // Files are left to zero-copy transfer rather than being held in memory
+                this.resourceContentCache = new ResourceContentCache(
+                        properties.getMaxSize(), properties.getMaxFileSize(), false);
+            }
+            return this.resourceContentCache;
+        }
+
+        private Scheduler getResourceContentScheduler() {
+            if (this.resourceContentScheduler == null) {
+                int threads = Runtime.getRuntime().availableProcessors();
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60,
+                        TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                        createThreadFactory());
+                executor.allowCoreThreadTimeOut(true);
+                this.resourceContentScheduler = Schedulers.fromExecutorService(executor);
+            }
+            return this.resourceContentScheduler;
+        }
+
+        private static CustomizableThreadFactory createThreadFactory() {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+                    "resource-content-");
+            threadFactory.setDaemon(true);
+            return threadFactory;
+        }
+
         private ResourceResolver getVersionResourceResolver(
                 ResourceProperties.Strategy properties) {
             VersionResourceResolver resolver = new VersionResourceResolver();
@@ -287,11 +360,45 @@ public class WebFluxAutoConfiguration {
             }
             if (properties.getContent().isEnabled()) {
                 String[] paths = properties.getContent().getPaths();
-                resolver.addContentVersionStrategy(paths);
+                ResourceVersionManifest manifest = loadResourceVersionManifest(
+                        properties.getContent());
+                if (manifest != null) {
+                    resolver.addVersionStrategy(
+                            new ManifestContentVersionStrategy(manifest), paths);
+                } else {
+                    resolver.addContentVersionStrategy(paths);
+                }
             }
             return resolver;
         }
 
+        private ResourceVersionManifest loadResourceVersionManifest(
+                ResourceProperties.Content properties) {
+            String location = properties.getManifestLocation();
+            if (location == null) {
+                return null;
+            }
+            try {
+                return ResourceVersionManifest
+                        .load(this.resourceLoader.getResource(location));
+            } catch (IOException ex) {
+                throw new IllegalStateException(
+                        "Failed to load resource version manifest from " + location, ex);
+            }
+        }
+
+        @Override
+        public void setResourceLoader(ResourceLoader resourceLoader) {
+            this.resourceLoader = resourceLoader;
+        }
+
+        @Override
+        public void destroy() {
+            if (this.resourceContentScheduler != null) {
+                this.resourceContentScheduler.dispose();
+            }
+        }
+
     }
 
 }
@@ -147,6 +147,9 @@ public class DefaultErrorWebExceptionHandler extends AbstractErrorWebExceptionHa
      * @return if the stacktrace attribute should be included
      */
     protected boolean isIncludeStackTrace(ServerRequest request, MediaType produces) {
+        if (this.errorProperties.isCacheAttributes()) {
+            return false;
+        }
         ErrorProperties.IncludeStacktrace include = this.errorProperties
                 .getIncludeStacktrace();
         if (include == ErrorProperties.IncludeStacktrace.ALWAYS) {
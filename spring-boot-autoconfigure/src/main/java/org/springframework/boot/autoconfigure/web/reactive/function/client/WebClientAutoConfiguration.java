@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package org.springframework.boot.autoconfigure.web.reactive.function.client;
 
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -23,18 +27,27 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.reactor.netty.ReactorNettyProperties;
+import org.springframework.boot.autoconfigure.reactor.netty.ReactorResourceFactoryConfiguration;
 import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.ReactorResourceFactory;
 import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.ipc.netty.http.client.HttpClient;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for {@link WebClient}.
@@ -42,7 +55,9 @@ import java.util.List;
  * This will produce a
  * {@link org.springframework.web.reactive.function.client.WebClient.Builder
  * WebClient.Builder} bean with the {@code prototype} scope, meaning each injection point
- * will receive a newly cloned instance of the builder.
+ * will receive a newly cloned instance of the builder. The builder uses the unique
+ * {@link ClientHttpConnector} bean, if any. When Reactor Netty is available, a connector
+ * backed by the shared {@link ReactorResourceFactory} is auto-configured.
  *
  * @author Brian Clozel
  * @since 2.0.0
@@ -55,8 +70,13 @@ public class WebClientAutoConfiguration {
     private final WebClient.Builder webClientBuilder;
 
     public WebClientAutoConfiguration(
-            ObjectProvider<List<WebClientCustomizer>> customizerProvider) {
+            ObjectProvider<List<WebClientCustomizer>> customizerProvider,
+            ObjectProvider<ClientHttpConnector> clientHttpConnector) {
         this.webClientBuilder = WebClient.builder();
+        ClientHttpConnector connector = clientHttpConnector.getIfUnique();
+        if (connector != null) {
+            this.webClientBuilder.clientConnector(connector);
+        }
         List<WebClientCustomizer> customizers = customizerProvider.getIfAvailable();
         if (!CollectionUtils.isEmpty(customizers)) {
             customizers = new ArrayList<>(customizers);
@@ -87,4 +107,49 @@ public class WebClientAutoConfiguration {
 
     }
 
+    @Configuration
+    @ConditionalOnClass(HttpClient.class)
+    @Import(ReactorResourceFactoryConfiguration.class)
+    protected static class ReactorNettyClientConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(ClientHttpConnector.class)
+        public ReactorClientHttpConnector reactorClientHttpConnector(
+                ReactorResourceFactory resourceFactory,
+                ReactorNettyProperties properties) {
+            Duration idleTimeout = properties.getClientIdleTimeout();
+            return new ReactorClientHttpConnector((options) -> {
+                options.loopResources(resourceFactory.getLoopResources())
+                        .poolResources(resourceFactory.getConnectionPool());
+                if (idleTimeout != null && !idleTimeout.isNegative()
+                        && !idleTimeout.isZero()) {
+                    long idleTimeoutMillis = idleTimeout.toMillis();
+                    options.afterChannelInit((channel) -> channel.pipeline().addFirst(
+                            new IdleStateHandler(0, 0, idleTimeoutMillis,
+                                    TimeUnit.MILLISECONDS),
+                            new IdleTimeoutHandler()));
+                }
+            });
+        }
+
+        /**
+         * Handler that closes a client connection once it has had no reads or writes
+         * for the idle timeout, whether it is pooled or serving a request.
+         */
+        private static class IdleTimeoutHandler extends ChannelDuplexHandler {
+
+            @Override
+            public void userEventTriggered(ChannelHandlerContext ctx, Object event)
+                    throws Exception {
+                if (event instanceof IdleStateEvent) {
+                    ctx.close();
+                    return;
+                }
+                super.userEventTriggered(ctx, event);
+            }
+
+        }
+
+    }
+
 }
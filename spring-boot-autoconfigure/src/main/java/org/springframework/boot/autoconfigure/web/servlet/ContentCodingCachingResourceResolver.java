@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.springframework.boot.autoconfigure.web.ResourceContentCoding;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.CachingResourceResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+
+/**
+ * {@link CachingResourceResolver} that keys resolved resources by all of the
+ * {@link ResourceContentCoding content codings} accepted by the request, rather than
+ * only by whether gzip is accepted, so that precompressed variants are never served
+ * to clients that cannot decode them.
+ *
+ * @author agent (agent@local)
+ */
+class ContentCodingCachingResourceResolver extends CachingResourceResolver {
+
+    ContentCodingCachingResourceResolver(Cache cache) {
+        super(cache);
+    }
+
+    @Override
+    protected String computeKey(HttpServletRequest request, String requestPath) {
+        StringBuilder key = new StringBuilder(RESOLVED_RESOURCE_CACHE_KEY_PREFIX);
+        key.append(requestPath);
+        if (request != null) {
+            List<ResourceContentCoding> codings = ResourceContentCoding
+                    .getAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            for (ResourceContentCoding coding : codings) {
+                key.append("+encoding=").append(coding.getName());
+            }
+        }
+        return key.toString();
+    }
+
+}
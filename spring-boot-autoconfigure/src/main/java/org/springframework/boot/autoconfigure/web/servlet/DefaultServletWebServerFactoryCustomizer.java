@@ -81,6 +81,7 @@ public class DefaultServletWebServerFactoryCustomizer
                 .to(factory::setJsp);
         map.from(this.serverProperties::getCompression).to(factory::setCompression);
         map.from(this.serverProperties::getHttp2).to(factory::setHttp2);
+        map.from(this.serverProperties::getShutdown).to(factory::setShutdown);
         map.from(this.serverProperties::getServerHeader).to(factory::setServerHeader);
         map.from(() -> factory).whenInstanceOf(TomcatServletWebServerFactory.class)
                 .to((tomcatFactory) -> {
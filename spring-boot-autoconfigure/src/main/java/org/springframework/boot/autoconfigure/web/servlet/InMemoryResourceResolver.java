@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.springframework.boot.autoconfigure.web.CachedResource;
+import org.springframework.boot.autoconfigure.web.ResourceContentCache;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@link org.springframework.web.servlet.resource.ResourceResolver} that serves the
+ * content of the resolved resources from a {@link ResourceContentCache}.
+ *
+ * @author agent (agent@local)
+ */
+class InMemoryResourceResolver extends AbstractResourceResolver {
+
+    private final ResourceContentCache cache;
+
+    InMemoryResourceResolver(ResourceContentCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request,
+                                               String requestPath, List<? extends Resource> locations,
+                                               ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null) {
+            return null;
+        }
+        try {
+            ResourceContentCache.Entry entry = this.cache.get(resource);
+            if (entry != null) {
+                return new HttpCachedResource(resource, this.cache);
+            }
+        } catch (IOException ex) {
+            this.logger.debug("Failed to cache resource [" + resource + "]", ex);
+        }
+        return resource;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath,
+                                            List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * {@link CachedResource} whose response headers are applied by the resource
+     * handler.
+     */
+    private static final class HttpCachedResource extends CachedResource
+            implements HttpResource {
+
+        HttpCachedResource(Resource resource, ResourceContentCache cache) {
+            super(resource, getResourceHeaders(resource), cache);
+        }
+
+        private static HttpHeaders getResourceHeaders(Resource resource) {
+            return (resource instanceof HttpResource
+                    ? ((HttpResource) resource).getResponseHeaders() : new HttpHeaders());
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.springframework.boot.autoconfigure.web.ResourceVersionManifest;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+
+/**
+ * {@link ContentVersionStrategy} that uses the content hashes of a
+ * {@link ResourceVersionManifest} generated at build time, only hashing resources that
+ * are not listed in the manifest.
+ *
+ * @author agent (agent@local)
+ */
+class ManifestContentVersionStrategy extends ContentVersionStrategy {
+
+    private final ResourceVersionManifest manifest;
+
+    ManifestContentVersionStrategy(ResourceVersionManifest manifest) {
+        this.manifest = manifest;
+    }
+
+    @Override
+    public String getResourceVersion(Resource resource) {
+        String version = this.manifest.getVersion(resource);
+        return (version != null ? version : super.getResourceVersion(resource));
+    }
+
+}
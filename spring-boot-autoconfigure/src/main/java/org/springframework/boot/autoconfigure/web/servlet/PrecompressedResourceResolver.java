@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.springframework.boot.autoconfigure.web.EncodedResource;
+import org.springframework.boot.autoconfigure.web.ResourceContentCoding;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link org.springframework.web.servlet.resource.ResourceResolver} that resolves the
+ * precompressed variant of a resource, for example {@code app.js.br} or
+ * {@code app.js.gz}, that best matches the request's {@code Accept-Encoding} header.
+ *
+ * @author agent (agent@local)
+ */
+class PrecompressedResourceResolver extends AbstractResourceResolver {
+
+    private final Set<ResourceContentCoding> codings;
+
+    PrecompressedResourceResolver(ResourceContentCoding... codings) {
+        this.codings = EnumSet.copyOf(Arrays.asList(codings));
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request,
+                                               String requestPath, List<? extends Resource> locations,
+                                               ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null || request == null) {
+            return resource;
+        }
+        for (ResourceContentCoding coding : ResourceContentCoding
+                .getAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            if (!this.codings.contains(coding)) {
+                continue;
+            }
+            try {
+                Resource encoded = resource
+                        .createRelative(resource.getFilename() + coding.getExtension());
+                if (encoded.isReadable()) {
+                    return new HttpEncodedResource(resource, encoded, coding);
+                }
+            } catch (IOException ex) {
+                this.logger.trace("No " + coding.getName() + " variant of resource ["
+                        + resource.getFilename() + "]", ex);
+            }
+        }
+        return resource;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath,
+                                            List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * {@link EncodedResource} whose response headers are applied by the resource
+     * handler.
+     */
+    private static final class HttpEncodedResource extends EncodedResource
+            implements HttpResource {
+
+        HttpEncodedResource(Resource original, Resource encoded,
+                            ResourceContentCoding coding) {
+            super(original, encoded, coding);
+        }
+
+    }
+
+}
@@ -38,6 +38,7 @@ import org.springframework.boot.autoconfigure.condition.SearchStrategy;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration.BeanPostProcessorsRegistrar;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerWorkerPoolMonitor;
 import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
@@ -80,6 +81,13 @@ public class ServletWebServerFactoryAutoConfiguration {
         return new DefaultServletWebServerFactoryCustomizer(serverProperties);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public WebServerWorkerPoolMonitor webServerWorkerPoolMonitor(
+            ServerProperties serverProperties) {
+        return new WebServerWorkerPoolMonitor(serverProperties.getWorkerPool());
+    }
+
     /**
      * Nested configuration if Tomcat is being used.
      */
@@ -33,13 +33,18 @@ import org.springframework.boot.autoconfigure.template.TemplateAvailabilityProvi
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.boot.autoconfigure.validation.ValidatorAdapter;
 import org.springframework.boot.autoconfigure.web.ConditionalOnEnabledResourceChain;
+import org.springframework.boot.autoconfigure.web.ResourceContentCache;
+import org.springframework.boot.autoconfigure.web.ResourceContentCoding;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
+import org.springframework.boot.autoconfigure.web.ResourceVersionManifest;
 import org.springframework.boot.autoconfigure.web.ResourceProperties.Strategy;
 import org.springframework.boot.autoconfigure.web.format.WebConversionService;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.filter.OrderedHiddenHttpMethodFilter;
 import org.springframework.boot.web.servlet.filter.OrderedHttpPutFormContentFilter;
 import org.springframework.boot.web.servlet.filter.OrderedRequestContextFilter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.*;
@@ -47,6 +52,7 @@ import org.springframework.core.Ordered;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.format.Formatter;
@@ -85,6 +91,7 @@ import org.springframework.web.servlet.view.ContentNegotiatingViewResolver;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 
 import javax.servlet.Servlet;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
@@ -547,16 +554,30 @@ public class WebMvcAutoConfiguration {
     }
 
     private static class ResourceChainResourceHandlerRegistrationCustomizer
-            implements ResourceHandlerRegistrationCustomizer {
+            implements ResourceHandlerRegistrationCustomizer, ResourceLoaderAware {
+
+        private static final String RESOURCE_CHAIN_CACHE_NAME = "spring-resource-chain-cache";
 
         @Autowired
         private ResourceProperties resourceProperties = new ResourceProperties();
 
+        private ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+        private ResourceContentCache resourceContentCache;
+
         @Override
         public void customize(ResourceHandlerRegistration registration) {
             ResourceProperties.Chain properties = this.resourceProperties.getChain();
-            configureResourceChain(properties,
-                    registration.resourceChain(properties.isCache()));
+            boolean cacheByContentCoding = properties.isCache()
+                    && properties.isCompressed();
+            ResourceChainRegistration chain = registration
+                    .resourceChain(properties.isCache() && !cacheByContentCoding);
+            if (cacheByContentCoding) {
+                Cache cache = new ConcurrentMapCache(RESOURCE_CHAIN_CACHE_NAME);
+                chain.addResolver(new ContentCodingCachingResourceResolver(cache));
+                chain.addTransformer(new CachingResourceTransformer(cache));
+            }
+            configureResourceChain(properties, chain);
         }
 
         private void configureResourceChain(ResourceProperties.Chain properties,
@@ -565,7 +586,17 @@ public class WebMvcAutoConfiguration {
             if (strategy.getFixed().isEnabled() || strategy.getContent().isEnabled()) {
                 chain.addResolver(getVersionResourceResolver(strategy));
             }
-            if (properties.isGzipped()) {
+            if (properties.getMemory().isEnabled()) {
+                chain.addResolver(new InMemoryResourceResolver(
+                        getResourceContentCache(properties.getMemory())));
+            }
+            if (properties.isCompressed()) {
+                chain.addResolver(new PrecompressedResourceResolver(
+                        ResourceContentCoding.values()));
+            } else if (properties.isGzipped() && properties.getMemory().isEnabled()) {
+                chain.addResolver(
+                        new PrecompressedResourceResolver(ResourceContentCoding.GZIP));
+            } else if (properties.isGzipped()) {
                 chain.addResolver(new GzipResourceResolver());
             }
             if (properties.isHtmlApplicationCache()) {
@@ -573,6 +604,15 @@ public class WebMvcAutoConfiguration {
             }
         }
 
+        private ResourceContentCache getResourceContentCache(
+                ResourceProperties.Memory properties) {
+            if (this.resourceContentCache == null) {
+                this.resourceContentCache = new ResourceContentCache(
+                        properties.getMaxSize(), properties.getMaxFileSize(), true);
+            }
+            return this.resourceContentCache;
+        }
+
         private ResourceResolver getVersionResourceResolver(
                 ResourceProperties.Strategy properties) {
             VersionResourceResolver resolver = new VersionResourceResolver();
@@ -583,11 +623,38 @@ public class WebMvcAutoConfiguration {
             }
             if (properties.getContent().isEnabled()) {
                 String[] paths = properties.getContent().getPaths();
-                resolver.addContentVersionStrategy(paths);
+                ResourceVersionManifest manifest = loadResourceVersionManifest(
+                        properties.getContent());
+                if (manifest != null) {
+                    resolver.addVersionStrategy(
+                            new ManifestContentVersionStrategy(manifest), paths);
+                } else {
+                    resolver.addContentVersionStrategy(paths);
+                }
             }
             return resolver;
         }
 
+        private ResourceVersionManifest loadResourceVersionManifest(
+                ResourceProperties.Content properties) {
+            String location = properties.getManifestLocation();
+            if (location == null) {
+                return null;
+            }
+            try {
+                return ResourceVersionManifest
+                        .load(this.resourceLoader.getResource(location));
+            } catch (IOException ex) {
+                throw new IllegalStateException(
+                        "Failed to load resource version manifest from " + location, ex);
+            }
+        }
+
+        @Override
+        public void setResourceLoader(ResourceLoader resourceLoader) {
+            this.resourceLoader = resourceLoader;
+        }
+
     }
 
     /**
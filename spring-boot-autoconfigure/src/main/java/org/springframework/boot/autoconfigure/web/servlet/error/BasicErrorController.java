@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -113,6 +113,9 @@ public class BasicErrorController extends AbstractErrorController {
      */
     protected boolean isIncludeStackTrace(HttpServletRequest request,
                                           MediaType produces) {
+        if (getErrorProperties().isCacheAttributes()) {
+            return false;
+        }
         IncludeStacktrace include = getErrorProperties().getIncludeStacktrace();
         if (include == IncludeStacktrace.ALWAYS) {
             return true;
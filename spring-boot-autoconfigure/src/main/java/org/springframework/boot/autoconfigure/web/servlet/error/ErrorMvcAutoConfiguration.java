@@ -29,6 +29,7 @@ import org.springframework.boot.autoconfigure.condition.*;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.autoconfigure.template.TemplateAvailabilityProvider;
 import org.springframework.boot.autoconfigure.template.TemplateAvailabilityProviders;
+import org.springframework.boot.autoconfigure.web.ErrorProperties;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
@@ -100,8 +101,9 @@ public class ErrorMvcAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean(value = ErrorAttributes.class, search = SearchStrategy.CURRENT)
     public DefaultErrorAttributes errorAttributes() {
-        return new DefaultErrorAttributes(
-                this.serverProperties.getError().isIncludeException());
+        ErrorProperties error = this.serverProperties.getError();
+        return new DefaultErrorAttributes(error.isIncludeException(),
+                error.isCacheAttributes());
     }
 
     @Bean
@@ -144,12 +146,19 @@ public class ErrorMvcAutoConfiguration {
     @Conditional(ErrorTemplateMissingCondition.class)
     protected static class WhitelabelErrorViewConfiguration {
 
-        private final SpelView defaultErrorView = new SpelView(
-                "<html><body><h1>Whitelabel Error Page</h1>"
-                        + "<p>This application has no explicit mapping for /error, so you are seeing this as a fallback.</p>"
-                        + "<div id='created'>${timestamp}</div>"
-                        + "<div>There was an unexpected error (type=${error}, status=${status}).</div>"
-                        + "<div>${message}</div></body></html>");
+        private static final String TEMPLATE = "<html><body><h1>Whitelabel Error Page</h1>"
+                + "<p>This application has no explicit mapping for /error, so you are seeing this as a fallback.</p>"
+                + "<div id='created'>${timestamp}</div>"
+                + "<div>There was an unexpected error (type=${error}, status=${status}).</div>"
+                + "<div>${message}</div></body></html>";
+
+        private final SpelView defaultErrorView;
+
+        protected WhitelabelErrorViewConfiguration(ServerProperties serverProperties) {
+            // Cached error attributes leave out timestamp and message
+            this.defaultErrorView = new SpelView(TEMPLATE,
+                    serverProperties.getError().isCacheAttributes());
+        }
 
         @Bean(name = "error")
         @ConditionalOnMissingBean(name = "error")
@@ -205,11 +214,14 @@ public class ErrorMvcAutoConfiguration {
 
         private final String template;
 
+        private final boolean ignoreMissingAttributes;
+
         private volatile Map<String, Expression> expressions;
 
-        SpelView(String template) {
+        SpelView(String template, boolean ignoreMissingAttributes) {
             this.helper = new NonRecursivePropertyPlaceholderHelper("${", "}");
             this.template = template;
+            this.ignoreMissingAttributes = ignoreMissingAttributes;
         }
 
         @Override
@@ -229,7 +241,7 @@ public class ErrorMvcAutoConfiguration {
                 response.setContentType(getContentType());
             }
             PlaceholderResolver resolver = new ExpressionResolver(getExpressions(),
-                    model);
+                    model, this.ignoreMissingAttributes);
             String result = this.helper.replacePlaceholders(this.template, resolver);
             response.getWriter().append(result);
         }
@@ -286,10 +298,17 @@ public class ErrorMvcAutoConfiguration {
 
         private final Map<String, Expression> expressions;
 
+        private final Map<String, ?> map;
+
+        private final boolean ignoreMissingAttributes;
+
         private final EvaluationContext context;
 
-        ExpressionResolver(Map<String, Expression> expressions, Map<String, ?> map) {
+        ExpressionResolver(Map<String, Expression> expressions, Map<String, ?> map,
+                           boolean ignoreMissingAttributes) {
             this.expressions = expressions;
+            this.map = map;
+            this.ignoreMissingAttributes = ignoreMissingAttributes;
             this.context = getContext(map);
         }
 
@@ -302,6 +321,9 @@ public class ErrorMvcAutoConfiguration {
 
         @Override
         public String resolvePlaceholder(String placeholderName) {
+            if (this.ignoreMissingAttributes && !this.map.containsKey(placeholderName)) {
+                return "";
+            }
             Expression expression = this.expressions.get(placeholderName);
             return escape(expression == null ? null : expression.getValue(this.context));
         }
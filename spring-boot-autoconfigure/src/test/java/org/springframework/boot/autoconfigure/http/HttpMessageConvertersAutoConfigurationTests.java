@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.boot.autoconfigure.http;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
+import com.google.protobuf.Message;
 import org.junit.Test;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -37,10 +38,13 @@ import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.GsonHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.JsonbHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 
 import javax.json.bind.Jsonb;
@@ -95,6 +99,42 @@ public class HttpMessageConvertersAutoConfigurationTests {
                         "mappingJackson2XmlHttpMessageConverter"));
     }
 
+    @Test
+    public void jacksonSmileConverterWithBuilder() {
+        this.contextRunner.withUserConfiguration(JacksonObjectMapperBuilderConfig.class)
+                .run(assertConverter(MappingJackson2SmileHttpMessageConverter.class,
+                        "mappingJackson2SmileHttpMessageConverter"));
+    }
+
+    @Test
+    public void jacksonCborConverterWithBuilder() {
+        this.contextRunner.withUserConfiguration(JacksonObjectMapperBuilderConfig.class)
+                .run(assertConverter(MappingJackson2CborHttpMessageConverter.class,
+                        "mappingJackson2CborHttpMessageConverter"));
+    }
+
+    @Test
+    public void jacksonSmileConverterUsesSmileFactory() {
+        this.contextRunner.withUserConfiguration(JacksonObjectMapperBuilderConfig.class)
+                .run((context) -> assertThat(context
+                        .getBean(MappingJackson2SmileHttpMessageConverter.class)
+                        .getObjectMapper().getFactory().getFormatName())
+                        .isEqualTo("Smile"));
+    }
+
+    @Test
+    public void protobufConverter() {
+        this.contextRunner.run(assertConverter(ProtobufHttpMessageConverter.class,
+                "protobufHttpMessageConverter"));
+    }
+
+    @Test
+    public void protobufNotAvailable() {
+        this.contextRunner.withClassLoader(new FilteredClassLoader(Message.class))
+                .run((context) -> assertThat(context)
+                        .doesNotHaveBean(ProtobufHttpMessageConverter.class));
+    }
+
     @Test
     public void jacksonCustomConverter() {
         this.contextRunner
@@ -28,6 +28,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategy.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.joda.cfg.FormatConfig;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
@@ -91,6 +92,36 @@ public class JacksonAutoConfigurationTests {
                 });
     }
 
+    @Test
+    public void afterburnerIsNotRegisteredByDefault() {
+        this.contextRunner.run((context) -> {
+            assertThat(context).doesNotHaveBean(AfterburnerModule.class);
+            assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds())
+                    .doesNotContain(AfterburnerModule.class.getName());
+        });
+    }
+
+    @Test
+    public void afterburnerCanBeEnabled() {
+        this.contextRunner.withPropertyValues("spring.jackson.afterburner:true")
+                .withConfiguration(AutoConfigurations
+                        .of(HttpMessageConvertersAutoConfiguration.class))
+                .run((context) -> {
+                    assertThat(context).hasSingleBean(AfterburnerModule.class);
+                    ObjectMapper mapper = context.getBean(ObjectMapper.class);
+                    assertThat(mapper.getRegisteredModuleIds())
+                            .contains(AfterburnerModule.class.getName());
+                    assertThat(context.getBean(Jackson2ObjectMapperBuilder.class)
+                            .build().getRegisteredModuleIds())
+                            .contains(AfterburnerModule.class.getName());
+                    Bar bar = new Bar();
+                    bar.setPropertyName("value");
+                    Bar roundTripped = mapper.readValue(mapper.writeValueAsString(bar),
+                            Bar.class);
+                    assertThat(roundTripped.getPropertyName()).isEqualTo("value");
+                });
+    }
+
     @Test
     public void noCustomDateFormat() {
         this.contextRunner.run((context) -> {
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.reactor.netty;
+
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.netty.ReactorResourceFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.ipc.netty.http.HttpResources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactorResourceFactoryConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+public class ReactorResourceFactoryConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(
+                    AutoConfigurations.of(ReactorResourceFactoryConfiguration.class));
+
+    @Test
+    public void globalResourcesAreUsedByDefault() {
+        this.contextRunner.run((context) -> {
+            ReactorResourceFactory resourceFactory = context
+                    .getBean(ReactorResourceFactory.class);
+            assertThat(resourceFactory.isUseGlobalResources()).isTrue();
+            assertThat(resourceFactory.getLoopResources())
+                    .isSameAs(HttpResources.get());
+            assertThat(resourceFactory.getConnectionPool())
+                    .isSameAs(HttpResources.get());
+        });
+    }
+
+    @Test
+    public void dedicatedResourcesCanBeConfigured() {
+        this.contextRunner
+                .withPropertyValues("spring.reactor.netty.use-global-resources=false",
+                        "spring.reactor.netty.worker-threads=2",
+                        "spring.reactor.netty.pool.max-connections=50",
+                        "spring.reactor.netty.pool.acquire-timeout=5s")
+                .run((context) -> {
+                    ReactorResourceFactory resourceFactory = context
+                            .getBean(ReactorResourceFactory.class);
+                    assertThat(resourceFactory.getLoopResources())
+                            .isNotSameAs(HttpResources.get());
+                    assertThat(resourceFactory.getConnectionPool())
+                            .isNotSameAs(HttpResources.get());
+                });
+    }
+
+    @Test
+    public void userDefinedResourceFactoryIsUsed() {
+        this.contextRunner.withUserConfiguration(CustomResourceFactoryConfig.class)
+                .run((context) -> assertThat(context)
+                        .hasSingleBean(ReactorResourceFactory.class)
+                        .hasBean("customResourceFactory"));
+    }
+
+    @Configuration
+    static class CustomResourceFactoryConfig {
+
+        @Bean
+        public ReactorResourceFactory customResourceFactory() {
+            return new ReactorResourceFactory();
+        }
+
+    }
+
+}
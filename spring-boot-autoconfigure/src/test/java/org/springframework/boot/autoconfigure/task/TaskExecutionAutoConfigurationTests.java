@@ -0,0 +1,188 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.task;
+
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TaskExecutionAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+public class TaskExecutionAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(
+                    AutoConfigurations.of(TaskExecutionAutoConfiguration.class));
+
+    @Test
+    public void taskExecutorIsAutoConfigured() {
+        this.contextRunner.run((context) -> {
+            assertThat(context).hasSingleBean(ThreadPoolTaskExecutor.class);
+            assertThat(context).hasBean("applicationTaskExecutor");
+            assertThat(context.getBean("taskExecutor"))
+                    .isSameAs(context.getBean(ThreadPoolTaskExecutor.class));
+            ThreadPoolTaskExecutor taskExecutor = context
+                    .getBean(ThreadPoolTaskExecutor.class);
+            assertThat(taskExecutor.getCorePoolSize()).isEqualTo(8);
+            assertThat(taskExecutor.getThreadNamePrefix()).isEqualTo("task-");
+        });
+    }
+
+    @Test
+    public void taskExecutorCanBeConfigured() {
+        this.contextRunner.withPropertyValues("spring.task.execution.pool.core-size=2",
+                "spring.task.execution.pool.max-size=4",
+                "spring.task.execution.pool.queue-capacity=10",
+                "spring.task.execution.pool.keep-alive=5s",
+                "spring.task.execution.thread-name-prefix=worker-").run((context) -> {
+                    ThreadPoolTaskExecutor taskExecutor = context
+                            .getBean(ThreadPoolTaskExecutor.class);
+                    assertThat(taskExecutor.getCorePoolSize()).isEqualTo(2);
+                    assertThat(taskExecutor.getMaxPoolSize()).isEqualTo(4);
+                    assertThat(taskExecutor.getKeepAliveSeconds()).isEqualTo(5);
+                    assertThat(taskExecutor.getThreadPoolExecutor().getQueue()
+                            .remainingCapacity()).isEqualTo(10);
+                    assertThat(taskExecutor.getThreadNamePrefix()).isEqualTo("worker-");
+                });
+    }
+
+    @Test
+    public void taskExecutorBacksOffWhenUserDefinesExecutor() {
+        this.contextRunner.withUserConfiguration(CustomExecutorConfig.class)
+                .run((context) -> {
+                    assertThat(context).doesNotHaveBean(ThreadPoolTaskExecutor.class);
+                    assertThat(context).hasSingleBean(Executor.class);
+                });
+    }
+
+    @Test
+    public void taskDecoratorsAreAppliedInOrder() {
+        this.contextRunner.withUserConfiguration(TaskDecoratorConfig.class)
+                .run((context) -> {
+                    TaskDecoratorConfig config = context
+                            .getBean(TaskDecoratorConfig.class);
+                    context.getBean(ThreadPoolTaskExecutor.class)
+                            .submit(() -> config.invocations.add("task")).get(5,
+                                    TimeUnit.SECONDS);
+                    assertThat(config.invocations).containsExactly("first", "second",
+                            "task");
+                });
+    }
+
+    @Test
+    public void asyncMethodsUseAutoConfiguredExecutor() {
+        this.contextRunner.withUserConfiguration(AsyncConfig.class).run((context) -> {
+            String threadName = context.getBean(AsyncService.class).threadName()
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(threadName).startsWith("task-");
+        });
+    }
+
+    @Test
+    public void customizersAreApplied() {
+        this.contextRunner
+                .withUserConfiguration(TaskExecutorCustomizerConfig.class)
+                .run((context) -> assertThat(context
+                        .getBean(ThreadPoolTaskExecutor.class).getThreadNamePrefix())
+                        .isEqualTo("customized-"));
+    }
+
+    @Configuration
+    static class CustomExecutorConfig {
+
+        @Bean
+        public Executor customExecutor() {
+            return new SyncTaskExecutor();
+        }
+
+    }
+
+    @Configuration
+    static class TaskDecoratorConfig {
+
+        private final List<String> invocations = new CopyOnWriteArrayList<>();
+
+        @Bean
+        @Order(2)
+        public TaskDecorator secondDecorator() {
+            return (runnable) -> () -> {
+                this.invocations.add("second");
+                runnable.run();
+            };
+        }
+
+        @Bean
+        @Order(1)
+        public TaskDecorator firstDecorator() {
+            return (runnable) -> () -> {
+                this.invocations.add("first");
+                runnable.run();
+            };
+        }
+
+    }
+
+    @Configuration
+    static class TaskExecutorCustomizerConfig {
+
+        @Bean
+        public TaskExecutorCustomizer taskExecutorCustomizer() {
+            return (taskExecutor) -> taskExecutor.setThreadNamePrefix("customized-");
+        }
+
+    }
+
+    @Configuration
+    @EnableAsync
+    static class AsyncConfig {
+
+        @Bean
+        public AsyncService asyncService() {
+            return new AsyncService();
+        }
+
+    }
+
+    static class AsyncService {
+
+        @Async
+        public CompletableFuture<String> threadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.task;
+
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TaskSchedulingAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+public class TaskSchedulingAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class,
+                    TaskSchedulingAutoConfiguration.class));
+
+    @Test
+    public void noSchedulerWithoutEnableScheduling() {
+        this.contextRunner.run((context) -> assertThat(context)
+                .doesNotHaveBean(TaskScheduler.class));
+    }
+
+    @Test
+    public void schedulerIsAutoConfiguredWithEnableScheduling() {
+        this.contextRunner.withUserConfiguration(SchedulingConfig.class)
+                .withPropertyValues("spring.task.scheduling.pool.size=3",
+                        "spring.task.scheduling.thread-name-prefix=cron-")
+                .run((context) -> {
+                    ThreadPoolTaskScheduler taskScheduler = context
+                            .getBean(ThreadPoolTaskScheduler.class);
+                    assertThat(taskScheduler.getPoolSize()).isEqualTo(3);
+                    assertThat(context.getBean(SchedulingConfig.class).latch.await(5,
+                            TimeUnit.SECONDS)).isTrue();
+                    assertThat(context.getBean(SchedulingConfig.class).threadName)
+                            .startsWith("cron-");
+                    assertThat(context).hasSingleBean(ThreadPoolTaskExecutor.class);
+                });
+    }
+
+    @Test
+    public void schedulerBacksOffWhenUserDefinesScheduler() {
+        this.contextRunner
+                .withUserConfiguration(SchedulingConfig.class,
+                        CustomTaskSchedulerConfig.class)
+                .run((context) -> {
+                    assertThat(context).hasSingleBean(TaskScheduler.class);
+                    assertThat(context.getBean(TaskScheduler.class))
+                            .isInstanceOf(ConcurrentTaskScheduler.class);
+                });
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfig {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private volatile String threadName;
+
+        @Scheduled(fixedRate = 60000)
+        public void run() {
+            this.threadName = Thread.currentThread().getName();
+            this.latch.countDown();
+        }
+
+    }
+
+    @Configuration
+    static class CustomTaskSchedulerConfig {
+
+        @Bean
+        public TaskScheduler customTaskScheduler() {
+            return new ConcurrentTaskScheduler();
+        }
+
+    }
+
+}
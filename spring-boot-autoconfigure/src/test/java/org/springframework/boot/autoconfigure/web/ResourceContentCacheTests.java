@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResourceContentCache}.
+ *
+ * @author agent (agent@local)
+ */
+public class ResourceContentCacheTests {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void contentIsCached() throws IOException {
+        ResourceContentCache cache = new ResourceContentCache(1024, 1024, true);
+        Resource resource = createResource(new byte[]{1, 2, 3});
+        ResourceContentCache.Entry entry = cache.get(resource);
+        assertThat(entry.getContent()).containsExactly(1, 2, 3);
+        assertThat(entry.getLastModified()).isEqualTo(resource.lastModified());
+        assertThat(cache.get(resource)).isSameAs(entry);
+        assertThat(cache.getSize()).isEqualTo(3);
+    }
+
+    @Test
+    public void resourcesLargerThanMaxFileSizeAreNotCached() throws IOException {
+        ResourceContentCache cache = new ResourceContentCache(1024, 2, true);
+        assertThat(cache.get(createResource(new byte[]{1, 2, 3}))).isNull();
+        assertThat(cache.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void leastRecentlyUsedContentIsEvicted() throws IOException {
+        ResourceContentCache cache = new ResourceContentCache(8, 8, true);
+        Resource first = createResource(new byte[4]);
+        Resource second = createResource(new byte[4]);
+        Resource third = createResource(new byte[4]);
+        ResourceContentCache.Entry firstEntry = cache.get(first);
+        ResourceContentCache.Entry secondEntry = cache.get(second);
+        assertThat(cache.get(first)).isSameAs(firstEntry);
+        cache.get(third);
+        assertThat(cache.getSize()).isEqualTo(8);
+        assertThat(cache.get(first)).isSameAs(firstEntry);
+        assertThat(cache.get(second)).isNotSameAs(secondEntry);
+    }
+
+    @Test
+    public void changedFileIsReloaded() throws IOException {
+        ResourceContentCache cache = new ResourceContentCache(1024, 1024, true);
+        Resource resource = createResource(new byte[]{1, 2, 3});
+        cache.get(resource);
+        Files.write(resource.getFile().toPath(), new byte[]{4, 5});
+        ResourceContentCache.Entry entry = cache.get(resource);
+        assertThat(entry.getContent()).containsExactly(4, 5);
+        assertThat(cache.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void fileThatGrowsBeyondMaxFileSizeIsEvicted() throws IOException {
+        ResourceContentCache cache = new ResourceContentCache(1024, 3, true);
+        Resource resource = createResource(new byte[]{1, 2, 3});
+        assertThat(cache.get(resource)).isNotNull();
+        Files.write(resource.getFile().toPath(), new byte[]{1, 2, 3, 4});
+        assertThat(cache.get(resource)).isNull();
+        assertThat(cache.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void filesAreNotCachedWhenExcluded() throws IOException {
+        ResourceContentCache cache = new ResourceContentCache(1024, 1024, false);
+        assertThat(cache.get(createResource(new byte[]{1, 2, 3}))).isNull();
+        assertThat(cache.get(new ByteArrayResource(new byte[]{1, 2, 3})))
+                .isNotNull();
+    }
+
+    private Resource createResource(byte[] content) throws IOException {
+        File file = this.temp.newFile();
+        Files.write(file.toPath(), content);
+        return new FileSystemResource(file);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResourceContentCoding}.
+ *
+ * @author agent (agent@local)
+ */
+public class ResourceContentCodingTests {
+
+    @Test
+    public void noAcceptEncoding() {
+        assertThat(ResourceContentCoding.getAccepted(null)).isEmpty();
+        assertThat(ResourceContentCoding.getAccepted("")).isEmpty();
+    }
+
+    @Test
+    public void brotliIsPreferredOverGzip() {
+        assertThat(ResourceContentCoding.getAccepted("gzip, deflate, br"))
+                .containsExactly(ResourceContentCoding.BROTLI,
+                        ResourceContentCoding.GZIP);
+    }
+
+    @Test
+    public void unsupportedCodingsAreIgnored() {
+        assertThat(ResourceContentCoding.getAccepted("deflate, identity")).isEmpty();
+    }
+
+    @Test
+    public void codingsAreCaseInsensitive() {
+        assertThat(ResourceContentCoding.getAccepted("GZIP"))
+                .containsExactly(ResourceContentCoding.GZIP);
+    }
+
+    @Test
+    public void codingsWithZeroQualityAreRefused() {
+        assertThat(ResourceContentCoding.getAccepted("br;q=0, gzip;q=0.5"))
+                .containsExactly(ResourceContentCoding.GZIP);
+        assertThat(ResourceContentCoding.getAccepted("br; q=0.0, gzip"))
+                .containsExactly(ResourceContentCoding.GZIP);
+    }
+
+}
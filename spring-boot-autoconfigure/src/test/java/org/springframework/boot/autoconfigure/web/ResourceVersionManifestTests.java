@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResourceVersionManifest}.
+ *
+ * @author agent (agent@local)
+ */
+public class ResourceVersionManifestTests {
+
+    private static final String VERSION = "0123456789abcdef0123456789abcdef";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void loadMissingManifest() throws IOException {
+        assertThat(ResourceVersionManifest
+                .load(new ClassPathResource("does-not-exist.properties"))).isNull();
+    }
+
+    @Test
+    public void versionOfClassPathResource() throws IOException {
+        ResourceVersionManifest manifest = loadManifest();
+        assertThat(manifest.size()).isEqualTo(1);
+        assertThat(manifest.getVersion(new ClassPathResource("static/css/app.css")))
+                .isEqualTo(VERSION);
+        assertThat(manifest.getVersion(new ClassPathResource("static/css/other.css")))
+                .isNull();
+    }
+
+    @Test
+    public void versionOfResourceInNestedJar() throws IOException {
+        UrlResource resource = new UrlResource(
+                "jar:file:/app.jar!/BOOT-INF/classes!/static/css/app.css");
+        assertThat(loadManifest().getVersion(resource)).isEqualTo(VERSION);
+    }
+
+    @Test
+    public void precompressedVariantSharesVersionOfOriginal() throws IOException {
+        ResourceVersionManifest manifest = loadManifest();
+        assertThat(manifest.getVersion(new ClassPathResource("static/css/app.css.gz")))
+                .isEqualTo(VERSION);
+        assertThat(manifest.getVersion(new ClassPathResource("static/css/app.css.br")))
+                .isEqualTo(VERSION);
+    }
+
+    @Test
+    public void fileModifiedSinceManifestWasWrittenIsNotListed() throws IOException {
+        File root = this.temp.newFolder();
+        File manifestFile = write(new File(root, "META-INF/resource-versions.properties"),
+                "static/app.js=" + VERSION);
+        File resource = write(new File(root, "static/app.js"), "alert('hello');");
+        long manifestTime = manifestFile.lastModified();
+        assertThat(resource.setLastModified(manifestTime - 10000)).isTrue();
+        ResourceVersionManifest manifest = ResourceVersionManifest
+                .load(new FileSystemResource(manifestFile));
+        assertThat(manifest.getVersion(new FileSystemResource(resource)))
+                .isEqualTo(VERSION);
+        assertThat(resource.setLastModified(manifestTime + 10000)).isTrue();
+        assertThat(manifest.getVersion(new FileSystemResource(resource))).isNull();
+    }
+
+    private File write(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private ResourceVersionManifest loadManifest() throws IOException {
+        return ResourceVersionManifest.load(new ClassPathResource(
+                "org/springframework/boot/autoconfigure/web/resource-versions.properties"));
+    }
+
+}
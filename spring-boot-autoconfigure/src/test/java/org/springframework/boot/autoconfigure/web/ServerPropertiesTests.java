@@ -70,6 +70,17 @@ public class ServerPropertiesTests {
         assertThat(this.properties.getServerHeader()).isEqualTo("Custom Server");
     }
 
+    @Test
+    public void testGracefulShutdownBinding() {
+        Map<String, String> map = new HashMap<>();
+        map.put("server.shutdown.graceful", "true");
+        map.put("server.shutdown.timeout", "15s");
+        bind(map);
+        assertThat(this.properties.getShutdown().isGraceful()).isTrue();
+        assertThat(this.properties.getShutdown().getTimeout())
+                .isEqualTo(Duration.ofSeconds(15));
+    }
+
     @Test
     public void testConnectionTimeout() {
         bind("server.connection-timeout", "60s");
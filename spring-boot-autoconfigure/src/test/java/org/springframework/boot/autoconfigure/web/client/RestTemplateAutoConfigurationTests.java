@@ -16,11 +16,13 @@
 
 package org.springframework.boot.autoconfigure.web.client;
 
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.junit.After;
 import org.junit.Test;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -111,8 +113,50 @@ public class RestTemplateAutoConfigurationTests {
         load(DirtyRestTemplateConfig.class);
     }
 
+    @Test
+    public void connectionPoolIsNotConfiguredByDefault() {
+        load(RestTemplateConfig.class);
+        assertThat(this.context.getBeansOfType(PoolingHttpClientConnectionManager.class))
+                .isEmpty();
+    }
+
+    @Test
+    public void connectionPoolWhenEnabledIsSharedByRestTemplates() {
+        load(new String[] {"spring.resttemplate.pool.enabled=true",
+                        "spring.resttemplate.pool.max-total=50",
+                        "spring.resttemplate.pool.max-per-route=5",
+                        "spring.resttemplate.pool.validate-after-inactivity=5s",
+                        "spring.resttemplate.pool.max-idle-time=30s"},
+                TwoRestTemplatesConfig.class);
+        PoolingHttpClientConnectionManager connectionManager = this.context
+                .getBean(PoolingHttpClientConnectionManager.class);
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(50);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(5);
+        assertThat(connectionManager.getValidateAfterInactivity()).isEqualTo(5000);
+        HttpComponentsClientHttpRequestFactory one = (HttpComponentsClientHttpRequestFactory) this.context
+                .getBean("restTemplateOne", RestTemplate.class).getRequestFactory();
+        HttpComponentsClientHttpRequestFactory two = (HttpComponentsClientHttpRequestFactory) this.context
+                .getBean("restTemplateTwo", RestTemplate.class).getRequestFactory();
+        assertThat(one).isNotSameAs(two);
+        assertThat(one.getHttpClient()).isSameAs(two.getHttpClient());
+    }
+
+    @Test
+    public void connectionPoolWhenEnabledBacksOffFromUserDefinedConnectionManager() {
+        load(new String[] {"spring.resttemplate.pool.enabled=true"},
+                CustomConnectionManagerConfig.class, RestTemplateConfig.class);
+        assertThat(this.context.getBean(PoolingHttpClientConnectionManager.class))
+                .isSameAs(this.context.getBean(CustomConnectionManagerConfig.class)
+                        .connectionManager);
+    }
+
     public void load(Class<?>... config) {
+        load(new String[0], config);
+    }
+
+    private void load(String[] environment, Class<?>... config) {
         AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+        TestPropertyValues.of(environment).applyTo(ctx);
         ctx.register(config);
         ctx.register(RestTemplateAutoConfiguration.class);
         ctx.refresh();
@@ -158,6 +202,33 @@ public class RestTemplateAutoConfigurationTests {
 
     }
 
+    @Configuration
+    static class TwoRestTemplatesConfig {
+
+        @Bean
+        public RestTemplate restTemplateOne(RestTemplateBuilder builder) {
+            return builder.build();
+        }
+
+        @Bean
+        public RestTemplate restTemplateTwo(RestTemplateBuilder builder) {
+            return builder.build();
+        }
+
+    }
+
+    @Configuration
+    static class CustomConnectionManagerConfig {
+
+        private final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+
+        @Bean
+        public PoolingHttpClientConnectionManager customConnectionManager() {
+            return this.connectionManager;
+        }
+
+    }
+
     @Configuration
     static class CustomRestTemplateBuilderConfig {
 
@@ -34,6 +34,7 @@ import org.springframework.boot.context.properties.source.ConfigurationPropertyS
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.boot.web.embedded.jetty.JettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.jetty.JettyWebServer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
 import org.springframework.boot.web.embedded.undertow.UndertowReactiveWebServerFactory;
@@ -51,7 +52,9 @@ import java.util.Map;
 import java.util.TimeZone;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -513,6 +516,42 @@ public class DefaultReactiveWebServerFactoryCustomizerTests {
         verify(factory, never()).setAccessLogEnabled(anyBoolean());
     }
 
+    @Test
+    public void customizeNettyThreadsAndTransport() {
+        Map<String, String> map = new HashMap<>();
+        map.put("server.netty.selector-threads", "1");
+        map.put("server.netty.worker-threads", "8");
+        map.put("server.netty.use-native-transport", "true");
+        bindProperties(map);
+        NettyReactiveWebServerFactory factory = spy(new NettyReactiveWebServerFactory());
+        this.customizer.customize(factory);
+        verify(factory).setSelectorThreads(1);
+        verify(factory).setWorkerThreads(8);
+        verify(factory).setUseNativeTransport(true);
+    }
+
+    @Test
+    public void customizeNettyConnectionSettings() {
+        Map<String, String> map = new HashMap<>();
+        map.put("server.netty.pooled-buffers", "true");
+        map.put("server.netty.max-initial-line-length", "8192");
+        map.put("server.netty.idle-timeout", "30s");
+        map.put("server.max-http-header-size", "16384");
+        bindProperties(map);
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        this.customizer.customize(factory);
+        assertThat(factory.getServerCustomizers()).hasSize(4);
+    }
+
+    @Test
+    public void skipNullElementsForNetty() {
+        NettyReactiveWebServerFactory factory = mock(
+                NettyReactiveWebServerFactory.class);
+        this.customizer.customize(factory);
+        verify(factory, never()).setWorkerThreads(anyInt());
+        verify(factory, never()).addServerCustomizers(any());
+    }
+
     private NCSARequestLog getNCSARequestLog(JettyWebServer webServer) {
         RequestLog requestLog = webServer.getServer().getRequestLog();
         assertThat(requestLog).isInstanceOf(NCSARequestLog.class);
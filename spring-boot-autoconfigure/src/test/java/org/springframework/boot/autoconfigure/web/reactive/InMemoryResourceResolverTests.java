@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.web.CachedResource;
+import org.springframework.boot.autoconfigure.web.ResourceContentCache;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.reactive.resource.ResourceResolverChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link InMemoryResourceResolver}.
+ *
+ * @author agent (agent@local)
+ */
+public class InMemoryResourceResolverTests {
+
+    private final Scheduler scheduler = Schedulers.newSingle("test-resource-content");
+
+    @After
+    public void disposeScheduler() {
+        this.scheduler.dispose();
+    }
+
+    @Test
+    public void contentIsReadOnScheduler() throws IOException {
+        AtomicReference<String> readingThread = new AtomicReference<>();
+        Resource resource = new ByteArrayResource(
+                "content".getBytes(StandardCharsets.UTF_8)) {
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                readingThread.set(Thread.currentThread().getName());
+                return super.getInputStream();
+            }
+
+        };
+        ResourceResolverChain chain = mock(ResourceResolverChain.class);
+        given(chain.resolveResource(any(), anyString(), anyList()))
+                .willReturn(Mono.just(resource));
+        Resource resolved = new InMemoryResourceResolver(
+                new ResourceContentCache(1024, 1024, false), this.scheduler)
+                .resolveResource(
+                        MockServerWebExchange.from(MockServerHttpRequest.get("/app.js")),
+                        "app.js", Collections.emptyList(), chain)
+                .block(Duration.ofSeconds(30));
+        assertThat(resolved).isInstanceOf(CachedResource.class);
+        assertThat(readingThread.get()).startsWith("test-resource-content");
+        assertThat(StreamUtils.copyToString(resolved.getInputStream(),
+                StandardCharsets.UTF_8)).isEqualTo("content");
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.boot.autoconfigure.web.ResourceVersionManifest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.util.DigestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ManifestContentVersionStrategy}.
+ *
+ * @author agent (agent@local)
+ */
+public class ManifestContentVersionStrategyTests {
+
+    private static final String VERSION = "0123456789abcdef0123456789abcdef";
+
+    private static final String CONTENT = "alert('hello');";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void listedResourceUsesVersionFromManifest() throws IOException {
+        File manifestFile = writeManifest();
+        File resource = write(new File(manifestFile.getParentFile().getParentFile(),
+                "static/app.js"), CONTENT);
+        assertThat(resource.setLastModified(manifestFile.lastModified() - 10000))
+                .isTrue();
+        assertThat(getResourceVersion(manifestFile, resource)).isEqualTo(VERSION);
+    }
+
+    @Test
+    public void resourceModifiedSinceManifestWasWrittenIsHashed() throws IOException {
+        File manifestFile = writeManifest();
+        File resource = write(new File(manifestFile.getParentFile().getParentFile(),
+                "static/app.js"), CONTENT);
+        assertThat(resource.setLastModified(manifestFile.lastModified() + 10000))
+                .isTrue();
+        assertThat(getResourceVersion(manifestFile, resource)).isEqualTo(
+                DigestUtils.md5DigestAsHex(CONTENT.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String getResourceVersion(File manifestFile, File resource)
+            throws IOException {
+        ResourceVersionManifest manifest = ResourceVersionManifest
+                .load(new FileSystemResource(manifestFile));
+        return new ManifestContentVersionStrategy(manifest)
+                .getResourceVersion(new FileSystemResource(resource))
+                .block(Duration.ofSeconds(30));
+    }
+
+    private File writeManifest() throws IOException {
+        return write(new File(this.temp.getRoot(), "META-INF/resource-versions.properties"),
+                "static/app.js=" + VERSION);
+    }
+
+    private File write(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+}
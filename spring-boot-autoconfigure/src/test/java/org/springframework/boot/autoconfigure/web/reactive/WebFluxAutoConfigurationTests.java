@@ -44,6 +44,7 @@ import org.springframework.web.reactive.resource.CachingResourceResolver;
 import org.springframework.web.reactive.resource.CachingResourceTransformer;
 import org.springframework.web.reactive.resource.PathResourceResolver;
 import org.springframework.web.reactive.resource.ResourceWebHandler;
+import org.springframework.web.reactive.resource.VersionResourceResolver;
 import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
 import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
@@ -185,6 +186,46 @@ public class WebFluxAutoConfigurationTests {
                 });
     }
 
+    @Test
+    public void resourceHandlerChainWithContentVersionManifest() {
+        this.contextRunner.withPropertyValues(
+                "spring.resources.chain.strategy.content.enabled:true",
+                "spring.resources.chain.strategy.content.manifest-location:"
+                        + "classpath:org/springframework/boot/autoconfigure/web/"
+                        + "resource-versions.properties")
+                .run((context) -> {
+                    SimpleUrlHandlerMapping hm = context.getBean("resourceHandlerMapping",
+                            SimpleUrlHandlerMapping.class);
+                    ResourceWebHandler staticHandler = (ResourceWebHandler) hm.getUrlMap()
+                            .get("/**");
+                    VersionResourceResolver resolver = (VersionResourceResolver) staticHandler
+                            .getResourceResolvers().get(1);
+                    assertThat(resolver.getStrategyMap().get("/**"))
+                            .isInstanceOf(ManifestContentVersionStrategy.class);
+                });
+    }
+
+    @Test
+    public void resourceHandlerChainWithCompressedAndInMemoryResources() {
+        this.contextRunner.withPropertyValues("spring.resources.chain.enabled:true",
+                "spring.resources.chain.compressed:true",
+                "spring.resources.chain.memory.enabled:true").run((context) -> {
+            SimpleUrlHandlerMapping hm = context.getBean("resourceHandlerMapping",
+                    SimpleUrlHandlerMapping.class);
+            ResourceWebHandler staticHandler = (ResourceWebHandler) hm.getUrlMap()
+                    .get("/**");
+            assertThat(staticHandler.getResourceResolvers())
+                    .extractingResultOf("getClass").containsExactly(
+                            ContentCodingCachingResourceResolver.class,
+                            InMemoryResourceResolver.class,
+                            PrecompressedResourceResolver.class,
+                            PathResourceResolver.class);
+            assertThat(staticHandler.getResourceTransformers())
+                    .extractingResultOf("getClass")
+                    .containsOnly(CachingResourceTransformer.class);
+        });
+    }
+
     @Test
     public void shouldRegisterViewResolvers() {
         this.contextRunner.withUserConfiguration(ViewResolvers.class).run((context) -> {
@@ -80,6 +80,24 @@ public class DefaultErrorWebExceptionHandlerIntegrationTests {
         });
     }
 
+    @Test
+    public void jsonErrorWithCachedAttributes() throws Exception {
+        this.contextRunner
+                .withPropertyValues("server.error.cache-attributes=true",
+                        "server.error.include-stacktrace=always")
+                .run((context) -> {
+                    WebTestClient client = WebTestClient.bindToApplicationContext(context)
+                            .build();
+                    client.get().uri("/").exchange().expectStatus()
+                            .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR).expectBody()
+                            .jsonPath("status").isEqualTo("500").jsonPath("error")
+                            .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
+                            .jsonPath("timestamp").doesNotExist().jsonPath("path")
+                            .doesNotExist().jsonPath("message").doesNotExist()
+                            .jsonPath("trace").doesNotExist();
+                });
+    }
+
     @Test
     public void notFound() throws Exception {
         this.contextRunner.run((context) -> {
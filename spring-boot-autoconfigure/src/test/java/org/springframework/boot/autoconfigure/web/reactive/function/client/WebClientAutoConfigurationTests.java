@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.boot.autoconfigure.web.reactive.function.client;
 import org.junit.After;
 import org.junit.Test;
 import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.ReactorResourceFactory;
 import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -26,6 +27,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -108,6 +110,28 @@ public class WebClientAutoConfigurationTests {
         assertThat(builder).isInstanceOf(MyWebClientBuilder.class);
     }
 
+    @Test
+    public void shouldUseReactorClientHttpConnectorBackedBySharedResources() {
+        load();
+        assertThat(this.context.getBean(ClientHttpConnector.class))
+                .isInstanceOf(ReactorClientHttpConnector.class);
+        assertThat(this.context.getBeansOfType(ReactorResourceFactory.class))
+                .hasSize(1);
+    }
+
+    @Test
+    public void shouldUseCustomClientHttpConnector() {
+        load(CustomClientHttpConnectorConfig.class);
+        ClientHttpConnector connector = this.context.getBean(ClientHttpConnector.class);
+        given(connector.connect(any(), any(), any()))
+                .willReturn(Mono.just(mock(ClientHttpResponse.class)));
+        WebClient.Builder builder = this.context.getBean(WebClient.Builder.class);
+        builder.baseUrl("http://example.org").build().get().uri("/foo").exchange()
+                .block();
+        verify(connector).connect(eq(HttpMethod.GET),
+                eq(URI.create("http://example.org/foo")), any());
+    }
+
     private void load(Class<?>... config) {
         AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
         ctx.register(config);
@@ -140,6 +164,16 @@ public class WebClientAutoConfigurationTests {
 
     }
 
+    @Configuration
+    static class CustomClientHttpConnectorConfig {
+
+        @Bean
+        public ClientHttpConnector customClientHttpConnector() {
+            return mock(ClientHttpConnector.class);
+        }
+
+    }
+
     @Configuration
     static class CustomWebClientBuilderConfig {
 
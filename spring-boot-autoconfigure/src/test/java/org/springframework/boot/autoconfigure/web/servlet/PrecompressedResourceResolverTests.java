@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.boot.autoconfigure.web.ResourceContentCache;
+import org.springframework.boot.autoconfigure.web.ResourceContentCoding;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link PrecompressedResourceResolver} and {@link InMemoryResourceResolver}.
+ *
+ * @author agent (agent@local)
+ */
+public class PrecompressedResourceResolverTests {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private final ResourceResolverChain chain = mock(ResourceResolverChain.class);
+
+    private final List<Resource> locations = Collections.emptyList();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @Before
+    public void setUp() throws IOException {
+        File directory = this.temp.newFolder();
+        write(new File(directory, "app.js"), "plain");
+        write(new File(directory, "app.js.gz"), "gzip");
+        given(this.chain.resolveResource(any(), anyString(), anyList()))
+                .willReturn(new FileSystemResource(new File(directory, "app.js")));
+    }
+
+    @Test
+    public void resolvesPlainResourceWhenNoCodingIsAccepted() throws IOException {
+        Resource resource = new PrecompressedResourceResolver(
+                ResourceContentCoding.values()).resolveResource(this.request, "app.js",
+                this.locations, this.chain);
+        assertThat(read(resource)).isEqualTo("plain");
+        assertThat(resource).isNotInstanceOf(HttpResource.class);
+    }
+
+    @Test
+    public void resolvesBestAvailableVariant() throws IOException {
+        this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, br");
+        Resource resource = new PrecompressedResourceResolver(
+                ResourceContentCoding.values()).resolveResource(this.request, "app.js",
+                this.locations, this.chain);
+        assertThat(read(resource)).isEqualTo("gzip");
+        assertThat(resource.getFilename()).isEqualTo("app.js");
+        HttpHeaders headers = ((HttpResource) resource).getResponseHeaders();
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(headers.getFirst(HttpHeaders.VARY))
+                .isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    public void ignoresCodingsThatAreNotEnabled() throws IOException {
+        this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        Resource resource = new PrecompressedResourceResolver(
+                ResourceContentCoding.BROTLI).resolveResource(this.request, "app.js",
+                this.locations, this.chain);
+        assertThat(read(resource)).isEqualTo("plain");
+    }
+
+    @Test
+    public void inMemoryResourceHasEncodingHeaders() throws IOException {
+        this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        Resource encoded = new PrecompressedResourceResolver(
+                ResourceContentCoding.values()).resolveResource(this.request, "app.js",
+                this.locations, this.chain);
+        ResourceResolverChain encodingChain = mock(ResourceResolverChain.class);
+        given(encodingChain.resolveResource(any(), anyString(), anyList()))
+                .willReturn(encoded);
+        ResourceContentCache cache = new ResourceContentCache(1024, 1024, true);
+        Resource resource = new InMemoryResourceResolver(cache)
+                .resolveResource(this.request, "app.js", this.locations, encodingChain);
+        assertThat(read(resource)).isEqualTo("gzip");
+        assertThat(resource.contentLength()).isEqualTo(4);
+        HttpHeaders headers = ((HttpResource) resource).getResponseHeaders();
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(headers.getETag()).isNull();
+    }
+
+    @Test
+    public void inMemoryResourceReflectsChangesToFile() throws IOException {
+        ResourceContentCache cache = new ResourceContentCache(1024, 1024, true);
+        Resource resource = new InMemoryResourceResolver(cache)
+                .resolveResource(this.request, "app.js", this.locations, this.chain);
+        assertThat(read(resource)).isEqualTo("plain");
+        write(resource.getFile(), "changed");
+        assertThat(resource.contentLength()).isEqualTo(7);
+        assertThat(read(resource)).isEqualTo("changed");
+    }
+
+    private void write(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(),
+                StandardCharsets.UTF_8);
+    }
+
+}
@@ -270,6 +270,67 @@ public class WebMvcAutoConfigurationTests {
         });
     }
 
+    @Test
+    public void resourceHandlerChainWithContentVersionManifest() {
+        this.contextRunner.withPropertyValues(
+                "spring.resources.chain.strategy.content.enabled:true",
+                "spring.resources.chain.strategy.content.manifest-location:"
+                        + "classpath:org/springframework/boot/autoconfigure/web/"
+                        + "resource-versions.properties")
+                .run((context) -> {
+                    VersionResourceResolver resolver = (VersionResourceResolver) getResourceResolvers(
+                            context, "/**").get(1);
+                    assertThat(resolver.getStrategyMap().get("/**"))
+                            .isInstanceOf(ManifestContentVersionStrategy.class);
+                });
+    }
+
+    @Test
+    public void resourceHandlerChainWithMissingContentVersionManifest() {
+        this.contextRunner.withPropertyValues(
+                "spring.resources.chain.strategy.content.enabled:true")
+                .run((context) -> {
+                    VersionResourceResolver resolver = (VersionResourceResolver) getResourceResolvers(
+                            context, "/**").get(1);
+                    assertThat(resolver.getStrategyMap().get("/**"))
+                            .isExactlyInstanceOf(ContentVersionStrategy.class);
+                });
+    }
+
+    @Test
+    public void resourceHandlerChainWithCompressedAndInMemoryResources() {
+        this.contextRunner.withPropertyValues("spring.resources.chain.enabled:true",
+                "spring.resources.chain.compressed:true",
+                "spring.resources.chain.memory.enabled:true").run((context) -> {
+            List<ResourceResolver> resolvers = getResourceResolvers(context, "/**");
+            assertThat(resolvers).extractingResultOf("getClass").containsExactly(
+                    ContentCodingCachingResourceResolver.class,
+                    InMemoryResourceResolver.class,
+                    PrecompressedResourceResolver.class, PathResourceResolver.class);
+            assertThat(getResourceTransformers(context, "/**"))
+                    .extractingResultOf("getClass")
+                    .containsOnly(CachingResourceTransformer.class);
+            Object cache = ReflectionTestUtils.getField(resolvers.get(1), "cache");
+            assertThat(ReflectionTestUtils.getField(
+                    getResourceResolvers(context, "/webjars/**").get(1), "cache"))
+                    .isSameAs(cache);
+        });
+    }
+
+    @Test
+    public void resourceHandlerChainWithGzippedAndInMemoryResources() {
+        this.contextRunner.withPropertyValues("spring.resources.chain.enabled:true",
+                "spring.resources.chain.gzipped:true",
+                "spring.resources.chain.memory.enabled:true").run((context) -> {
+            assertThat(getResourceResolvers(context, "/**"))
+                    .extractingResultOf("getClass").containsExactly(
+                            CachingResourceResolver.class,
+                            InMemoryResourceResolver.class,
+                            PrecompressedResourceResolver.class,
+                            PathResourceResolver.class);
+        });
+    }
+
     @Test
     public void noLocaleResolver() {
         this.contextRunner.run(
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -116,6 +116,22 @@ public class BasicErrorControllerIntegrationTests {
         assertThat(entity.getBody().containsKey("trace")).isTrue();
     }
 
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testErrorForMachineClientWithCachedAttributes() {
+        load("--server.error.cache-attributes=true",
+                "--server.error.include-exception=true",
+                "--server.error.include-stacktrace=always");
+        ResponseEntity<Map> entity = new TestRestTemplate()
+                .getForEntity(createUrl("?trace=true"), Map.class);
+        assertThat(entity.getBody().get("status")).isEqualTo("500");
+        assertThat(entity.getBody().get("error")).isEqualTo("Internal Server Error");
+        assertThat(entity.getBody().get("exception"))
+                .isEqualTo(IllegalStateException.class.getName());
+        assertThat(entity.getBody()).doesNotContainKeys("timestamp", "message", "path",
+                "trace");
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testErrorForAnnotatedException() {
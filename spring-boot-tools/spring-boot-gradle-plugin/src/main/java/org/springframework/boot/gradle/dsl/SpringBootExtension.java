@@ -25,8 +25,12 @@ import org.gradle.api.tasks.SourceSet;
 import org.gradle.jvm.tasks.Jar;
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfo;
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfoProperties;
+import org.springframework.boot.gradle.tasks.resources.PrecompressResources;
+import org.springframework.boot.gradle.tasks.resources.ResourceVersions;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.Callable;
 
 /**
  * Entry point to Spring Boot's Gradle DSL.
@@ -114,10 +118,98 @@ public class SpringBootExtension {
         }
     }
 
+    /**
+     * Creates a new {@link PrecompressResources} task named
+     * {@code bootPrecompressResources} that runs once the main source set's resources
+     * have been processed and configures the Java plugin's {@code classes} task to
+     * depend upon it. The compressed variants are added to the main source set's output.
+     */
+    public void precompressResources() {
+        this.precompressResources(null);
+    }
+
+    /**
+     * Creates a new {@link PrecompressResources} task named
+     * {@code bootPrecompressResources} that runs once the main source set's resources
+     * have been processed and configures the Java plugin's {@code classes} task to
+     * depend upon it. The compressed variants are added to the main source set's output.
+     * The task is passed to the given {@code configurer} for further configuration.
+     *
+     * @param configurer the task configurer
+     */
+    public void precompressResources(Action<PrecompressResources> configurer) {
+        PrecompressResources bootPrecompressResources = this.project.getTasks()
+                .create("bootPrecompressResources", PrecompressResources.class);
+        bootPrecompressResources.setGroup(BasePlugin.BUILD_GROUP);
+        bootPrecompressResources.setDescription(
+                "Writes a gzip-compressed variant of each static resource.");
+        bootPrecompressResources.getConventionMapping().map("destinationDir",
+                () -> new File(this.project.getBuildDir(), "precompressed-resources"));
+        this.project.getPlugins().withType(JavaPlugin.class, (plugin) -> {
+            bootPrecompressResources
+                    .dependsOn(JavaPlugin.PROCESS_RESOURCES_TASK_NAME);
+            this.project.getTasks().getByName(JavaPlugin.CLASSES_TASK_NAME)
+                    .dependsOn(bootPrecompressResources);
+            bootPrecompressResources.getConventionMapping().map("resourcesDir",
+                    this::determineMainSourceSetResourcesOutputDir);
+            getMainSourceSet().getOutput().dir(
+                    Collections.singletonMap("builtBy", bootPrecompressResources),
+                    (Callable<File>) bootPrecompressResources::getDestinationDir);
+        });
+        if (configurer != null) {
+            configurer.execute(bootPrecompressResources);
+        }
+    }
+
+    /**
+     * Creates a new {@link ResourceVersions} task named {@code bootResourceVersions}
+     * that runs once the main source set's resources have been processed and
+     * configures the Java plugin's {@code classes} task to depend upon it. The manifest
+     * is added to the main source set's output.
+     */
+    public void resourceVersions() {
+        this.resourceVersions(null);
+    }
+
+    /**
+     * Creates a new {@link ResourceVersions} task named {@code bootResourceVersions}
+     * that runs once the main source set's resources have been processed and
+     * configures the Java plugin's {@code classes} task to depend upon it. The manifest
+     * is added to the main source set's output. The task is passed to the given
+     * {@code configurer} for further configuration.
+     *
+     * @param configurer the task configurer
+     */
+    public void resourceVersions(Action<ResourceVersions> configurer) {
+        ResourceVersions bootResourceVersions = this.project.getTasks()
+                .create("bootResourceVersions", ResourceVersions.class);
+        bootResourceVersions.setGroup(BasePlugin.BUILD_GROUP);
+        bootResourceVersions.setDescription(
+                "Generates a META-INF/resource-versions.properties file.");
+        bootResourceVersions.getConventionMapping().map("destinationDir",
+                () -> new File(this.project.getBuildDir(), "resource-versions"));
+        this.project.getPlugins().withType(JavaPlugin.class, (plugin) -> {
+            bootResourceVersions.dependsOn(JavaPlugin.PROCESS_RESOURCES_TASK_NAME);
+            this.project.getTasks().getByName(JavaPlugin.CLASSES_TASK_NAME)
+                    .dependsOn(bootResourceVersions);
+            bootResourceVersions.getConventionMapping().map("resourcesDir",
+                    this::determineMainSourceSetResourcesOutputDir);
+            getMainSourceSet().getOutput().dir(
+                    Collections.singletonMap("builtBy", bootResourceVersions),
+                    (Callable<File>) bootResourceVersions::getDestinationDir);
+        });
+        if (configurer != null) {
+            configurer.execute(bootResourceVersions);
+        }
+    }
+
     private File determineMainSourceSetResourcesOutputDir() {
+        return getMainSourceSet().getOutput().getResourcesDir();
+    }
+
+    private SourceSet getMainSourceSet() {
         return this.project.getConvention().getPlugin(JavaPluginConvention.class)
-                .getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME).getOutput()
-                .getResourcesDir();
+                .getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME);
     }
 
     private String determineArtifactBaseName() {
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.resources;
+
+import org.gradle.api.Task;
+import org.gradle.api.file.ConfigurableFileTree;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.internal.ConventionTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.TaskExecutionException;
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link Task} for writing a gzip-compressed variant of each text-based static resource
+ * of an application so that it can be served without compressing it on the fly. The
+ * variants are written to a separate {@link #getDestinationDir() destination directory}
+ * so that the task's outputs do not overlap with those of the task that processes the
+ * resources.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class PrecompressResources extends ConventionTask {
+
+    private File resourcesDir;
+
+    private File destinationDir;
+
+    private Set<String> locations = new LinkedHashSet<>(
+            StaticResourceCompressor.DEFAULT_LOCATIONS);
+
+    private Set<String> extensions = new LinkedHashSet<>(
+            StaticResourceCompressor.DEFAULT_EXTENSIONS);
+
+    private int minSize = 1024;
+
+    /**
+     * Writes the compressed variants of the static resources found beneath the
+     * {@link #setResourcesDir(File) resources directory} to the
+     * {@link #setDestinationDir(File) destination directory}, replacing any variants
+     * from a previous execution.
+     */
+    @TaskAction
+    public void precompressResources() {
+        File destinationDir = getDestinationDir();
+        getProject().delete(destinationDir);
+        StaticResourceCompressor compressor = new StaticResourceCompressor(
+                getResourcesDir());
+        compressor.setDestinationDirectory(destinationDir);
+        compressor.setLocations(this.locations);
+        compressor.setExtensions(this.extensions);
+        compressor.setMinSize(this.minSize);
+        try {
+            compressor.compress();
+        } catch (IOException ex) {
+            throw new TaskExecutionException(this, ex);
+        }
+    }
+
+    /**
+     * Returns the directory containing the processed resources of the application.
+     *
+     * @return the resources directory
+     */
+    @Internal
+    public File getResourcesDir() {
+        return this.resourcesDir;
+    }
+
+    /**
+     * Sets the directory containing the processed resources of the application.
+     *
+     * @param resourcesDir the resources directory
+     */
+    public void setResourcesDir(File resourcesDir) {
+        this.resourcesDir = resourcesDir;
+    }
+
+    /**
+     * Returns the static resources, beneath the {@link #getResourcesDir() resources
+     * directory}, that are candidates for compression.
+     *
+     * @return the static resources
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileTree getStaticResources() {
+        ConfigurableFileTree staticResources = getProject()
+                .fileTree(getResourcesDir());
+        for (String location : this.locations) {
+            for (String extension : this.extensions) {
+                staticResources.include(location + "/**/*." + extension);
+            }
+        }
+        return staticResources;
+    }
+
+    /**
+     * Returns the directory to which the compressed variants are written, using the
+     * same relative paths as their resources.
+     *
+     * @return the destination directory
+     */
+    @OutputDirectory
+    public File getDestinationDir() {
+        return this.destinationDir;
+    }
+
+    /**
+     * Sets the directory to which the compressed variants are written.
+     *
+     * @param destinationDir the destination directory
+     */
+    public void setDestinationDir(File destinationDir) {
+        this.destinationDir = destinationDir;
+    }
+
+    /**
+     * Returns the locations, relative to the resources directory, that are searched for
+     * static resources.
+     *
+     * @return the locations
+     */
+    @Input
+    public Set<String> getLocations() {
+        return this.locations;
+    }
+
+    /**
+     * Sets the locations, relative to the resources directory, that are searched for
+     * static resources.
+     *
+     * @param locations the locations
+     */
+    public void setLocations(Set<String> locations) {
+        this.locations = locations;
+    }
+
+    /**
+     * Returns the extensions of the files that are compressed.
+     *
+     * @return the extensions
+     */
+    @Input
+    public Set<String> getExtensions() {
+        return this.extensions;
+    }
+
+    /**
+     * Sets the extensions of the files that are compressed.
+     *
+     * @param extensions the extensions, without a leading dot
+     */
+    public void setExtensions(Set<String> extensions) {
+        this.extensions = extensions;
+    }
+
+    /**
+     * Returns the minimum size, in bytes, of a file for it to be compressed.
+     *
+     * @return the minimum size
+     */
+    @Input
+    public int getMinSize() {
+        return this.minSize;
+    }
+
+    /**
+     * Sets the minimum size, in bytes, of a file for it to be compressed.
+     *
+     * @param minSize the minimum size
+     */
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+}
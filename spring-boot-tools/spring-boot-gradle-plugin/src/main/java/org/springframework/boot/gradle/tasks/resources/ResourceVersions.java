@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.resources;
+
+import org.gradle.api.Task;
+import org.gradle.api.file.ConfigurableFileTree;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.internal.ConventionTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.TaskExecutionException;
+import org.springframework.boot.loader.tools.ResourceVersionManifestWriter;
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link Task} for generating a {@code resource-versions.properties} manifest of the
+ * content hash of each static resource of an application. The manifest is written
+ * beneath a separate {@link #getDestinationDir() destination directory} so that the
+ * task's output does not overlap with those of the task that processes the resources.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class ResourceVersions extends ConventionTask {
+
+    private File resourcesDir;
+
+    private File destinationDir;
+
+    private Set<String> locations = new LinkedHashSet<>(
+            StaticResourceCompressor.DEFAULT_LOCATIONS);
+
+    /**
+     * Generates the {@code resource-versions.properties} file for the static resources
+     * of the {@link #setResourcesDir(File) resources directory} in the {@code META-INF}
+     * directory of the {@link #setDestinationDir(File) destination directory}.
+     */
+    @TaskAction
+    public void generateResourceVersions() {
+        try {
+            new ResourceVersionManifestWriter(getManifestFile())
+                    .writeManifest(getResourcesDir(), this.locations);
+        } catch (IOException ex) {
+            throw new TaskExecutionException(this, ex);
+        }
+    }
+
+    /**
+     * Returns the directory containing the processed resources of the application.
+     *
+     * @return the resources directory
+     */
+    @Internal
+    public File getResourcesDir() {
+        return this.resourcesDir;
+    }
+
+    /**
+     * Sets the directory containing the processed resources of the application.
+     *
+     * @param resourcesDir the resources directory
+     */
+    public void setResourcesDir(File resourcesDir) {
+        this.resourcesDir = resourcesDir;
+    }
+
+    /**
+     * Returns the static resources, beneath the {@link #getResourcesDir() resources
+     * directory}, whose content hashes are listed in the manifest.
+     *
+     * @return the static resources
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileTree getStaticResources() {
+        ConfigurableFileTree staticResources = getProject()
+                .fileTree(getResourcesDir());
+        for (String location : this.locations) {
+            staticResources.include(location + "/**");
+        }
+        staticResources.exclude("**/*.gz", "**/*.br");
+        return staticResources;
+    }
+
+    /**
+     * Returns the directory beneath which the manifest is generated.
+     *
+     * @return the destination directory
+     */
+    @Internal
+    public File getDestinationDir() {
+        return this.destinationDir;
+    }
+
+    /**
+     * Sets the directory beneath which the manifest is generated.
+     *
+     * @param destinationDir the destination directory
+     */
+    public void setDestinationDir(File destinationDir) {
+        this.destinationDir = destinationDir;
+    }
+
+    /**
+     * Returns the manifest file that is generated.
+     *
+     * @return the manifest file
+     */
+    @OutputFile
+    public File getManifestFile() {
+        return new File(getDestinationDir(),
+                ResourceVersionManifestWriter.DEFAULT_MANIFEST_LOCATION);
+    }
+
+    /**
+     * Returns the locations, relative to the resources directory, that are searched for
+     * static resources.
+     *
+     * @return the locations
+     */
+    @Input
+    public Set<String> getLocations() {
+        return this.locations;
+    }
+
+    /**
+     * Sets the locations, relative to the resources directory, that are searched for
+     * static resources.
+     *
+     * @param locations the locations
+     */
+    public void setLocations(Set<String> locations) {
+        this.locations = locations;
+    }
+
+}
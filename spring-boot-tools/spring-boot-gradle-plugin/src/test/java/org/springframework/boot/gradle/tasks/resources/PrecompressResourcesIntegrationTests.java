@@ -0,0 +1,124 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.resources;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.gradle.junit.GradleCompatibilitySuite;
+import org.springframework.boot.gradle.testkit.GradleBuild;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the {@link PrecompressResources} task.
+ *
+ * @author agent (agent@local)
+ */
+@RunWith(GradleCompatibilitySuite.class)
+public class PrecompressResourcesIntegrationTests {
+
+    @Rule
+    public GradleBuild gradleBuild;
+
+    @Test
+    public void variantsAreWrittenToDestinationDir() throws IOException {
+        createResource("static/app.js", 200);
+        createResource("static/small.js", 1);
+        assertThat(this.gradleBuild.build("bootPrecompressResources")
+                .task(":bootPrecompressResources").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(destinationFile("static/app.js.gz")).isFile();
+        assertThat(destinationFile("static/small.js.gz")).doesNotExist();
+        assertThat(new File(this.gradleBuild.getProjectDir(),
+                "build/resources/main/static/app.js.gz")).doesNotExist();
+    }
+
+    @Test
+    public void upToDateWhenExecutedTwice() throws IOException {
+        createResource("static/app.js", 200);
+        assertThat(this.gradleBuild.build("bootPrecompressResources")
+                .task(":bootPrecompressResources").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(this.gradleBuild.build("bootPrecompressResources")
+                .task(":bootPrecompressResources").getOutcome())
+                .isEqualTo(TaskOutcome.UP_TO_DATE);
+    }
+
+    @Test
+    public void notUpToDateWhenResourceChanges() throws IOException {
+        createResource("static/app.js", 200);
+        assertThat(this.gradleBuild.build("bootPrecompressResources")
+                .task(":bootPrecompressResources").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        createResource("static/app.js", 400);
+        assertThat(this.gradleBuild.build("bootPrecompressResources")
+                .task(":bootPrecompressResources").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+    }
+
+    @Test
+    public void variantOfDeletedResourceIsRemoved() throws IOException {
+        createResource("static/app.js", 200);
+        File other = createResource("public/other.js", 200);
+        this.gradleBuild.build("bootPrecompressResources");
+        assertThat(destinationFile("public/other.js.gz")).isFile();
+        assertThat(other.delete()).isTrue();
+        assertThat(this.gradleBuild.build("bootPrecompressResources")
+                .task(":bootPrecompressResources").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(destinationFile("static/app.js.gz")).isFile();
+        assertThat(destinationFile("public/other.js.gz")).doesNotExist();
+    }
+
+    @Test
+    public void classesDependsOnTaskAndDestinationDirIsMainOutput()
+            throws IOException {
+        createResource("static/app.js", 200);
+        BuildResult result = this.gradleBuild.build("classes", "mainOutputDirs");
+        assertThat(result.task(":bootPrecompressResources").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(result.getOutput()).contains("Output dir: "
+                + new File("build", "precompressed-resources").getPath());
+    }
+
+    private File createResource(String path, int lines) throws IOException {
+        File resource = new File(this.gradleBuild.getProjectDir(),
+                "src/main/resources/" + path);
+        resource.getParentFile().mkdirs();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append("console.log('line ").append(i % 10).append("');\n");
+        }
+        Files.write(resource.toPath(),
+                content.toString().getBytes(StandardCharsets.UTF_8));
+        return resource;
+    }
+
+    private File destinationFile(String path) {
+        return new File(this.gradleBuild.getProjectDir(),
+                "build/precompressed-resources/" + path);
+    }
+
+}
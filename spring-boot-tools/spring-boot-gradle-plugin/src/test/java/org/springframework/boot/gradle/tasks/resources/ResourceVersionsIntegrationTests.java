@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.resources;
+
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.gradle.junit.GradleCompatibilitySuite;
+import org.springframework.boot.gradle.testkit.GradleBuild;
+import org.springframework.util.DigestUtils;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the {@link ResourceVersions} task.
+ *
+ * @author agent (agent@local)
+ */
+@RunWith(GradleCompatibilitySuite.class)
+public class ResourceVersionsIntegrationTests {
+
+    @Rule
+    public GradleBuild gradleBuild;
+
+    @Test
+    public void manifestIsWrittenToDestinationDir() throws IOException {
+        createResource("static/app.js", "alert('one');");
+        assertThat(this.gradleBuild.build("bootResourceVersions")
+                .task(":bootResourceVersions").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(manifest()).containsEntry("static/app.js", md5("alert('one');"));
+        assertThat(new File(this.gradleBuild.getProjectDir(),
+                "build/resources/main/META-INF/resource-versions.properties"))
+                .doesNotExist();
+    }
+
+    @Test
+    public void upToDateWhenExecutedTwice() throws IOException {
+        createResource("static/app.js", "alert('one');");
+        assertThat(this.gradleBuild.build("bootResourceVersions")
+                .task(":bootResourceVersions").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(this.gradleBuild.build("bootResourceVersions")
+                .task(":bootResourceVersions").getOutcome())
+                .isEqualTo(TaskOutcome.UP_TO_DATE);
+    }
+
+    @Test
+    public void manifestIsRegeneratedWhenResourceChanges() throws IOException {
+        createResource("static/app.js", "alert('one');");
+        this.gradleBuild.build("bootResourceVersions");
+        createResource("static/app.js", "alert('two');");
+        assertThat(this.gradleBuild.build("bootResourceVersions")
+                .task(":bootResourceVersions").getOutcome())
+                .isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(manifest()).containsEntry("static/app.js", md5("alert('two');"));
+    }
+
+    private void createResource(String path, String content) throws IOException {
+        File resource = new File(this.gradleBuild.getProjectDir(),
+                "src/main/resources/" + path);
+        resource.getParentFile().mkdirs();
+        Files.write(resource.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Properties manifest() throws IOException {
+        File file = new File(this.gradleBuild.getProjectDir(),
+                "build/resource-versions/META-INF/resource-versions.properties");
+        Properties properties = new Properties();
+        try (FileReader reader = new FileReader(file)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private String md5(String content) {
+        return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
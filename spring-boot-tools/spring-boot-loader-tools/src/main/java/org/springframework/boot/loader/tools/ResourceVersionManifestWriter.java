@@ -0,0 +1,134 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import org.springframework.util.DigestUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * A {@code ResourceVersionManifestWriter} writes a manifest of the MD5 content hash of
+ * each static resource of an application so that content-based resource versions do
+ * not have to be computed at runtime. Hashes are computed in the same way as Spring
+ * Framework's {@code ContentVersionStrategy}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public final class ResourceVersionManifestWriter {
+
+    /**
+     * The default location of the manifest, relative to the output directory.
+     */
+    public static final String DEFAULT_MANIFEST_LOCATION = "META-INF/resource-versions.properties";
+
+    private final File manifestFile;
+
+    /**
+     * Creates a new {@code ResourceVersionManifestWriter} that will write to the given
+     * {@code manifestFile}.
+     *
+     * @param manifestFile the manifest file
+     */
+    public ResourceVersionManifestWriter(File manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
+    /**
+     * Writes the manifest for the static resources found in the given
+     * {@code locations} beneath the given {@code outputDirectory}. Each entry is keyed
+     * by the path of the resource relative to the output directory, for example
+     * {@code static/css/app.css}. Precompressed {@code .gz} and {@code .br} variants
+     * are not included.
+     *
+     * @param outputDirectory the directory containing the compiled resources
+     * @param locations the locations of the static resources, relative to the output
+     * directory
+     * @return the number of resources in the manifest
+     * @throws IOException if the manifest cannot be written
+     */
+    public int writeManifest(File outputDirectory, Collection<String> locations)
+            throws IOException {
+        Map<String, String> versions = new TreeMap<>();
+        for (String location : locations) {
+            File directory = new File(outputDirectory, location);
+            addVersions(directory, location.replace('\\', '/'), versions);
+        }
+        createParentDirectoryIfNecessary();
+        try (FileOutputStream outputStream = new FileOutputStream(this.manifestFile)) {
+            SortedProperties properties = new SortedProperties();
+            properties.putAll(versions);
+            properties.store(outputStream, "Resource versions");
+        }
+        return versions.size();
+    }
+
+    private void addVersions(File directory, String path, Map<String, String> versions)
+            throws IOException {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String filePath = path + "/" + file.getName();
+            if (file.isDirectory()) {
+                addVersions(file, filePath, versions);
+            } else if (!isPrecompressedVariant(file)) {
+                try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                    versions.put(filePath, DigestUtils.md5DigestAsHex(inputStream));
+                }
+            }
+        }
+    }
+
+    private boolean isPrecompressedVariant(File file) {
+        String name = file.getName();
+        return name.endsWith(".gz") || name.endsWith(".br");
+    }
+
+    private void createParentDirectoryIfNecessary() {
+        File parent = this.manifestFile.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IllegalStateException("Cannot create parent directory for '"
+                    + this.manifestFile.getAbsolutePath() + "'");
+        }
+    }
+
+    /**
+     * {@link Properties} that are stored in key order so that the manifest is stable
+     * across builds.
+     */
+    private static final class SortedProperties extends Properties {
+
+        @Override
+        public synchronized Enumeration<Object> keys() {
+            return Collections.enumeration(new TreeMap<>(this).keySet());
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a gzip-compressed {@code .gz} variant of each text-based static resource of an
+ * application, by default next to the resource, so that it can be served as-is at
+ * runtime, without paying for on-the-fly compression.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public final class StaticResourceCompressor {
+
+    /**
+     * The file extensions that are compressed by default.
+     */
+    public static final Set<String> DEFAULT_EXTENSIONS = Collections
+            .unmodifiableSet(new LinkedHashSet<>(Arrays.asList("html", "htm", "css",
+                    "js", "json", "map", "svg", "txt", "xml")));
+
+    /**
+     * The locations, relative to the output directory, that are searched for static
+     * resources by default.
+     */
+    public static final Set<String> DEFAULT_LOCATIONS = Collections
+            .unmodifiableSet(new LinkedHashSet<>(Arrays.asList("META-INF/resources",
+                    "resources", "static", "public")));
+
+    private static final String GZIP_EXTENSION = ".gz";
+
+    private final File outputDirectory;
+
+    private File destinationDirectory;
+
+    private Set<String> extensions = DEFAULT_EXTENSIONS;
+
+    private Set<String> locations = DEFAULT_LOCATIONS;
+
+    private int minSize = 1024;
+
+    /**
+     * Creates a new {@code StaticResourceCompressor} that will compress the static
+     * resources found beneath the given {@code outputDirectory}.
+     *
+     * @param outputDirectory the directory containing the compiled resources
+     */
+    public StaticResourceCompressor(File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+        this.destinationDirectory = outputDirectory;
+    }
+
+    /**
+     * Sets the directory to which the compressed variants are written. Each variant is
+     * written to the same path, relative to the destination directory, as its resource
+     * has relative to the output directory. Defaults to the output directory, i.e. each
+     * variant is written next to its resource.
+     *
+     * @param destinationDirectory the destination directory
+     */
+    public void setDestinationDirectory(File destinationDirectory) {
+        this.destinationDirectory = destinationDirectory;
+    }
+
+    /**
+     * Sets the extensions of the files that should be compressed.
+     *
+     * @param extensions the extensions, without a leading dot
+     */
+    public void setExtensions(Collection<String> extensions) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String extension : extensions) {
+            normalized.add(extension.toLowerCase(Locale.ENGLISH));
+        }
+        this.extensions = normalized;
+    }
+
+    /**
+     * Sets the locations, relative to the output directory, that should be searched
+     * for static resources.
+     *
+     * @param locations the locations
+     */
+    public void setLocations(Collection<String> locations) {
+        this.locations = new LinkedHashSet<>(locations);
+    }
+
+    /**
+     * Sets the minimum size, in bytes, of a file for it to be compressed. Compressing
+     * smaller files rarely pays off.
+     *
+     * @param minSize the minimum size
+     */
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    /**
+     * Compresses the static resources, writing a {@code .gz} variant of each resource for
+     * which compression actually reduces its size. Variants that are already up-to-date
+     * are left untouched and variants of resources that no longer qualify for
+     * compression are deleted.
+     *
+     * @return the number of compressed variants that have been written
+     * @throws IOException if a resource cannot be compressed
+     */
+    public int compress() throws IOException {
+        int count = 0;
+        for (String location : this.locations) {
+            count += compressDirectory(new File(this.outputDirectory, location));
+        }
+        return count;
+    }
+
+    private int compressDirectory(File directory) throws IOException {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return 0;
+        }
+        int count = 0;
+        for (File file : files) {
+            if (file.isDirectory()) {
+                count += compressDirectory(file);
+            } else if (hasCompressibleExtension(file) && compressFile(file)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean hasCompressibleExtension(File file) {
+        String name = file.getName();
+        int extensionIndex = name.lastIndexOf('.');
+        if (extensionIndex == -1) {
+            return false;
+        }
+        String extension = name.substring(extensionIndex + 1);
+        return this.extensions.contains(extension.toLowerCase(Locale.ENGLISH));
+    }
+
+    private boolean compressFile(File file) throws IOException {
+        File compressed = getCompressedFile(file);
+        if (file.length() < this.minSize) {
+            // A variant written for an earlier, larger version is no longer valid
+            Files.deleteIfExists(compressed.toPath());
+            return false;
+        }
+        if (compressed.lastModified() >= file.lastModified()) {
+            return false;
+        }
+        byte[] content = Files.readAllBytes(file.toPath());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length);
+        try (OutputStream outputStream = new BestCompressionGzipOutputStream(bytes)) {
+            outputStream.write(content);
+        }
+        if (bytes.size() >= content.length) {
+            Files.deleteIfExists(compressed.toPath());
+            return false;
+        }
+        compressed.getParentFile().mkdirs();
+        try (OutputStream outputStream = new FileOutputStream(compressed)) {
+            bytes.writeTo(outputStream);
+        }
+        return true;
+    }
+
+    private File getCompressedFile(File file) {
+        String relativePath = this.outputDirectory.toPath().relativize(file.toPath())
+                .toString();
+        return new File(this.destinationDirectory, relativePath + GZIP_EXTENSION);
+    }
+
+    /**
+     * {@link GZIPOutputStream} that uses the best, rather than the default,
+     * compression level as the cost is only paid once at build time.
+     */
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+        BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            this.def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.util.DigestUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResourceVersionManifestWriter}.
+ *
+ * @author agent (agent@local)
+ */
+public class ResourceVersionManifestWriterTests {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File outputDirectory;
+
+    private File manifestFile;
+
+    @Before
+    public void init() throws IOException {
+        this.outputDirectory = this.temporaryFolder.newFolder();
+        this.manifestFile = new File(this.outputDirectory,
+                ResourceVersionManifestWriter.DEFAULT_MANIFEST_LOCATION);
+    }
+
+    @Test
+    public void manifestContainsContentHashOfEachResource() throws IOException {
+        createFile("static/css/app.css", "body {}");
+        createFile("public/index.html", "<html></html>");
+        int count = new ResourceVersionManifestWriter(this.manifestFile).writeManifest(
+                this.outputDirectory, Arrays.asList("static", "public"));
+        assertThat(count).isEqualTo(2);
+        Properties manifest = loadManifest();
+        assertThat(manifest).hasSize(2);
+        assertThat(manifest.getProperty("static/css/app.css")).isEqualTo(
+                DigestUtils.md5DigestAsHex("body {}".getBytes(StandardCharsets.UTF_8)));
+        assertThat(manifest.getProperty("public/index.html"))
+                .isEqualTo(DigestUtils.md5DigestAsHex(
+                        "<html></html>".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void precompressedVariantsAreIgnored() throws IOException {
+        createFile("static/app.js", "var a;");
+        createFile("static/app.js.gz", "gzip");
+        createFile("static/app.js.br", "brotli");
+        new ResourceVersionManifestWriter(this.manifestFile)
+                .writeManifest(this.outputDirectory, Arrays.asList("static"));
+        assertThat(loadManifest()).containsOnlyKeys("static/app.js");
+    }
+
+    @Test
+    public void missingLocationsAreIgnored() throws IOException {
+        int count = new ResourceVersionManifestWriter(this.manifestFile)
+                .writeManifest(this.outputDirectory, Arrays.asList("static"));
+        assertThat(count).isEqualTo(0);
+        assertThat(this.manifestFile).exists();
+    }
+
+    private void createFile(String path, String content) throws IOException {
+        File file = new File(this.outputDirectory, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Properties loadManifest() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(this.manifestFile)) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.util.StreamUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StaticResourceCompressor}.
+ *
+ * @author agent (agent@local)
+ */
+public class StaticResourceCompressorTests {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File outputDirectory;
+
+    @Before
+    public void init() throws IOException {
+        this.outputDirectory = this.temporaryFolder.newFolder();
+    }
+
+    @Test
+    public void compressesTextResources() throws IOException {
+        String content = repeat("body { color: red; }\n", 200);
+        File css = createFile("static/css/app.css", content);
+        int count = new StaticResourceCompressor(this.outputDirectory).compress();
+        assertThat(count).isEqualTo(1);
+        File compressed = new File(css.getParentFile(), "app.css.gz");
+        assertThat(compressed).exists();
+        assertThat(compressed.length()).isLessThan(css.length());
+        assertThat(decompress(compressed)).isEqualTo(content);
+    }
+
+    @Test
+    public void ignoresResourcesOutsideOfStaticLocations() throws IOException {
+        createFile("templates/index.html", repeat("<p>hello</p>\n", 200));
+        int count = new StaticResourceCompressor(this.outputDirectory).compress();
+        assertThat(count).isEqualTo(0);
+        assertThat(new File(this.outputDirectory, "templates/index.html.gz"))
+                .doesNotExist();
+    }
+
+    @Test
+    public void ignoresSmallResources() throws IOException {
+        createFile("public/small.js", "var a = 1;");
+        assertThat(new StaticResourceCompressor(this.outputDirectory).compress())
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void ignoresResourcesWithExtensionsThatAreNotCompressible()
+            throws IOException {
+        createFile("static/image.png", repeat("x", 4096));
+        assertThat(new StaticResourceCompressor(this.outputDirectory).compress())
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void customExtensions() throws IOException {
+        createFile("static/data.csv", repeat("a,b,c\n", 1000));
+        StaticResourceCompressor compressor = new StaticResourceCompressor(
+                this.outputDirectory);
+        compressor.setExtensions(Collections.singleton("CSV"));
+        assertThat(compressor.compress()).isEqualTo(1);
+    }
+
+    @Test
+    public void upToDateResourcesAreNotCompressedAgain() throws IOException {
+        createFile("static/app.js", repeat("console.log('hello');\n", 200));
+        StaticResourceCompressor compressor = new StaticResourceCompressor(
+                this.outputDirectory);
+        assertThat(compressor.compress()).isEqualTo(1);
+        assertThat(compressor.compress()).isEqualTo(0);
+    }
+
+    @Test
+    public void variantIsDeletedWhenResourceBecomesTooSmall() throws IOException {
+        File js = createFile("static/app.js", repeat("console.log('hello');\n", 200));
+        StaticResourceCompressor compressor = new StaticResourceCompressor(
+                this.outputDirectory);
+        assertThat(compressor.compress()).isEqualTo(1);
+        File compressed = new File(js.getParentFile(), "app.js.gz");
+        assertThat(compressed).exists();
+        updateFile(js, "var a = 1;".getBytes(StandardCharsets.UTF_8), compressed);
+        assertThat(compressor.compress()).isEqualTo(0);
+        assertThat(compressed).doesNotExist();
+    }
+
+    @Test
+    public void variantIsDeletedWhenResourceNoLongerCompressesSmaller()
+            throws IOException {
+        File txt = createFile("static/data.txt", repeat("abc\n", 1000));
+        StaticResourceCompressor compressor = new StaticResourceCompressor(
+                this.outputDirectory);
+        assertThat(compressor.compress()).isEqualTo(1);
+        File compressed = new File(txt.getParentFile(), "data.txt.gz");
+        assertThat(compressed).exists();
+        byte[] incompressible = new byte[4096];
+        new Random(0).nextBytes(incompressible);
+        updateFile(txt, incompressible, compressed);
+        assertThat(compressor.compress()).isEqualTo(0);
+        assertThat(compressed).doesNotExist();
+    }
+
+    @Test
+    public void variantsCanBeWrittenToDestinationDirectory() throws IOException {
+        String content = repeat("console.log('hello');\n", 200);
+        File js = createFile("static/js/app.js", content);
+        File destination = this.temporaryFolder.newFolder();
+        StaticResourceCompressor compressor = new StaticResourceCompressor(
+                this.outputDirectory);
+        compressor.setDestinationDirectory(destination);
+        assertThat(compressor.compress()).isEqualTo(1);
+        assertThat(new File(js.getParentFile(), "app.js.gz")).doesNotExist();
+        File compressed = new File(destination, "static/js/app.js.gz");
+        assertThat(compressed).exists();
+        assertThat(decompress(compressed)).isEqualTo(content);
+        assertThat(compressor.compress()).isEqualTo(0);
+    }
+
+    private File createFile(String path, String content) throws IOException {
+        File file = new File(this.outputDirectory, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private void updateFile(File file, byte[] content, File compressed)
+            throws IOException {
+        Files.write(file.toPath(), content);
+        file.setLastModified(compressed.lastModified() + 2000);
+    }
+
+    private String decompress(File file) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new FileInputStream(file))) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    private String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+}
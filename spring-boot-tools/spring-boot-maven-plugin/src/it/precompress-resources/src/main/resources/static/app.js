@@ -0,0 +1,200 @@
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
+console.log('line 0');
+console.log('line 1');
+console.log('line 2');
+console.log('line 3');
+console.log('line 4');
+console.log('line 5');
+console.log('line 6');
+console.log('line 7');
+console.log('line 8');
+console.log('line 9');
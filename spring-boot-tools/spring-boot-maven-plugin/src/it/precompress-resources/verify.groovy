@@ -0,0 +1,8 @@
+import static org.junit.Assert.assertFalse
+import static org.junit.Assert.assertTrue
+
+def staticDir = new File(basedir, "target/classes/static")
+assertTrue new File(staticDir, "app.js").isFile()
+assertTrue new File(staticDir, "app.js.gz").isFile()
+assertTrue new File(staticDir, "small.txt").isFile()
+assertFalse new File(staticDir, "small.txt.gz").exists()
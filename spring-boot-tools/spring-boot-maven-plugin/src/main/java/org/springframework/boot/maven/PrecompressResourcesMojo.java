@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.sonatype.plexus.build.incremental.BuildContext;
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Write a gzip-compressed variant of each text-based static resource of the
+ * application so that it can be served without compressing it on the fly.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Mojo(name = "precompress-resources", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class PrecompressResourcesMojo extends AbstractMojo {
+
+    @Component
+    private BuildContext buildContext;
+
+    /**
+     * Directory containing the classes and resource files that should be packaged into
+     * the archive.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    /**
+     * Locations, relative to the classes directory, of the static resources to
+     * compress. Defaults to META-INF/resources, resources, static and public.
+     */
+    @Parameter
+    private List<String> locations;
+
+    /**
+     * Extensions of the files to compress. Defaults to html, htm, css, js, json, map,
+     * svg, txt and xml.
+     */
+    @Parameter
+    private List<String> extensions;
+
+    /**
+     * Minimum size, in bytes, of a file for it to be compressed.
+     */
+    @Parameter(defaultValue = "1024")
+    private int minSize;
+
+    /**
+     * Skip the execution.
+     */
+    @Parameter(property = "spring-boot.precompress.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (this.skip) {
+            getLog().debug("skipping resource precompression as per configuration.");
+            return;
+        }
+        StaticResourceCompressor compressor = new StaticResourceCompressor(
+                this.classesDirectory);
+        if (this.locations != null) {
+            compressor.setLocations(this.locations);
+        }
+        if (this.extensions != null) {
+            compressor.setExtensions(this.extensions);
+        }
+        compressor.setMinSize(this.minSize);
+        try {
+            int count = compressor.compress();
+            getLog().info("Precompressed " + count + " static resource(s)");
+            this.buildContext.refresh(this.classesDirectory);
+        } catch (Exception ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        }
+    }
+
+}
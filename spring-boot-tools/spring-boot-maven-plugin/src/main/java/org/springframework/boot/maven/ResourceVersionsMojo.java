@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.sonatype.plexus.build.incremental.BuildContext;
+import org.springframework.boot.loader.tools.ResourceVersionManifestWriter;
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Generate a {@code resource-versions.properties} manifest of the content hash of each
+ * static resource so that content-based resource versions are not computed at runtime.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@Mojo(name = "resource-versions", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class ResourceVersionsMojo extends AbstractMojo {
+
+    @Component
+    private BuildContext buildContext;
+
+    /**
+     * Directory containing the classes and resource files that should be packaged into
+     * the archive.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    /**
+     * The location of the generated resource-versions.properties.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}/META-INF/resource-versions.properties")
+    private File outputFile;
+
+    /**
+     * Locations, relative to the classes directory, of the static resources. Defaults
+     * to META-INF/resources, resources, static and public.
+     */
+    @Parameter
+    private List<String> locations;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        try {
+            new ResourceVersionManifestWriter(this.outputFile).writeManifest(
+                    this.classesDirectory, this.locations != null ? this.locations
+                            : StaticResourceCompressor.DEFAULT_LOCATIONS);
+            this.buildContext.refresh(this.outputFile);
+        } catch (Exception ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link BeanFactoryPostProcessor} to set the lazy attribute on bean definition.
+ * <p>
+ * Bean definitions that explicitly declare {@link Lazy @Lazy} (including
+ * {@code @Lazy(false)}) are left untouched, as are infrastructure beans, abstract
+ * definitions, {@link SmartInitializingSingleton} beans and any definition matched by a
+ * {@link LazyInitializationExcludeFilter} bean.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public final class LazyInitializationBeanFactoryPostProcessor
+        implements BeanFactoryPostProcessor, Ordered {
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory)
+            throws BeansException {
+        Collection<LazyInitializationExcludeFilter> filters = getFilters(beanFactory);
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (isCandidate(beanDefinition)) {
+                postProcess(beanFactory, filters, beanName, beanDefinition);
+            }
+        }
+    }
+
+    private Collection<LazyInitializationExcludeFilter> getFilters(
+            ConfigurableListableBeanFactory beanFactory) {
+        // Take care not to force the eager init of factory beans when getting filters
+        List<LazyInitializationExcludeFilter> filters = new ArrayList<>(beanFactory
+                .getBeansOfType(LazyInitializationExcludeFilter.class, false, false)
+                .values());
+        filters.add(LazyInitializationExcludeFilter
+                .forBeanTypes(SmartInitializingSingleton.class));
+        return filters;
+    }
+
+    private boolean isCandidate(BeanDefinition beanDefinition) {
+        return !beanDefinition.isAbstract() && !beanDefinition.isLazyInit()
+                && beanDefinition.getRole() != BeanDefinition.ROLE_INFRASTRUCTURE
+                && !hasExplicitLazyDeclaration(beanDefinition);
+    }
+
+    private boolean hasExplicitLazyDeclaration(BeanDefinition beanDefinition) {
+        if (!(beanDefinition instanceof AnnotatedBeanDefinition)) {
+            return false;
+        }
+        AnnotatedBeanDefinition annotated = (AnnotatedBeanDefinition) beanDefinition;
+        MethodMetadata factoryMethodMetadata = annotated.getFactoryMethodMetadata();
+        if (factoryMethodMetadata != null) {
+            return factoryMethodMetadata.isAnnotated(Lazy.class.getName());
+        }
+        return annotated.getMetadata().isAnnotated(Lazy.class.getName());
+    }
+
+    private void postProcess(ConfigurableListableBeanFactory beanFactory,
+                             Collection<LazyInitializationExcludeFilter> filters, String beanName,
+                             BeanDefinition beanDefinition) {
+        Class<?> beanType = getBeanType(beanFactory, beanName);
+        if (!isExcluded(filters, beanName, beanDefinition, beanType)) {
+            beanDefinition.setLazyInit(true);
+        }
+    }
+
+    private Class<?> getBeanType(ConfigurableListableBeanFactory beanFactory,
+                                 String beanName) {
+        try {
+            // Avoid early instantiation of factory beans just to determine their type
+            if (beanFactory.isFactoryBean(beanName)) {
+                return null;
+            }
+            return beanFactory.getType(beanName);
+        } catch (BeansException ex) {
+            return null;
+        }
+    }
+
+    private boolean isExcluded(Collection<LazyInitializationExcludeFilter> filters,
+                               String beanName, BeanDefinition beanDefinition, Class<?> beanType) {
+        for (LazyInitializationExcludeFilter filter : filters) {
+            if (filter.isExcluded(beanName, beanDefinition, beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+
+/**
+ * Filter that can be used to exclude beans definitions from having their
+ * {@link BeanDefinition#setLazyInit(boolean) lazy-init} set by the
+ * {@link LazyInitializationBeanFactoryPostProcessor}. Filters are usually registered as
+ * {@code static} {@code @Bean} methods so that they are available before the post
+ * processor runs.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface LazyInitializationExcludeFilter {
+
+    /**
+     * Returns {@code true} if the specified bean definition should be excluded from
+     * having {@code lazy-init} automatically set.
+     *
+     * @param beanName       the bean name
+     * @param beanDefinition the bean definition
+     * @param beanType       the bean type (may be {@code null} if it cannot be resolved)
+     * @return {@code true} if {@code lazy-init} should not be automatically set
+     */
+    boolean isExcluded(String beanName, BeanDefinition beanDefinition, Class<?> beanType);
+
+    /**
+     * Factory method that creates a filter for the given bean types.
+     *
+     * @param types the filtered types
+     * @return a new filter instance
+     */
+    static LazyInitializationExcludeFilter forBeanTypes(Class<?>... types) {
+        return (beanName, beanDefinition, beanType) -> {
+            if (beanType == null) {
+                return false;
+            }
+            for (Class<?> type : types) {
+                if (type.isAssignableFrom(beanType)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+}
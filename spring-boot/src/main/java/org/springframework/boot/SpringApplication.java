@@ -20,6 +20,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.CachedIntrospectionResults;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.groovy.GroovyBeanDefinitionReader;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanNameGenerator;
@@ -193,6 +194,8 @@ public class SpringApplication {
 
     private boolean registerShutdownHook = true;
 
+    private boolean lazyInitialization = false;
+
     private List<ApplicationContextInitializer<?>> initializers;
 
     private List<ApplicationListener<?>> listeners;
@@ -440,6 +443,11 @@ public class SpringApplication {
             context.getBeanFactory().registerSingleton("springBootBanner", printedBanner);
         }
 
+        if (this.lazyInitialization) {
+            context.addBeanFactoryPostProcessor(
+                    new LazyInitializationBeanFactoryPostProcessor());
+        }
+
         // Load the sources
         Set<Object> sources = getAllSources();
         Assert.notEmpty(sources, "Sources must not be empty");
@@ -1074,6 +1082,27 @@ public class SpringApplication {
         this.registerShutdownHook = registerShutdownHook;
     }
 
+    /**
+     * Sets if beans should be initialized lazily. Defaults to {@code false}. Individual
+     * beans can opt-out using {@code @Lazy(false)} or by registering a
+     * {@link LazyInitializationExcludeFilter}.
+     *
+     * @param lazyInitialization if initialization should be lazy
+     * @see BeanDefinition#setLazyInit(boolean)
+     */
+    public void setLazyInitialization(boolean lazyInitialization) {
+        this.lazyInitialization = lazyInitialization;
+    }
+
+    /**
+     * Returns whether bean definitions will be set to lazy initialization.
+     *
+     * @return if initialization is lazy
+     */
+    public boolean isLazyInitialization() {
+        return this.lazyInitialization;
+    }
+
     /**
      * Sets the {@link Banner} instance which will be used to print the banner when no
      * static banner file is provided.
@@ -364,6 +364,17 @@ public class SpringApplicationBuilder {
         return this;
     }
 
+    /**
+     * Flag to control whether the application should be initialized lazily.
+     *
+     * @param lazyInitialization the flag to set. Defaults to false.
+     * @return the current builder
+     */
+    public SpringApplicationBuilder lazyInitialization(boolean lazyInitialization) {
+        this.application.setLazyInitialization(lazyInitialization);
+        return this;
+    }
+
     /**
      * Fixes the main application class that is used to anchor the startup messages.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,16 @@
 
 package org.springframework.boot.json;
 
-import org.springframework.util.StringUtils;
-
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Really basic JSON parser for when you have nothing else available. Comes with some
- * limitations with respect to the JSON specification (e.g. only supports String values),
- * so users will probably prefer to have a library handle things instead (Jackson or Snake
- * YAML are supported).
+ * Really basic JSON parser for when you have nothing else available. Parses the JSON in
+ * a single pass, producing {@link Map}s, {@link List}s, strings, numbers and booleans,
+ * so users will probably prefer to have a library handle things instead (Jackson or
+ * Snake YAML are supported).
  *
  * @author Dave Syer
  * @author Jean de Klerk
@@ -36,26 +34,14 @@ import java.util.Map;
  */
 public class BasicJsonParser implements JsonParser {
 
-    private static String trimTrailingCharacter(String string, char c) {
-        if (!string.isEmpty() && string.charAt(string.length() - 1) == c) {
-            return string.substring(0, string.length() - 1);
-        }
-        return string;
-    }
-
-    private static String trimLeadingCharacter(String string, char c) {
-        if (!string.isEmpty() && string.charAt(0) == c) {
-            return string.substring(1);
-        }
-        return string;
-    }
-
     @Override
     public Map<String, Object> parseMap(String json) {
         if (json != null) {
-            json = json.trim();
-            if (json.startsWith("{")) {
-                return parseMapInternal(json);
+            Reader reader = new Reader(json);
+            if (reader.skipWhitespace() == '{') {
+                Map<String, Object> map = reader.readMap();
+                reader.expectEnd();
+                return map;
             }
         }
         throw new IllegalArgumentException("Cannot parse JSON");
@@ -64,95 +50,288 @@ public class BasicJsonParser implements JsonParser {
     @Override
     public List<Object> parseList(String json) {
         if (json != null) {
-            json = json.trim();
-            if (json.startsWith("[")) {
-                return parseListInternal(json);
+            Reader reader = new Reader(json);
+            if (reader.skipWhitespace() == '[') {
+                List<Object> list = reader.readList();
+                reader.expectEnd();
+                return list;
             }
         }
         throw new IllegalArgumentException("Cannot parse JSON");
     }
 
-    private List<Object> parseListInternal(String json) {
-        List<Object> list = new ArrayList<>();
-        json = trimLeadingCharacter(trimTrailingCharacter(json, ']'), '[');
-        for (String value : tokenize(json)) {
-            list.add(parseInternal(value));
+    /**
+     * Index-based reader of a JSON string. Values are read directly from the source
+     * string, only copying the characters that make up each string or literal.
+     */
+    private static final class Reader {
+
+        private static final char END = 0;
+
+        private final String json;
+
+        private final int length;
+
+        private int index;
+
+        Reader(String json) {
+            this.json = json;
+            this.length = json.length();
+        }
+
+        /**
+         * Skip any whitespace and return the next character without consuming it.
+         *
+         * @return the next character or {@link #END}
+         */
+        char skipWhitespace() {
+            while (this.index < this.length
+                    && Character.isWhitespace(this.json.charAt(this.index))) {
+                this.index++;
+            }
+            return (this.index < this.length ? this.json.charAt(this.index) : END);
         }
-        return list;
-    }
 
-    private Object parseInternal(String json) {
-        if (json.startsWith("[")) {
-            return parseListInternal(json);
+        void expectEnd() {
+            if (skipWhitespace() != END) {
+                throw unexpected();
+            }
         }
-        if (json.startsWith("{")) {
-            return parseMapInternal(json);
+
+        Map<String, Object> readMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            this.index++;
+            if (skipWhitespace() == '}') {
+                this.index++;
+                return map;
+            }
+            while (true) {
+                if (skipWhitespace() != '"') {
+                    throw unexpected();
+                }
+                String key = readString();
+                if (skipWhitespace() != ':') {
+                    throw unexpected();
+                }
+                this.index++;
+                map.put(key, readValue());
+                char next = skipWhitespace();
+                this.index++;
+                if (next == '}') {
+                    return map;
+                }
+                if (next != ',') {
+                    throw unexpected(this.index - 1);
+                }
+            }
         }
-        if (json.startsWith("\"")) {
-            return trimTrailingCharacter(trimLeadingCharacter(json, '"'), '"');
+
+        List<Object> readList() {
+            List<Object> list = new ArrayList<>();
+            this.index++;
+            if (skipWhitespace() == ']') {
+                this.index++;
+                return list;
+            }
+            while (true) {
+                list.add(readValue());
+                char next = skipWhitespace();
+                this.index++;
+                if (next == ']') {
+                    return list;
+                }
+                if (next != ',') {
+                    throw unexpected(this.index - 1);
+                }
+            }
         }
-        try {
-            return Long.valueOf(json);
-        } catch (NumberFormatException ex) {
-            // ignore
+
+        private Object readValue() {
+            switch (skipWhitespace()) {
+                case '{':
+                    return readMap();
+                case '[':
+                    return readList();
+                case '"':
+                    return readString();
+                case END:
+                    throw unexpected();
+                default:
+                    return readLiteral();
+            }
         }
-        try {
-            return Double.valueOf(json);
-        } catch (NumberFormatException ex) {
-            // ignore
+
+        private String readString() {
+            int start = ++this.index;
+            StringBuilder unescaped = null;
+            while (this.index < this.length) {
+                char current = this.json.charAt(this.index);
+                if (current == '"') {
+                    this.index++;
+                    return (unescaped != null ? unescaped.toString()
+                            : this.json.substring(start, this.index - 1));
+                }
+                if (current == '\\') {
+                    if (unescaped == null) {
+                        unescaped = new StringBuilder(this.index - start + 16);
+                        unescaped.append(this.json, start, this.index);
+                    }
+                    unescaped.append(readEscape());
+                } else {
+                    if (unescaped != null) {
+                        unescaped.append(current);
+                    }
+                    this.index++;
+                }
+            }
+            throw unexpected();
         }
-        return json;
-    }
 
-    private Map<String, Object> parseMapInternal(String json) {
-        Map<String, Object> map = new LinkedHashMap<>();
-        json = trimLeadingCharacter(trimTrailingCharacter(json, '}'), '{');
-        for (String pair : tokenize(json)) {
-            String[] values = StringUtils.trimArrayElements(StringUtils.split(pair, ":"));
-            String key = trimLeadingCharacter(trimTrailingCharacter(values[0], '"'), '"');
-            Object value = null;
-            if (values.length > 0) {
-                String string = trimLeadingCharacter(
-                        trimTrailingCharacter(values[1], '"'), '"');
-                value = parseInternal(string);
-            }
-            map.put(key, value);
-        }
-        return map;
-    }
+        private char readEscape() {
+            if (this.index + 1 >= this.length) {
+                throw unexpected();
+            }
+            char escaped = this.json.charAt(this.index + 1);
+            this.index += 2;
+            switch (escaped) {
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    return readUnicodeEscape();
+                default:
+                    return escaped;
+            }
+        }
+
+        private char readUnicodeEscape() {
+            if (this.index + 4 > this.length) {
+                throw unexpected();
+            }
+            try {
+                char character = (char) Integer
+                        .parseInt(this.json.substring(this.index, this.index + 4), 16);
+                this.index += 4;
+                return character;
+            } catch (NumberFormatException ex) {
+                throw unexpected();
+            }
+        }
 
-    private List<String> tokenize(String json) {
-        List<String> list = new ArrayList<>();
-        int index = 0;
-        int inObject = 0;
-        int inList = 0;
-        StringBuilder build = new StringBuilder();
-        while (index < json.length()) {
-            char current = json.charAt(index);
-            if (current == '{') {
-                inObject++;
+        private Object readLiteral() {
+            if (readKeyword("true")) {
+                return Boolean.TRUE;
+            }
+            if (readKeyword("false")) {
+                return Boolean.FALSE;
+            }
+            if (readKeyword("null")) {
+                return null;
+            }
+            int start = this.index;
+            boolean decimal = readNumber();
+            return parseNumber(this.json.substring(start, this.index), decimal);
+        }
+
+        private boolean readKeyword(String keyword) {
+            int end = this.index + keyword.length();
+            if (this.json.startsWith(keyword, this.index) && isDelimiter(end)) {
+                this.index = end;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Read a number as defined by the JSON grammar: an optional minus sign, an
+         * integer part without leading zeros, and optional fraction and exponent parts.
+         *
+         * @return {@code true} if the number has a fraction or an exponent
+         */
+        private boolean readNumber() {
+            readCharacter('-');
+            if (!readCharacter('0') && readDigits() == 0) {
+                throw unexpected();
+            }
+            boolean decimal = false;
+            if (readCharacter('.')) {
+                decimal = true;
+                if (readDigits() == 0) {
+                    throw unexpected();
+                }
             }
-            if (current == '}') {
-                inObject--;
+            if (readCharacter('e') || readCharacter('E')) {
+                decimal = true;
+                if (!readCharacter('+')) {
+                    readCharacter('-');
+                }
+                if (readDigits() == 0) {
+                    throw unexpected();
+                }
             }
-            if (current == '[') {
-                inList++;
+            if (!isDelimiter(this.index)) {
+                throw unexpected();
             }
-            if (current == ']') {
-                inList--;
+            return decimal;
+        }
+
+        private boolean readCharacter(char character) {
+            if (this.index < this.length && this.json.charAt(this.index) == character) {
+                this.index++;
+                return true;
             }
-            if (current == ',' && inObject == 0 && inList == 0) {
-                list.add(build.toString());
-                build.setLength(0);
-            } else {
-                build.append(current);
+            return false;
+        }
+
+        private int readDigits() {
+            int start = this.index;
+            while (this.index < this.length && this.json.charAt(this.index) >= '0'
+                    && this.json.charAt(this.index) <= '9') {
+                this.index++;
             }
-            index++;
+            return this.index - start;
         }
-        if (build.length() > 0) {
-            list.add(build.toString());
+
+        private boolean isDelimiter(int position) {
+            if (position >= this.length) {
+                return true;
+            }
+            char current = this.json.charAt(position);
+            return current == ',' || current == '}' || current == ']'
+                    || Character.isWhitespace(current);
         }
-        return list;
+
+        private Object parseNumber(String literal, boolean decimal) {
+            if (!decimal) {
+                try {
+                    return Long.valueOf(literal);
+                } catch (NumberFormatException ex) {
+                    // Fall back to a double for integers that do not fit in a long
+                }
+            }
+            return Double.valueOf(literal);
+        }
+
+        private IllegalArgumentException unexpected() {
+            return unexpected(this.index);
+        }
+
+        private IllegalArgumentException unexpected(int position) {
+            if (position >= this.length) {
+                return new IllegalArgumentException(
+                        "Cannot parse JSON: unexpected end of input");
+            }
+            return new IllegalArgumentException("Cannot parse JSON: unexpected character '"
+                    + this.json.charAt(position) + "' at index " + position);
+        }
+
     }
 
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.codec;
+
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.Message;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+/**
+ * A {@link org.springframework.core.codec.Decoder Decoder} that reads Google Protocol
+ * Buffers {@link Message Messages}. A single message is read from the whole body while
+ * a stream of messages is read from a body of length-delimited messages, as written by
+ * {@link ProtobufEncoder}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class ProtobufDecoder extends AbstractDecoder<Message> {
+
+    static final MimeType[] MIME_TYPES = {new MimeType("application", "x-protobuf"),
+            new MimeType("application", "octet-stream")};
+
+    private static final Map<Class<?>, Method> newBuilderMethods = new ConcurrentReferenceHashMap<>();
+
+    private final ExtensionRegistry extensionRegistry;
+
+    /**
+     * Create a new {@code ProtobufDecoder}.
+     */
+    public ProtobufDecoder() {
+        this(ExtensionRegistry.newInstance());
+    }
+
+    /**
+     * Create a new {@code ProtobufDecoder} that uses the given {@code extensionRegistry}
+     * to read message extensions.
+     *
+     * @param extensionRegistry the extension registry
+     */
+    public ProtobufDecoder(ExtensionRegistry extensionRegistry) {
+        super(MIME_TYPES);
+        this.extensionRegistry = extensionRegistry;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return Message.class.isAssignableFrom(elementType.resolve(Object.class))
+                && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<Message> decode(Publisher<DataBuffer> inputStream,
+                                ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return read(inputStream, (input) -> {
+            List<Message> messages = new ArrayList<>();
+            Message.Builder builder = newBuilder(elementType.resolve());
+            while (builder.mergeDelimitedFrom(input, this.extensionRegistry)) {
+                messages.add(builder.build());
+                builder = newBuilder(elementType.resolve());
+            }
+            return messages;
+        }).flatMapIterable((messages) -> messages);
+    }
+
+    @Override
+    public Mono<Message> decodeToMono(Publisher<DataBuffer> inputStream,
+                                      ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return read(inputStream, (input) -> newBuilder(elementType.resolve())
+                .mergeFrom(input, this.extensionRegistry).build());
+    }
+
+    private <T> Mono<T> read(Publisher<DataBuffer> inputStream, MessageReader<T> reader) {
+        return Flux.from(inputStream).collectList().filter((buffers) -> !buffers.isEmpty())
+                .map((buffers) -> {
+                    Vector<InputStream> streams = new Vector<>(buffers.size());
+                    buffers.forEach((buffer) -> streams.add(buffer.asInputStream()));
+                    try (InputStream input = new SequenceInputStream(streams.elements())) {
+                        return reader.read(input);
+                    } catch (IOException ex) {
+                        throw new DecodingException(
+                                "Could not read Protobuf message: " + ex.getMessage(), ex);
+                    } finally {
+                        buffers.forEach(DataBufferUtils::release);
+                    }
+                });
+    }
+
+    private Message.Builder newBuilder(Class<?> type) {
+        try {
+            Method method = newBuilderMethods.computeIfAbsent(type,
+                    ProtobufDecoder::findNewBuilderMethod);
+            return (Message.Builder) method.invoke(null);
+        } catch (Exception ex) {
+            throw new DecodingException(
+                    "Could not create a builder for Protobuf message " + type.getName(),
+                    ex);
+        }
+    }
+
+    private static Method findNewBuilderMethod(Class<?> type) {
+        try {
+            return type.getMethod("newBuilder");
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(
+                    "Protobuf message " + type.getName() + " has no newBuilder method",
+                    ex);
+        }
+    }
+
+    /**
+     * Reads the result of decoding from an {@link InputStream}.
+     */
+    @FunctionalInterface
+    private interface MessageReader<T> {
+
+        T read(InputStream input) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.codec;
+
+import com.google.protobuf.Message;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * An {@link org.springframework.core.codec.Encoder Encoder} that writes Google Protocol
+ * Buffers {@link Message Messages}. A single message is written as-is while each message
+ * of a stream is prefixed with its length so that the stream can be read by
+ * {@link ProtobufDecoder}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class ProtobufEncoder extends AbstractEncoder<Message> {
+
+    public ProtobufEncoder() {
+        super(ProtobufDecoder.MIME_TYPES);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return Message.class.isAssignableFrom(elementType.resolve(Object.class))
+                && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends Message> inputStream,
+                                   DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        boolean delimited = !(inputStream instanceof Mono);
+        return Flux.from(inputStream)
+                .map((message) -> encode(message, bufferFactory, delimited));
+    }
+
+    private DataBuffer encode(Message message, DataBufferFactory bufferFactory,
+                              boolean delimited) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(message.getSerializedSize() + 5);
+        try (OutputStream output = buffer.asOutputStream()) {
+            if (delimited) {
+                message.writeDelimitedTo(output);
+            } else {
+                message.writeTo(output);
+            }
+            return buffer;
+        } catch (IOException ex) {
+            DataBufferUtils.release(buffer);
+            throw new EncodingException(
+                    "Could not write Protobuf message: " + ex.getMessage(), ex);
+        }
+    }
+
+}
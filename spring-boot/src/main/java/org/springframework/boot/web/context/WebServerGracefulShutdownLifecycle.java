@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.context;
+
+import org.springframework.boot.web.server.GracefulShutdownResult;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * {@link SmartLifecycle} to trigger {@link WebServer} graceful shutdown. Registered in
+ * the highest phase so that the server stops accepting requests and drains in-flight
+ * ones before any other lifecycle bean is stopped and before singletons are destroyed.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public final class WebServerGracefulShutdownLifecycle implements SmartLifecycle {
+
+    /**
+     * Bean name used to register the lifecycle.
+     */
+    public static final String BEAN_NAME = "webServerGracefulShutdown";
+
+    private final WebServer webServer;
+
+    private volatile boolean running;
+
+    private volatile GracefulShutdownResult result;
+
+    /**
+     * Creates a new {@code WebServerGracefulShutdownLifecycle} that will gracefully shut
+     * down the given {@code webServer}.
+     *
+     * @param webServer web server to shut down gracefully
+     */
+    public WebServerGracefulShutdownLifecycle(WebServer webServer) {
+        this.webServer = webServer;
+    }
+
+    @Override
+    public void start() {
+        this.running = true;
+    }
+
+    @Override
+    public void stop() {
+        throw new UnsupportedOperationException("Stop must not be invoked directly");
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        this.running = false;
+        try {
+            this.result = this.webServer.shutDownGracefully();
+        } finally {
+            callback.run();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return true;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Return the result of the last graceful shutdown or {@code null} if the server has
+     * not been shut down.
+     *
+     * @return the graceful shutdown result
+     */
+    public GracefulShutdownResult getResult() {
+        return this.result;
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.context;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.server.WorkerPool;
+import org.springframework.boot.web.server.WorkerPoolTuning;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monitors the {@link WorkerPool} of the {@link WebServer} that is created by the
+ * application context. The time that a task spends in the pool's queue is sampled by
+ * periodically submitting a no-op probe and measuring how long it takes to run. When
+ * {@link WorkerPoolTuning#isAdaptive() adaptive sizing} is enabled, the maximum size of
+ * the pool is grown while the sampled queue wait exceeds the target and shrunk again
+ * once the pool is mostly idle. Sampling only takes place when adaptive sizing is enabled
+ * or when {@link #enableQueueWaitSampling() requested}, for example to record metrics.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class WebServerWorkerPoolMonitor
+        implements ApplicationListener<WebServerInitializedEvent>,
+        ApplicationContextAware, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(WebServerWorkerPoolMonitor.class);
+
+    private final WorkerPoolTuning tuning;
+
+    private final AtomicLong queueWaitCount = new AtomicLong();
+
+    private final AtomicLong queueWaitTotal = new AtomicLong();
+
+    private ApplicationContext applicationContext;
+
+    private volatile WorkerPool workerPool;
+
+    private volatile long lastQueueWait;
+
+    private volatile long probeSubmitted;
+
+    private boolean samplingRequested;
+
+    private ScheduledExecutorService scheduler;
+
+    private int lowerBound;
+
+    private int upperBound;
+
+    /**
+     * Create a new {@link WebServerWorkerPoolMonitor} instance.
+     *
+     * @param tuning the worker pool tuning configuration
+     */
+    public WebServerWorkerPoolMonitor(WorkerPoolTuning tuning) {
+        Assert.notNull(tuning, "Tuning must not be null");
+        this.tuning = tuning;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext)
+            throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (this.applicationContext != null
+                && event.getApplicationContext() != this.applicationContext) {
+            return;
+        }
+        WorkerPool workerPool = event.getWebServer().getWorkerPool();
+        if (workerPool != null) {
+            monitor(workerPool);
+        }
+    }
+
+    synchronized void monitor(WorkerPool workerPool) {
+        if (this.workerPool != null) {
+            return;
+        }
+        this.workerPool = workerPool;
+        int maxThreads = workerPool.getMaxThreads();
+        this.lowerBound = (this.tuning.getMinThreads() != null
+                ? this.tuning.getMinThreads() : maxThreads);
+        this.upperBound = (this.tuning.getMaxThreads() != null
+                ? this.tuning.getMaxThreads() : maxThreads * 2);
+        if (this.tuning.isAdaptive() && maxThreads < 0) {
+            logger.warn("Adaptive worker pool sizing is not supported by the web server");
+        }
+        if (this.tuning.isAdaptive() || this.samplingRequested) {
+            startSampling();
+        }
+    }
+
+    /**
+     * Request that the queue wait of the worker pool is sampled even if adaptive sizing
+     * is disabled. Sampling starts once the web server has been initialized.
+     */
+    public synchronized void enableQueueWaitSampling() {
+        this.samplingRequested = true;
+        if (this.workerPool != null) {
+            startSampling();
+        }
+    }
+
+    private void startSampling() {
+        if (this.scheduler != null) {
+            return;
+        }
+        long interval = this.tuning.getSampleInterval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "worker-pool-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::sample, interval, interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        try {
+            long now = System.nanoTime();
+            long submitted = this.probeSubmitted;
+            adapt(submitted != 0 ? Math.max(now - submitted, this.lastQueueWait)
+                    : this.lastQueueWait);
+            if (submitted == 0) {
+                submitProbe(now);
+            }
+        } catch (Exception ex) {
+            logger.debug("Failed to sample worker pool", ex);
+        }
+    }
+
+    private void submitProbe(long now) {
+        this.probeSubmitted = now;
+        try {
+            this.workerPool.execute(() -> recordQueueWait(System.nanoTime() - now));
+        } catch (RejectedExecutionException ex) {
+            this.probeSubmitted = 0;
+        }
+    }
+
+    private void recordQueueWait(long queueWait) {
+        this.queueWaitCount.incrementAndGet();
+        this.queueWaitTotal.addAndGet(queueWait);
+        this.lastQueueWait = queueWait;
+        this.probeSubmitted = 0;
+    }
+
+    synchronized boolean isSampling() {
+        return this.scheduler != null;
+    }
+
+    void adapt(long queueWait) {
+        WorkerPool workerPool = this.workerPool;
+        if (!this.tuning.isAdaptive() || workerPool == null) {
+            return;
+        }
+        int maxThreads = workerPool.getMaxThreads();
+        if (maxThreads < 0) {
+            return;
+        }
+        long target = this.tuning.getTargetQueueWait().toNanos();
+        int busyThreads = workerPool.getBusyThreads();
+        int newMaxThreads;
+        if (queueWait > target && maxThreads < this.upperBound) {
+            newMaxThreads = Math.min(this.upperBound,
+                    maxThreads + Math.max(1, maxThreads / 4));
+        } else if (queueWait < target / 4 && maxThreads > this.lowerBound
+                && busyThreads < maxThreads / 2) {
+            newMaxThreads = Math.max(this.lowerBound,
+                    maxThreads - Math.max(1, maxThreads / 8));
+        } else {
+            return;
+        }
+        int minThreads = Math.min(workerPool.getMinThreads(), newMaxThreads);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Resizing worker pool from " + maxThreads + " to "
+                    + newMaxThreads + " threads (queue wait "
+                    + TimeUnit.NANOSECONDS.toMillis(queueWait) + "ms)");
+        }
+        workerPool.resize(minThreads, newMaxThreads);
+    }
+
+    /**
+     * Return the monitored {@link WorkerPool} or {@code null} if the web server has not
+     * been initialized or does not expose a worker pool.
+     *
+     * @return the worker pool or {@code null}
+     */
+    public WorkerPool getWorkerPool() {
+        return this.workerPool;
+    }
+
+    /**
+     * Return the number of queue wait samples that have been recorded.
+     *
+     * @return the number of samples
+     */
+    public long getQueueWaitCount() {
+        return this.queueWaitCount.get();
+    }
+
+    /**
+     * Return the total queue wait time of all recorded samples.
+     *
+     * @param unit the unit of the returned time
+     * @return the total queue wait time
+     */
+    public double getQueueWaitTotalTime(TimeUnit unit) {
+        return (double) this.queueWaitTotal.get() / unit.toNanos(1);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.jetty;
+
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.springframework.boot.web.server.Http2;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link JettyServerCustomizer} that adds HTTP/2 over cleartext (h2c) support to the
+ * plain connectors of the given Jetty server instance.
+ *
+ * @author agent (agent@local)
+ */
+class CleartextHttp2ServerCustomizer implements JettyServerCustomizer {
+
+    private final Http2 http2;
+
+    CleartextHttp2ServerCustomizer(Http2 http2) {
+        this.http2 = http2;
+    }
+
+    @Override
+    public void customize(Server server) {
+        Assert.state(
+                ClassUtils.isPresent(
+                        "org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory",
+                        null),
+                () -> "The 'org.eclipse.jetty.http2:http2-server' dependency is "
+                        + "required for HTTP/2 cleartext support.");
+        for (Connector connector : server.getConnectors()) {
+            if (connector instanceof ServerConnector) {
+                customize((ServerConnector) connector);
+            }
+        }
+    }
+
+    private void customize(ServerConnector connector) {
+        HttpConnectionFactory http = connector
+                .getConnectionFactory(HttpConnectionFactory.class);
+        HttpConfiguration config = (http != null ? http.getHttpConfiguration()
+                : new HttpConfiguration());
+        HTTP2CServerConnectionFactory h2c = new HTTP2CServerConnectionFactory(config);
+        configure(h2c, this.http2);
+        connector.addConnectionFactory(h2c);
+    }
+
+    /**
+     * Apply the connection-level settings of the given {@link Http2} configuration to
+     * an HTTP/2 connection factory.
+     *
+     * @param factory the connection factory to configure
+     * @param http2   the HTTP/2 configuration
+     */
+    static void configure(AbstractHTTP2ServerConnectionFactory factory, Http2 http2) {
+        if (http2.getMaxConcurrentStreams() != null) {
+            factory.setMaxConcurrentStreams(http2.getMaxConcurrentStreams());
+        }
+        if (http2.getInitialWindowSize() != null) {
+            factory.setInitialStreamRecvWindow(http2.getInitialWindowSize());
+        }
+        if (http2.getHeaderTableSize() != null) {
+            factory.setMaxDynamicTableSize(http2.getHeaderTableSize());
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.jetty;
+
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpHeaderValue;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.springframework.boot.web.server.GracefulShutdown;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * {@link HandlerWrapper} that tracks active requests for {@link GracefulShutdown}.
+ * Requests that arrive on an existing connection once shutdown has commenced are
+ * rejected with a {@code 503 Service Unavailable} response.
+ *
+ * @author agent (agent@local)
+ */
+class GracefulShutdownHandler extends HandlerWrapper {
+
+    private final GracefulShutdown gracefulShutdown;
+
+    GracefulShutdownHandler(GracefulShutdown gracefulShutdown) {
+        this.gracefulShutdown = gracefulShutdown;
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException, ServletException {
+        if (baseRequest.getDispatcherType() != DispatcherType.REQUEST) {
+            super.handle(target, baseRequest, request, response);
+            return;
+        }
+        if (this.gracefulShutdown.isShuttingDown()) {
+            baseRequest.setHandled(true);
+            response.setHeader(HttpHeader.CONNECTION.asString(),
+                    HttpHeaderValue.CLOSE.asString());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        this.gracefulShutdown.requestStarted();
+        boolean async = false;
+        try {
+            super.handle(target, baseRequest, request, response);
+            async = request.isAsyncStarted();
+            if (async) {
+                request.getAsyncContext().addListener(new RequestFinishedListener());
+            }
+        } finally {
+            if (!async) {
+                this.gracefulShutdown.requestFinished();
+            }
+        }
+    }
+
+    /**
+     * {@link AsyncListener} used to track the completion of asynchronous requests.
+     */
+    private class RequestFinishedListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            GracefulShutdownHandler.this.gracefulShutdown.requestFinished();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
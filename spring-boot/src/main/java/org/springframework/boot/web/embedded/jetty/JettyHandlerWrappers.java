@@ -40,6 +40,9 @@ final class JettyHandlerWrappers {
     static HandlerWrapper createGzipHandlerWrapper(Compression compression) {
         GzipHandler handler = new GzipHandler();
         handler.setMinGzipSize(compression.getMinResponseSize());
+        if (compression.getLevel() != null) {
+            handler.setCompressionLevel(compression.getLevel());
+        }
         handler.setIncludedMimeTypes(compression.getMimeTypes());
         for (HttpMethod httpMethod : HttpMethod.values()) {
             handler.addIncludedMethods(httpMethod.name());
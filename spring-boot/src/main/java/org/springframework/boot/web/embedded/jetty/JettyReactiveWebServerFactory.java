@@ -25,6 +25,7 @@ import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.util.thread.ThreadPool;
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
+import org.springframework.boot.web.server.GracefulShutdown;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.http.server.reactive.JettyHttpHandlerAdapter;
@@ -95,7 +96,8 @@ public class JettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
     public WebServer getWebServer(HttpHandler httpHandler) {
         JettyHttpHandlerAdapter servlet = new JettyHttpHandlerAdapter(httpHandler);
         Server server = createJettyServer(servlet);
-        return new JettyWebServer(server, getPort() >= 0);
+        return new JettyWebServer(server, getPort() >= 0,
+                GracefulShutdown.of(getShutdown()));
     }
 
     @Override
@@ -145,6 +147,9 @@ public class JettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
                 .info("Server initialized with port: " + port);
         if (getSsl() != null && getSsl().isEnabled()) {
             customizeSsl(server, port);
+        } else if (getHttp2() != null && getHttp2().isEnabled()
+                && getHttp2().isCleartext()) {
+            new CleartextHttp2ServerCustomizer(getHttp2()).customize(server);
         }
         for (JettyServerCustomizer customizer : getServerCustomizers()) {
             customizer.customize(server);
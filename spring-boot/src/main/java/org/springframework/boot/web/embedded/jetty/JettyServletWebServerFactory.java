@@ -34,6 +34,7 @@ import org.eclipse.jetty.webapp.AbstractConfiguration;
 import org.eclipse.jetty.webapp.Configuration;
 import org.eclipse.jetty.webapp.WebAppContext;
 import org.springframework.boot.web.server.ErrorPage;
+import org.springframework.boot.web.server.GracefulShutdown;
 import org.springframework.boot.web.server.MimeMappings;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
@@ -136,6 +137,9 @@ public class JettyServletWebServerFactory extends AbstractServletWebServerFactor
         this.logger.info("Server initialized with port: " + port);
         if (getSsl() != null && getSsl().isEnabled()) {
             customizeSsl(server, port);
+        } else if (getHttp2() != null && getHttp2().isEnabled()
+                && getHttp2().isCleartext()) {
+            new CleartextHttp2ServerCustomizer(getHttp2()).customize(server);
         }
         for (JettyServerCustomizer customizer : getServerCustomizers()) {
             customizer.customize(server);
@@ -410,7 +414,8 @@ public class JettyServletWebServerFactory extends AbstractServletWebServerFactor
      * @return a new {@link JettyWebServer} instance
      */
     protected JettyWebServer getJettyWebServer(Server server) {
-        return new JettyWebServer(server, getPort() >= 0);
+        return new JettyWebServer(server, getPort() >= 0,
+                GracefulShutdown.of(getShutdown()));
     }
 
     @Override
@@ -26,9 +26,13 @@ import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
 import org.eclipse.jetty.server.handler.HandlerWrapper;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.springframework.boot.web.server.GracefulShutdown;
+import org.springframework.boot.web.server.GracefulShutdownResult;
 import org.springframework.boot.web.server.PortInUseException;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.server.WebServerException;
+import org.springframework.boot.web.server.WorkerPool;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -60,6 +64,10 @@ public class JettyWebServer implements WebServer {
 
     private final boolean autoStart;
 
+    private final GracefulShutdown gracefulShutdown;
+
+    private final WorkerPool workerPool;
+
     private Connector[] connectors;
 
     private volatile boolean started;
@@ -80,9 +88,29 @@ public class JettyWebServer implements WebServer {
      * @param autoStart if auto-starting the server
      */
     public JettyWebServer(Server server, boolean autoStart) {
+        this(server, autoStart, null);
+    }
+
+    /**
+     * Create a new {@link JettyWebServer} instance.
+     *
+     * @param server           the underlying Jetty server
+     * @param autoStart        if auto-starting the server
+     * @param gracefulShutdown the graceful shutdown support or {@code null} if the
+     *                         server should stop immediately
+     */
+    public JettyWebServer(Server server, boolean autoStart,
+                          GracefulShutdown gracefulShutdown) {
         this.autoStart = autoStart;
         Assert.notNull(server, "Jetty Server must not be null");
         this.server = server;
+        this.gracefulShutdown = gracefulShutdown;
+        if (gracefulShutdown != null) {
+            HandlerWrapper handler = new GracefulShutdownHandler(gracefulShutdown);
+            handler.setHandler(server.getHandler());
+            server.setHandler(handler);
+        }
+        this.workerPool = createWorkerPool();
         initialize();
     }
 
@@ -191,7 +219,7 @@ public class JettyWebServer implements WebServer {
     }
 
     private String getContextPath() {
-        return Arrays.stream(this.server.getHandlers())
+        return Arrays.stream(this.server.getChildHandlersByClass(ContextHandler.class))
                 .filter(ContextHandler.class::isInstance).map(ContextHandler.class::cast)
                 .map(ContextHandler::getContextPath).collect(Collectors.joining(" "));
     }
@@ -222,6 +250,39 @@ public class JettyWebServer implements WebServer {
         }
     }
 
+    @Override
+    public GracefulShutdownResult shutDownGracefully() {
+        if (this.gracefulShutdown == null || !this.started) {
+            return GracefulShutdownResult.IMMEDIATE;
+        }
+        return this.gracefulShutdown.shutDown(this::closeConnectors);
+    }
+
+    private void closeConnectors() {
+        for (Connector connector : this.server.getConnectors()) {
+            if (connector instanceof NetworkConnector) {
+                try {
+                    ((NetworkConnector) connector).close();
+                } catch (Exception ex) {
+                    JettyWebServer.logger.warn("Cannot close connector: ", ex);
+                }
+            }
+        }
+    }
+
+    private WorkerPool createWorkerPool() {
+        if (this.server.getThreadPool() instanceof QueuedThreadPool) {
+            return new JettyWorkerPool(this.server,
+                    (QueuedThreadPool) this.server.getThreadPool());
+        }
+        return null;
+    }
+
+    @Override
+    public WorkerPool getWorkerPool() {
+        return this.workerPool;
+    }
+
     @Override
     public int getPort() {
         Connector[] connectors = this.server.getConnectors();
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.jetty;
+
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.springframework.boot.web.server.WorkerPool;
+
+/**
+ * {@link WorkerPool} backed by the {@link QueuedThreadPool} of a Jetty {@link Server}.
+ *
+ * @author agent (agent@local)
+ */
+class JettyWorkerPool implements WorkerPool {
+
+    private final Server server;
+
+    private final QueuedThreadPool threadPool;
+
+    JettyWorkerPool(Server server, QueuedThreadPool threadPool) {
+        this.server = server;
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getMinThreads() {
+        return this.threadPool.getMinThreads();
+    }
+
+    @Override
+    public int getMaxThreads() {
+        return this.threadPool.getMaxThreads();
+    }
+
+    @Override
+    public int getThreads() {
+        return this.threadPool.getThreads();
+    }
+
+    @Override
+    public int getBusyThreads() {
+        return this.threadPool.getBusyThreads();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return this.threadPool.getQueueSize();
+    }
+
+    @Override
+    public int getConfiguredAcceptBacklog() {
+        for (Connector connector : this.server.getConnectors()) {
+            if (connector instanceof ServerConnector) {
+                return ((ServerConnector) connector).getAcceptQueueSize();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void resize(int minThreads, int maxThreads) {
+        if (maxThreads >= this.threadPool.getMaxThreads()) {
+            this.threadPool.setMaxThreads(maxThreads);
+            this.threadPool.setMinThreads(minThreads);
+        } else {
+            this.threadPool.setMinThreads(minThreads);
+            this.threadPool.setMaxThreads(maxThreads);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.threadPool.execute(command);
+    }
+
+}
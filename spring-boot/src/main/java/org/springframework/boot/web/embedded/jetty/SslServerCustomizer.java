@@ -113,6 +113,7 @@ class SslServerCustomizer implements JettyServerCustomizer {
     private ServerConnector createHttp2ServerConnector(Server server,
                                                        HttpConfiguration config, SslContextFactory sslContextFactory) {
         HTTP2ServerConnectionFactory h2 = new HTTP2ServerConnectionFactory(config);
+        CleartextHttp2ServerCustomizer.configure(h2, this.http2);
         ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
         alpn.setDefaultProtocol("h2");
         sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
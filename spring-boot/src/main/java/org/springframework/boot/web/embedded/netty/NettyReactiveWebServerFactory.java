@@ -16,14 +16,18 @@
 
 package org.springframework.boot.web.embedded.netty;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
+import org.springframework.boot.web.server.GracefulShutdown;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
 import org.springframework.util.Assert;
 import reactor.ipc.netty.http.server.HttpServer;
 import reactor.ipc.netty.http.server.HttpServerOptions.Builder;
+import reactor.ipc.netty.resources.LoopResources;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
@@ -39,8 +43,19 @@ import java.util.List;
  */
 public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFactory {
 
+    private static final Log logger = LogFactory
+            .getLog(NettyReactiveWebServerFactory.class);
+
     private List<NettyServerCustomizer> serverCustomizers = new ArrayList<>();
 
+    private Integer selectorThreads;
+
+    private Integer workerThreads;
+
+    private Boolean useNativeTransport;
+
+    private ReactorResourceFactory resourceFactory;
+
     public NettyReactiveWebServerFactory() {
     }
 
@@ -50,10 +65,15 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 
     @Override
     public WebServer getWebServer(HttpHandler httpHandler) {
-        HttpServer server = createHttpServer();
+        LoopResources loopResources = createLoopResources();
+        HttpServer server = createHttpServer(
+                (loopResources != null ? loopResources : getSharedLoopResources()));
         ReactorHttpHandlerAdapter handlerAdapter = new ReactorHttpHandlerAdapter(
                 httpHandler);
-        return new NettyWebServer(server, handlerAdapter);
+        // Global resources shared through the resource factory are reset by the factory
+        return new NettyWebServer(server, handlerAdapter,
+                GracefulShutdown.of(getShutdown()), loopResources,
+                this.resourceFactory == null);
     }
 
     /**
@@ -88,15 +108,85 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
         this.serverCustomizers.addAll(Arrays.asList(serverCustomizers));
     }
 
-    private HttpServer createHttpServer() {
+    /**
+     * Set the number of selector (boss) threads used to accept connections. If not set,
+     * the shared Reactor Netty default is used.
+     *
+     * @param selectorThreads the number of selector threads
+     */
+    public void setSelectorThreads(Integer selectorThreads) {
+        this.selectorThreads = selectorThreads;
+    }
+
+    /**
+     * Set the number of worker (event loop) threads used to process connections. If not
+     * set, the shared Reactor Netty default is used.
+     *
+     * @param workerThreads the number of worker threads
+     */
+    public void setWorkerThreads(Integer workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Set whether the native transport (epoll on Linux, kqueue on macOS) should be
+     * preferred over NIO when it is available.
+     *
+     * @param useNativeTransport if the native transport should be preferred
+     */
+    public void setUseNativeTransport(Boolean useNativeTransport) {
+        this.useNativeTransport = useNativeTransport;
+    }
+
+    /**
+     * Set the {@link ReactorResourceFactory} that provides the event loop resources that
+     * the server shares with Reactor Netty clients. Ignored when the number of
+     * {@link #setSelectorThreads(Integer) selector} or {@link #setWorkerThreads(Integer)
+     * worker} threads is set, as the server then requires dedicated resources.
+     *
+     * @param resourceFactory the resource factory or {@code null}
+     */
+    public void setResourceFactory(ReactorResourceFactory resourceFactory) {
+        this.resourceFactory = resourceFactory;
+    }
+
+    private LoopResources getSharedLoopResources() {
+        return (this.resourceFactory != null ? this.resourceFactory.getLoopResources()
+                : null);
+    }
+
+    private LoopResources createLoopResources() {
+        if (this.selectorThreads == null && this.workerThreads == null) {
+            return null;
+        }
+        int selectorThreads = (this.selectorThreads != null ? this.selectorThreads
+                : LoopResources.DEFAULT_IO_SELECT_COUNT);
+        int workerThreads = (this.workerThreads != null ? this.workerThreads
+                : LoopResources.DEFAULT_IO_WORKER_COUNT);
+        return LoopResources.create("reactor-http-server", selectorThreads,
+                workerThreads, true);
+    }
+
+    private HttpServer createHttpServer(LoopResources loopResources) {
         return HttpServer.builder().options((options) -> {
             options.listenAddress(getListenAddress());
+            if (loopResources != null) {
+                options.loopResources(loopResources);
+            }
+            if (this.useNativeTransport != null) {
+                options.preferNative(this.useNativeTransport);
+            }
             if (getSsl() != null && getSsl().isEnabled()) {
                 SslServerCustomizer sslServerCustomizer = new SslServerCustomizer(
                         getSsl(), getSslStoreProvider());
                 sslServerCustomizer.customize(options);
             }
             if (getCompression() != null && getCompression().getEnabled()) {
+                if (getCompression().getLevel() != null) {
+                    logger.warn("Compression level " + getCompression().getLevel()
+                            + " is ignored as Reactor Netty does not support "
+                            + "configuring it");
+                }
                 options.compression(getCompression().getMinResponseSize());
             }
             applyCustomizers(options);
@@ -16,19 +16,27 @@
 
 package org.springframework.boot.web.embedded.netty;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.web.server.GracefulShutdown;
+import org.springframework.boot.web.server.GracefulShutdownResult;
 import org.springframework.boot.web.server.PortInUseException;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.server.WebServerException;
 import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.core.publisher.Mono;
 import reactor.ipc.netty.http.HttpResources;
 import reactor.ipc.netty.http.server.HttpServer;
+import reactor.ipc.netty.http.server.HttpServerRequest;
+import reactor.ipc.netty.http.server.HttpServerResponse;
+import reactor.ipc.netty.resources.LoopResources;
 import reactor.ipc.netty.tcp.BlockingNettyContext;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.function.BiFunction;
 
 /**
  * {@link WebServer} that can be used to control a Reactor Netty web server. Usually this
@@ -48,19 +56,80 @@ public class NettyWebServer implements WebServer {
 
     private final HttpServer reactorServer;
 
+    private final GracefulShutdown gracefulShutdown;
+
+    private final LoopResources loopResources;
+
+    private final boolean resetGlobalResources;
+
     private BlockingNettyContext nettyContext;
 
     public NettyWebServer(HttpServer reactorServer,
                           ReactorHttpHandlerAdapter handlerAdapter) {
+        this(reactorServer, handlerAdapter, null);
+    }
+
+    /**
+     * Create a new {@link NettyWebServer} instance.
+     *
+     * @param reactorServer    the Reactor Netty server
+     * @param handlerAdapter   the handler adapter
+     * @param gracefulShutdown the graceful shutdown support or {@code null} if the
+     *                         server should stop immediately
+     */
+    public NettyWebServer(HttpServer reactorServer,
+                          ReactorHttpHandlerAdapter handlerAdapter,
+                          GracefulShutdown gracefulShutdown) {
+        this(reactorServer, handlerAdapter, gracefulShutdown, null);
+    }
+
+    /**
+     * Create a new {@link NettyWebServer} instance.
+     *
+     * @param reactorServer    the Reactor Netty server
+     * @param handlerAdapter   the handler adapter
+     * @param gracefulShutdown the graceful shutdown support or {@code null} if the
+     *                         server should stop immediately
+     * @param loopResources    dedicated loop resources that should be disposed when the
+     *                         server stops or {@code null} if shared resources are used
+     */
+    public NettyWebServer(HttpServer reactorServer,
+                          ReactorHttpHandlerAdapter handlerAdapter,
+                          GracefulShutdown gracefulShutdown, LoopResources loopResources) {
+        this(reactorServer, handlerAdapter, gracefulShutdown, loopResources, true);
+    }
+
+    /**
+     * Create a new {@link NettyWebServer} instance.
+     *
+     * @param reactorServer        the Reactor Netty server
+     * @param handlerAdapter       the handler adapter
+     * @param gracefulShutdown     the graceful shutdown support or {@code null} if the
+     *                             server should stop immediately
+     * @param loopResources        dedicated loop resources that should be disposed when
+     *                             the server stops or {@code null} if shared resources
+     *                             are used
+     * @param resetGlobalResources whether the global {@link HttpResources} should be
+     *                             reset when the server stops. Should be {@code false}
+     *                             when their lifecycle is managed elsewhere, for example
+     *                             by a {@link ReactorResourceFactory}
+     */
+    public NettyWebServer(HttpServer reactorServer,
+                          ReactorHttpHandlerAdapter handlerAdapter,
+                          GracefulShutdown gracefulShutdown, LoopResources loopResources,
+                          boolean resetGlobalResources) {
         this.reactorServer = reactorServer;
         this.handlerAdapter = handlerAdapter;
+        this.gracefulShutdown = gracefulShutdown;
+        this.loopResources = loopResources;
+        this.resetGlobalResources = resetGlobalResources;
     }
 
     @Override
     public void start() throws WebServerException {
         if (this.nettyContext == null) {
             try {
-                this.nettyContext = this.reactorServer.start(this.handlerAdapter);
+                this.nettyContext = this.reactorServer.start(getHandler());
             } catch (Exception ex) {
                 if (findBindException(ex) != null) {
                     SocketAddress address = this.reactorServer.options().getAddress();
@@ -76,6 +145,24 @@ public class NettyWebServer implements WebServer {
         }
     }
 
+    private BiFunction<HttpServerRequest, HttpServerResponse, Mono<Void>> getHandler() {
+        if (this.gracefulShutdown == null) {
+            return this.handlerAdapter;
+        }
+        GracefulShutdown gracefulShutdown = this.gracefulShutdown;
+        return (request, response) -> {
+            if (gracefulShutdown.isShuttingDown()) {
+                // Reject requests on connections that were accepted before shutdown
+                response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).keepAlive(false);
+                return Mono.empty();
+            }
+            return Mono.defer(() -> {
+                gracefulShutdown.requestStarted();
+                return this.handlerAdapter.apply(request, response);
+            }).doFinally((signal) -> gracefulShutdown.requestFinished());
+        };
+    }
+
     private BindException findBindException(Exception ex) {
         Throwable candidate = ex;
         while (candidate != null) {
@@ -105,11 +192,27 @@ public class NettyWebServer implements WebServer {
     public void stop() throws WebServerException {
         if (this.nettyContext != null) {
             this.nettyContext.shutdown();
-            // temporary fix for gh-9146
-            this.nettyContext.getContext().onClose()
-                    .doOnSuccess((o) -> HttpResources.reset()).block();
+            if (this.resetGlobalResources) {
+                // temporary fix for gh-9146
+                this.nettyContext.getContext().onClose()
+                        .doOnSuccess((o) -> HttpResources.reset()).block();
+            }
             this.nettyContext = null;
+            if (this.loopResources != null) {
+                this.loopResources.dispose();
+            }
+        }
+    }
+
+    @Override
+    public GracefulShutdownResult shutDownGracefully() {
+        if (this.gracefulShutdown == null || this.nettyContext == null) {
+            return GracefulShutdownResult.IMMEDIATE;
         }
+        // Closing the server channel stops accepting connections while leaving the
+        // child channels of in-flight requests open
+        return this.gracefulShutdown.shutDown(
+                () -> this.nettyContext.getContext().channel().close());
     }
 
     @Override
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.netty;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import reactor.ipc.netty.http.HttpResources;
+import reactor.ipc.netty.resources.LoopResources;
+import reactor.ipc.netty.resources.PoolResources;
+
+import java.util.function.Supplier;
+
+/**
+ * Factory to manage Reactor Netty resources, i.e. {@link LoopResources} for event loop
+ * threads and {@link PoolResources} for client connection pools, so that they can be
+ * shared by the {@link NettyReactiveWebServerFactory embedded server} and any number of
+ * HTTP clients. By default the global {@link HttpResources} are used. When the factory
+ * is {@link #destroy() destroyed}, the resources that it created are disposed and, if
+ * they were used, the global resources are reset. The server does not reset them when it
+ * stops so that clients remain usable until the factory is destroyed. A reactive web
+ * server application context stops its embedded server before it destroys its beans so
+ * that the server is never left running on disposed event loops.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class ReactorResourceFactory implements InitializingBean, DisposableBean {
+
+    private boolean useGlobalResources = true;
+
+    private Supplier<LoopResources> loopResourcesSupplier = () -> LoopResources
+            .create("reactor-http");
+
+    private Supplier<PoolResources> connectionPoolSupplier;
+
+    private LoopResources loopResources;
+
+    private PoolResources connectionPool;
+
+    private boolean manageLoopResources;
+
+    private boolean manageConnectionPool;
+
+    /**
+     * Set whether the global Reactor Netty event loop resources should be used. When
+     * {@code false}, dedicated event loop resources are created using the
+     * {@link #setLoopResourcesSupplier(Supplier) loop resources supplier}. Default is
+     * {@code true}.
+     *
+     * @param useGlobalResources whether to use the global event loop resources
+     */
+    public void setUseGlobalResources(boolean useGlobalResources) {
+        this.useGlobalResources = useGlobalResources;
+    }
+
+    /**
+     * Return whether the global Reactor Netty event loop resources are used.
+     *
+     * @return whether global event loop resources are used
+     */
+    public boolean isUseGlobalResources() {
+        return this.useGlobalResources;
+    }
+
+    /**
+     * Set the supplier used to create dedicated event loop resources when global
+     * resources are not used.
+     *
+     * @param loopResourcesSupplier the loop resources supplier
+     */
+    public void setLoopResourcesSupplier(Supplier<LoopResources> loopResourcesSupplier) {
+        Assert.notNull(loopResourcesSupplier, "LoopResourcesSupplier must not be null");
+        this.loopResourcesSupplier = loopResourcesSupplier;
+    }
+
+    /**
+     * Set the supplier used to create a dedicated client connection pool. When not set,
+     * the global connection pool is used.
+     *
+     * @param connectionPoolSupplier the connection pool supplier or {@code null}
+     */
+    public void setConnectionPoolSupplier(Supplier<PoolResources> connectionPoolSupplier) {
+        this.connectionPoolSupplier = connectionPoolSupplier;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (this.useGlobalResources) {
+            this.loopResources = HttpResources.get();
+        } else {
+            this.loopResources = this.loopResourcesSupplier.get();
+            this.manageLoopResources = true;
+        }
+        if (this.connectionPoolSupplier != null) {
+            this.connectionPool = this.connectionPoolSupplier.get();
+            this.manageConnectionPool = true;
+        } else {
+            this.connectionPool = HttpResources.get();
+        }
+    }
+
+    /**
+     * Return the event loop resources to use for servers and clients.
+     *
+     * @return the loop resources
+     */
+    public LoopResources getLoopResources() {
+        Assert.state(this.loopResources != null,
+                "ReactorResourceFactory has not been initialized");
+        return this.loopResources;
+    }
+
+    /**
+     * Return the connection pool to use for clients.
+     *
+     * @return the connection pool
+     */
+    public PoolResources getConnectionPool() {
+        Assert.state(this.connectionPool != null,
+                "ReactorResourceFactory has not been initialized");
+        return this.connectionPool;
+    }
+
+    @Override
+    public void destroy() {
+        if (this.manageConnectionPool && this.connectionPool != null) {
+            this.connectionPool.dispose();
+        }
+        if (this.manageLoopResources && this.loopResources != null) {
+            this.loopResources.dispose();
+        }
+        if (this.loopResources != null
+                && (!this.manageLoopResources || !this.manageConnectionPool)) {
+            HttpResources.reset();
+        }
+    }
+
+}
@@ -17,6 +17,8 @@
 package org.springframework.boot.web.embedded.tomcat;
 
 import org.apache.catalina.connector.Connector;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.coyote.ProtocolHandler;
 import org.apache.coyote.http11.AbstractHttp11Protocol;
 import org.springframework.boot.web.server.Compression;
@@ -30,6 +32,9 @@ import org.springframework.util.StringUtils;
  */
 class CompressionConnectorCustomizer implements TomcatConnectorCustomizer {
 
+    private static final Log logger = LogFactory
+            .getLog(CompressionConnectorCustomizer.class);
+
     private final Compression compression;
 
     CompressionConnectorCustomizer(Compression compression) {
@@ -39,6 +44,10 @@ class CompressionConnectorCustomizer implements TomcatConnectorCustomizer {
     @Override
     public void customize(Connector connector) {
         if (this.compression != null && this.compression.getEnabled()) {
+            if (this.compression.getLevel() != null) {
+                logger.warn("Compression level " + this.compression.getLevel()
+                        + " is ignored as Tomcat does not support configuring it");
+            }
             ProtocolHandler handler = connector.getProtocolHandler();
             if (handler instanceof AbstractHttp11Protocol) {
                 customize((AbstractHttp11Protocol<?>) handler);
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.tomcat;
+
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.springframework.boot.web.server.GracefulShutdown;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * {@link ValveBase Valve} that tracks active requests for {@link GracefulShutdown}.
+ * Requests that arrive on an existing connection once shutdown has commenced are
+ * rejected with a {@code 503 Service Unavailable} response.
+ *
+ * @author agent (agent@local)
+ */
+class GracefulShutdownValve extends ValveBase {
+
+    private final GracefulShutdown gracefulShutdown;
+
+    GracefulShutdownValve(GracefulShutdown gracefulShutdown) {
+        super(true);
+        this.gracefulShutdown = gracefulShutdown;
+    }
+
+    @Override
+    public void invoke(Request request, Response response)
+            throws IOException, ServletException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            getNext().invoke(request, response);
+            return;
+        }
+        if (this.gracefulShutdown.isShuttingDown()) {
+            response.setHeader("Connection", "close");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        this.gracefulShutdown.requestStarted();
+        boolean async = false;
+        try {
+            getNext().invoke(request, response);
+            async = request.isAsyncStarted();
+            if (async) {
+                request.getAsyncContext().addListener(new RequestFinishedListener());
+            }
+        } finally {
+            if (!async) {
+                this.gracefulShutdown.requestFinished();
+            }
+        }
+    }
+
+    /**
+     * {@link AsyncListener} used to track the completion of asynchronous requests.
+     */
+    private class RequestFinishedListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            GracefulShutdownValve.this.gracefulShutdown.requestFinished();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.tomcat;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.web.server.Http2;
+
+/**
+ * {@link TomcatConnectorCustomizer} that adds an HTTP/2 upgrade protocol to the given
+ * Connector. When added to a non-SSL connector, Tomcat handles HTTP/2 over cleartext
+ * (h2c) through the HTTP/1.1 upgrade mechanism.
+ *
+ * @author agent (agent@local)
+ */
+class Http2ConnectorCustomizer implements TomcatConnectorCustomizer {
+
+    private final Http2 http2;
+
+    Http2ConnectorCustomizer(Http2 http2) {
+        this.http2 = http2;
+    }
+
+    @Override
+    public void customize(Connector connector) {
+        Http2Protocol protocol = new Http2Protocol();
+        if (this.http2.getMaxConcurrentStreams() != null) {
+            protocol.setMaxConcurrentStreams(this.http2.getMaxConcurrentStreams());
+        }
+        if (this.http2.getInitialWindowSize() != null) {
+            protocol.setInitialWindowSize(this.http2.getInitialWindowSize());
+        }
+        // Tomcat's HPACK header table size is not configurable
+        connector.addUpgradeProtocol(protocol);
+    }
+
+}
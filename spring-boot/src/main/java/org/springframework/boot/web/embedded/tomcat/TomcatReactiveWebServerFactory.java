@@ -22,10 +22,10 @@ import org.apache.catalina.core.AprLifecycleListener;
 import org.apache.catalina.loader.WebappLoader;
 import org.apache.catalina.startup.Tomcat;
 import org.apache.coyote.AbstractProtocol;
-import org.apache.coyote.http2.Http2Protocol;
 import org.apache.tomcat.util.scan.StandardJarScanFilter;
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
+import org.springframework.boot.web.server.GracefulShutdown;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.http.server.reactive.TomcatHttpHandlerAdapter;
@@ -99,7 +99,8 @@ public class TomcatReactiveWebServerFactory extends AbstractReactiveWebServerFac
         configureEngine(tomcat.getEngine());
         TomcatHttpHandlerAdapter servlet = new TomcatHttpHandlerAdapter(httpHandler);
         prepareContext(tomcat.getHost(), servlet);
-        return new TomcatWebServer(tomcat, getPort() >= 0);
+        return new TomcatWebServer(tomcat, getPort() >= 0,
+                GracefulShutdown.of(getShutdown()));
     }
 
     private void configureEngine(Engine engine) {
@@ -160,6 +161,9 @@ public class TomcatReactiveWebServerFactory extends AbstractReactiveWebServerFac
         connector.setProperty("bindOnInit", "false");
         if (getSsl() != null && getSsl().isEnabled()) {
             customizeSsl(connector);
+        } else if (getHttp2() != null && getHttp2().isEnabled()
+                && getHttp2().isCleartext()) {
+            new Http2ConnectorCustomizer(getHttp2()).customize(connector);
         }
         TomcatConnectorCustomizer compression = new CompressionConnectorCustomizer(
                 getCompression());
@@ -178,7 +182,7 @@ public class TomcatReactiveWebServerFactory extends AbstractReactiveWebServerFac
     private void customizeSsl(Connector connector) {
         new SslConnectorCustomizer(getSsl(), getSslStoreProvider()).customize(connector);
         if (getHttp2() != null && getHttp2().isEnabled()) {
-            connector.addUpgradeProtocol(new Http2Protocol());
+            new Http2ConnectorCustomizer(getHttp2()).customize(connector);
         }
     }
 
@@ -346,7 +350,8 @@ public class TomcatReactiveWebServerFactory extends AbstractReactiveWebServerFac
      * @return a new {@link TomcatWebServer} instance
      */
     protected TomcatWebServer getTomcatWebServer(Tomcat tomcat) {
-        return new TomcatWebServer(tomcat, getPort() >= 0);
+        return new TomcatWebServer(tomcat, getPort() >= 0,
+                GracefulShutdown.of(getShutdown()));
     }
 
     /**
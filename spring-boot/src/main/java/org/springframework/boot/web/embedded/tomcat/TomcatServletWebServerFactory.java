@@ -29,9 +29,9 @@ import org.apache.catalina.webresources.AbstractResourceSet;
 import org.apache.catalina.webresources.EmptyResource;
 import org.apache.catalina.webresources.StandardRoot;
 import org.apache.coyote.AbstractProtocol;
-import org.apache.coyote.http2.Http2Protocol;
 import org.apache.tomcat.util.scan.StandardJarScanFilter;
 import org.springframework.boot.web.server.ErrorPage;
+import org.springframework.boot.web.server.GracefulShutdown;
 import org.springframework.boot.web.server.MimeMappings;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
@@ -284,6 +284,9 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
         connector.setProperty("bindOnInit", "false");
         if (getSsl() != null && getSsl().isEnabled()) {
             customizeSsl(connector);
+        } else if (getHttp2() != null && getHttp2().isEnabled()
+                && getHttp2().isCleartext()) {
+            new Http2ConnectorCustomizer(getHttp2()).customize(connector);
         }
         TomcatConnectorCustomizer compression = new CompressionConnectorCustomizer(
                 getCompression());
@@ -302,7 +305,7 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
     private void customizeSsl(Connector connector) {
         new SslConnectorCustomizer(getSsl(), getSslStoreProvider()).customize(connector);
         if (getHttp2() != null && getHttp2().isEnabled()) {
-            connector.addUpgradeProtocol(new Http2Protocol());
+            new Http2ConnectorCustomizer(getHttp2()).customize(connector);
         }
     }
 
@@ -394,7 +397,8 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
      * @return a new {@link TomcatWebServer} instance
      */
     protected TomcatWebServer getTomcatWebServer(Tomcat tomcat) {
-        return new TomcatWebServer(tomcat, getPort() >= 0);
+        return new TomcatWebServer(tomcat, getPort() >= 0,
+                GracefulShutdown.of(getShutdown()));
     }
 
     @Override
@@ -22,8 +22,11 @@ import org.apache.catalina.startup.Tomcat;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.naming.ContextBindings;
+import org.springframework.boot.web.server.GracefulShutdown;
+import org.springframework.boot.web.server.GracefulShutdownResult;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.server.WebServerException;
+import org.springframework.boot.web.server.WorkerPool;
 import org.springframework.util.Assert;
 
 import javax.naming.NamingException;
@@ -56,6 +59,10 @@ public class TomcatWebServer implements WebServer {
 
     private final boolean autoStart;
 
+    private final GracefulShutdown gracefulShutdown;
+
+    private final WorkerPool workerPool;
+
     private volatile boolean started;
 
     /**
@@ -74,9 +81,28 @@ public class TomcatWebServer implements WebServer {
      * @param autoStart if the server should be started
      */
     public TomcatWebServer(Tomcat tomcat, boolean autoStart) {
+        this(tomcat, autoStart, null);
+    }
+
+    /**
+     * Create a new {@link TomcatWebServer} instance.
+     *
+     * @param tomcat           the underlying Tomcat server
+     * @param autoStart        if the server should be started
+     * @param gracefulShutdown the graceful shutdown support or {@code null} if the
+     *                         server should stop immediately
+     */
+    public TomcatWebServer(Tomcat tomcat, boolean autoStart,
+                           GracefulShutdown gracefulShutdown) {
         Assert.notNull(tomcat, "Tomcat Server must not be null");
         this.tomcat = tomcat;
         this.autoStart = autoStart;
+        this.gracefulShutdown = gracefulShutdown;
+        if (gracefulShutdown != null) {
+            tomcat.getEngine().getPipeline()
+                    .addValve(new GracefulShutdownValve(gracefulShutdown));
+        }
+        this.workerPool = createWorkerPool();
         initialize();
     }
 
@@ -292,6 +318,35 @@ public class TomcatWebServer implements WebServer {
         }
     }
 
+    @Override
+    public GracefulShutdownResult shutDownGracefully() {
+        if (this.gracefulShutdown == null || !this.started) {
+            return GracefulShutdownResult.IMMEDIATE;
+        }
+        return this.gracefulShutdown.shutDown(this::pauseConnectors);
+    }
+
+    private void pauseConnectors() {
+        for (Connector connector : this.tomcat.getService().findConnectors()) {
+            try {
+                connector.pause();
+            } catch (Exception ex) {
+                TomcatWebServer.logger.warn("Cannot pause connector: ", ex);
+            }
+        }
+    }
+
+    private WorkerPool createWorkerPool() {
+        // Connectors are removed until the server starts so look them up beforehand
+        Connector[] connectors = this.tomcat.getService().findConnectors();
+        return (connectors.length > 0 ? new TomcatWorkerPool(connectors[0]) : null);
+    }
+
+    @Override
+    public WorkerPool getWorkerPool() {
+        return this.workerPool;
+    }
+
     private String getPortsDescription(boolean localPort) {
         StringBuilder ports = new StringBuilder();
         for (Connector connector : this.tomcat.getService().findConnectors()) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.tomcat;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.boot.web.server.WorkerPool;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * {@link WorkerPool} backed by the executor of a Tomcat {@link Connector}.
+ *
+ * @author agent (agent@local)
+ */
+class TomcatWorkerPool implements WorkerPool {
+
+    private final Connector connector;
+
+    TomcatWorkerPool(Connector connector) {
+        this.connector = connector;
+    }
+
+    @Override
+    public int getMinThreads() {
+        AbstractProtocol<?> protocol = getProtocol();
+        return (protocol != null ? protocol.getMinSpareThreads() : -1);
+    }
+
+    @Override
+    public int getMaxThreads() {
+        AbstractProtocol<?> protocol = getProtocol();
+        return (protocol != null ? protocol.getMaxThreads() : -1);
+    }
+
+    @Override
+    public int getThreads() {
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        return (executor != null ? executor.getPoolSize() : -1);
+    }
+
+    @Override
+    public int getBusyThreads() {
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        return (executor != null ? executor.getActiveCount() : -1);
+    }
+
+    @Override
+    public int getQueueSize() {
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        return (executor != null ? executor.getQueue().size() : -1);
+    }
+
+    @Override
+    public int getConfiguredAcceptBacklog() {
+        AbstractProtocol<?> protocol = getProtocol();
+        return (protocol != null ? protocol.getAcceptCount() : -1);
+    }
+
+    @Override
+    public void resize(int minThreads, int maxThreads) {
+        AbstractProtocol<?> protocol = getProtocol();
+        if (protocol != null) {
+            if (maxThreads >= protocol.getMaxThreads()) {
+                protocol.setMaxThreads(maxThreads);
+                protocol.setMinSpareThreads(minThreads);
+            } else {
+                protocol.setMinSpareThreads(minThreads);
+                protocol.setMaxThreads(maxThreads);
+            }
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        AbstractProtocol<?> protocol = getProtocol();
+        Executor executor = (protocol != null ? protocol.getExecutor() : null);
+        if (executor == null) {
+            throw new RejectedExecutionException("Connector is not running");
+        }
+        executor.execute(command);
+    }
+
+    private ThreadPoolExecutor getThreadPoolExecutor() {
+        AbstractProtocol<?> protocol = getProtocol();
+        Executor executor = (protocol != null ? protocol.getExecutor() : null);
+        return (executor instanceof ThreadPoolExecutor
+                ? (ThreadPoolExecutor) executor : null);
+    }
+
+    private AbstractProtocol<?> getProtocol() {
+        if (this.connector.getProtocolHandler() instanceof AbstractProtocol) {
+            return (AbstractProtocol<?>) this.connector.getProtocolHandler();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.undertow;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.StatusCodes;
+import org.springframework.boot.web.server.GracefulShutdown;
+
+/**
+ * {@link HttpHandler} that tracks active requests for {@link GracefulShutdown}. Requests
+ * that arrive on an existing connection once shutdown has commenced are rejected with
+ * a {@code 503 Service Unavailable} response.
+ *
+ * @author agent (agent@local)
+ */
+class GracefulShutdownHttpHandler implements HttpHandler {
+
+    private final GracefulShutdown gracefulShutdown;
+
+    private final HttpHandler next;
+
+    GracefulShutdownHttpHandler(GracefulShutdown gracefulShutdown, HttpHandler next) {
+        this.gracefulShutdown = gracefulShutdown;
+        this.next = next;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (this.gracefulShutdown.isShuttingDown()) {
+            exchange.setPersistent(false);
+            exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+            exchange.endExchange();
+            return;
+        }
+        this.gracefulShutdown.requestStarted();
+        exchange.addExchangeCompleteListener((completed, nextListener) -> {
+            this.gracefulShutdown.requestFinished();
+            nextListener.proceed();
+        });
+        this.next.handleRequest(exchange);
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.undertow;
+
+import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
+import org.springframework.boot.web.server.Http2;
+
+/**
+ * {@link UndertowBuilderCustomizer} that configures HTTP/2 on the given builder instance.
+ * On a plain HTTP listener Undertow serves HTTP/2 over cleartext (h2c) through both the
+ * HTTP/1.1 upgrade mechanism and prior knowledge.
+ *
+ * @author agent (agent@local)
+ */
+class Http2BuilderCustomizer implements UndertowBuilderCustomizer {
+
+    private final Http2 http2;
+
+    Http2BuilderCustomizer(Http2 http2) {
+        this.http2 = http2;
+    }
+
+    @Override
+    public void customize(Undertow.Builder builder) {
+        builder.setServerOption(UndertowOptions.ENABLE_HTTP2, this.http2.isEnabled());
+        if (!this.http2.isEnabled()) {
+            return;
+        }
+        if (this.http2.getMaxConcurrentStreams() != null) {
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS,
+                    this.http2.getMaxConcurrentStreams());
+        }
+        if (this.http2.getInitialWindowSize() != null) {
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE,
+                    this.http2.getInitialWindowSize());
+        }
+        if (this.http2.getHeaderTableSize() != null) {
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE,
+                    this.http2.getHeaderTableSize());
+        }
+    }
+
+}
@@ -28,6 +28,7 @@ import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import org.springframework.boot.web.server.Compression;
 import org.springframework.http.HttpHeaders;
+import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
@@ -58,7 +59,10 @@ final class UndertowCompressionConfigurer {
             return httpHandler;
         }
         ContentEncodingRepository repository = new ContentEncodingRepository();
-        repository.addEncodingHandler("gzip", new GzipEncodingProvider(), 50,
+        GzipEncodingProvider provider = (compression.getLevel() != null
+                ? new GzipEncodingProvider(compression.getLevel())
+                : new GzipEncodingProvider());
+        repository.addEncodingHandler("gzip", provider, 50,
                 Predicates.and(getCompressionPredicates(compression)));
         return new EncodingHandler(repository).setNext(httpHandler);
     }
@@ -93,9 +97,12 @@ final class UndertowCompressionConfigurer {
             String contentType = value.getResponseHeaders()
                     .getFirst(HttpHeaders.CONTENT_TYPE);
             if (contentType != null) {
+                MimeType parsedContentType = parseContentType(contentType);
+                if (parsedContentType == null) {
+                    return false;
+                }
                 for (MimeType mimeType : this.mimeTypes) {
-                    if (mimeType
-                            .isCompatibleWith(MimeTypeUtils.parseMimeType(contentType))) {
+                    if (mimeType.isCompatibleWith(parsedContentType)) {
                         return true;
                     }
                 }
@@ -103,6 +110,14 @@ final class UndertowCompressionConfigurer {
             return false;
         }
 
+        private MimeType parseContentType(String contentType) {
+            try {
+                return MimeTypeUtils.parseMimeType(contentType);
+            } catch (InvalidMimeTypeException ex) {
+                return null;
+            }
+        }
+
     }
 
     /**
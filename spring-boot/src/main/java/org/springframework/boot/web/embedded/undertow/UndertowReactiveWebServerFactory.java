@@ -18,7 +18,6 @@ package org.springframework.boot.web.embedded.undertow;
 
 import io.undertow.Handlers;
 import io.undertow.Undertow;
-import io.undertow.UndertowOptions;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.handlers.accesslog.AccessLogHandler;
 import io.undertow.server.handlers.accesslog.AccessLogReceiver;
@@ -26,6 +25,7 @@ import io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver;
 import io.undertow.servlet.api.DeploymentInfo;
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
+import org.springframework.boot.web.server.GracefulShutdown;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.server.reactive.UndertowHttpHandlerAdapter;
 import org.springframework.util.Assert;
@@ -97,8 +97,12 @@ public class UndertowReactiveWebServerFactory extends AbstractReactiveWebServerF
             org.springframework.http.server.reactive.HttpHandler httpHandler) {
         Undertow.Builder builder = createBuilder(getPort());
         HttpHandler handler = createUndertowHandler(httpHandler);
+        GracefulShutdown gracefulShutdown = GracefulShutdown.of(getShutdown());
+        if (gracefulShutdown != null) {
+            handler = new GracefulShutdownHttpHandler(gracefulShutdown, handler);
+        }
         builder.setHandler(handler);
-        return new UndertowWebServer(builder, getPort() >= 0);
+        return new UndertowWebServer(builder, getPort() >= 0, gracefulShutdown);
     }
 
     private Undertow.Builder createBuilder(int port) {
@@ -119,6 +123,9 @@ public class UndertowReactiveWebServerFactory extends AbstractReactiveWebServerF
             customizeSsl(builder);
         } else {
             builder.addHttpListener(port, getListenAddress());
+            if (getHttp2() != null && getHttp2().isCleartext()) {
+                new Http2BuilderCustomizer(getHttp2()).customize(builder);
+            }
         }
         for (UndertowBuilderCustomizer customizer : this.builderCustomizers) {
             customizer.customize(builder);
@@ -176,7 +183,7 @@ public class UndertowReactiveWebServerFactory extends AbstractReactiveWebServerF
         new SslBuilderCustomizer(getPort(), getAddress(), getSsl(), getSslStoreProvider())
                 .customize(builder);
         if (getHttp2() != null) {
-            builder.setServerOption(UndertowOptions.ENABLE_HTTP2, getHttp2().isEnabled());
+            new Http2BuilderCustomizer(getHttp2()).customize(builder);
         }
     }
 
@@ -24,12 +24,16 @@ import io.undertow.servlet.api.DeploymentManager;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.GracefulShutdown;
+import org.springframework.boot.web.server.GracefulShutdownResult;
 import org.springframework.boot.web.server.PortInUseException;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.server.WebServerException;
+import org.springframework.boot.web.server.WorkerPool;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.xnio.channels.BoundChannel;
+import org.xnio.channels.SuspendableAcceptChannel;
 
 import javax.servlet.ServletException;
 import java.lang.reflect.Field;
@@ -72,6 +76,8 @@ public class UndertowServletWebServer implements WebServer {
 
     private final String serverHeader;
 
+    private final GracefulShutdown gracefulShutdown;
+
     private Undertow undertow;
 
     private volatile boolean started = false;
@@ -121,6 +127,27 @@ public class UndertowServletWebServer implements WebServer {
     public UndertowServletWebServer(Builder builder, DeploymentManager manager,
                                     String contextPath, boolean useForwardHeaders, boolean autoStart,
                                     Compression compression, String serverHeader) {
+        this(builder, manager, contextPath, useForwardHeaders, autoStart, compression,
+                serverHeader, null);
+    }
+
+    /**
+     * Create a new {@link UndertowServletWebServer} instance.
+     *
+     * @param builder           the builder
+     * @param manager           the deployment manager
+     * @param contextPath       the root context path
+     * @param useForwardHeaders if x-forward headers should be used
+     * @param autoStart         if the server should be started
+     * @param compression       compression configuration
+     * @param serverHeader      string to be used in HTTP header
+     * @param gracefulShutdown  the graceful shutdown support or {@code null} if the
+     *                          server should stop immediately
+     */
+    public UndertowServletWebServer(Builder builder, DeploymentManager manager,
+                                    String contextPath, boolean useForwardHeaders, boolean autoStart,
+                                    Compression compression, String serverHeader,
+                                    GracefulShutdown gracefulShutdown) {
         this.builder = builder;
         this.manager = manager;
         this.contextPath = contextPath;
@@ -128,6 +155,7 @@ public class UndertowServletWebServer implements WebServer {
         this.autoStart = autoStart;
         this.compression = compression;
         this.serverHeader = serverHeader;
+        this.gracefulShutdown = gracefulShutdown;
     }
 
     @Override
@@ -203,6 +231,10 @@ public class UndertowServletWebServer implements WebServer {
         if (StringUtils.hasText(this.serverHeader)) {
             httpHandler = Handlers.header(httpHandler, "Server", this.serverHeader);
         }
+        if (this.gracefulShutdown != null) {
+            httpHandler = new GracefulShutdownHttpHandler(this.gracefulShutdown,
+                    httpHandler);
+        }
         this.builder.setHandler(httpHandler);
         return this.builder.build();
     }
@@ -303,6 +335,27 @@ public class UndertowServletWebServer implements WebServer {
         }
     }
 
+    @Override
+    public GracefulShutdownResult shutDownGracefully() {
+        if (this.gracefulShutdown == null || !this.started) {
+            return GracefulShutdownResult.IMMEDIATE;
+        }
+        return this.gracefulShutdown.shutDown(this::suspendAccepts);
+    }
+
+    private void suspendAccepts() {
+        for (BoundChannel channel : extractChannels()) {
+            if (channel instanceof SuspendableAcceptChannel) {
+                ((SuspendableAcceptChannel) channel).suspendAccepts();
+            }
+        }
+    }
+
+    @Override
+    public WorkerPool getWorkerPool() {
+        return (this.started ? UndertowWorkerPool.get(this.undertow) : null);
+    }
+
     @Override
     public int getPort() {
         List<Port> ports = getActualPorts();
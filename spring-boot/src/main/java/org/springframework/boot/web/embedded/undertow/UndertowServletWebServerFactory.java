@@ -18,7 +18,6 @@ package org.springframework.boot.web.embedded.undertow;
 
 import io.undertow.Undertow;
 import io.undertow.Undertow.Builder;
-import io.undertow.UndertowOptions;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.handlers.accesslog.AccessLogHandler;
 import io.undertow.server.handlers.accesslog.AccessLogReceiver;
@@ -30,6 +29,7 @@ import io.undertow.servlet.api.*;
 import io.undertow.servlet.handlers.DefaultServlet;
 import io.undertow.servlet.util.ImmediateInstanceFactory;
 import org.springframework.boot.web.server.ErrorPage;
+import org.springframework.boot.web.server.GracefulShutdown;
 import org.springframework.boot.web.server.MimeMappings.Mapping;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
@@ -217,6 +217,9 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
             customizeSsl(builder);
         } else {
             builder.addHttpListener(port, getListenAddress());
+            if (getHttp2() != null && getHttp2().isCleartext()) {
+                new Http2BuilderCustomizer(getHttp2()).customize(builder);
+            }
         }
         for (UndertowBuilderCustomizer customizer : this.builderCustomizers) {
             customizer.customize(builder);
@@ -228,7 +231,7 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
         new SslBuilderCustomizer(getPort(), getAddress(), getSsl(), getSslStoreProvider())
                 .customize(builder);
         if (getHttp2() != null) {
-            builder.setServerOption(UndertowOptions.ENABLE_HTTP2, getHttp2().isEnabled());
+            new Http2BuilderCustomizer(getHttp2()).customize(builder);
         }
     }
 
@@ -422,7 +425,8 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
     protected UndertowServletWebServer getUndertowWebServer(Builder builder,
                                                             DeploymentManager manager, int port) {
         return new UndertowServletWebServer(builder, manager, getContextPath(),
-                isUseForwardHeaders(), port >= 0, getCompression(), getServerHeader());
+                isUseForwardHeaders(), port >= 0, getCompression(), getServerHeader(),
+                GracefulShutdown.of(getShutdown()));
     }
 
     @Override
@@ -19,12 +19,16 @@ package org.springframework.boot.web.embedded.undertow;
 import io.undertow.Undertow;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.web.server.GracefulShutdown;
+import org.springframework.boot.web.server.GracefulShutdownResult;
 import org.springframework.boot.web.server.PortInUseException;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.server.WebServerException;
+import org.springframework.boot.web.server.WorkerPool;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.xnio.channels.BoundChannel;
+import org.xnio.channels.SuspendableAcceptChannel;
 
 import java.lang.reflect.Field;
 import java.net.BindException;
@@ -55,6 +59,8 @@ public class UndertowWebServer implements WebServer {
 
     private final boolean autoStart;
 
+    private final GracefulShutdown gracefulShutdown;
+
     private Undertow undertow;
 
     private volatile boolean started = false;
@@ -66,8 +72,23 @@ public class UndertowWebServer implements WebServer {
      * @param autoStart if the server should be started
      */
     public UndertowWebServer(Undertow.Builder builder, boolean autoStart) {
+        this(builder, autoStart, null);
+    }
+
+    /**
+     * Create a new {@link UndertowWebServer} instance.
+     *
+     * @param builder          the builder
+     * @param autoStart        if the server should be started
+     * @param gracefulShutdown the graceful shutdown support or {@code null} if the
+     *                         server should stop immediately. The builder's handler
+     *                         is expected to be wrapped accordingly
+     */
+    public UndertowWebServer(Undertow.Builder builder, boolean autoStart,
+                             GracefulShutdown gracefulShutdown) {
         this.builder = builder;
         this.autoStart = autoStart;
+        this.gracefulShutdown = gracefulShutdown;
     }
 
     @Override
@@ -214,6 +235,27 @@ public class UndertowWebServer implements WebServer {
         }
     }
 
+    @Override
+    public GracefulShutdownResult shutDownGracefully() {
+        if (this.gracefulShutdown == null || !this.started) {
+            return GracefulShutdownResult.IMMEDIATE;
+        }
+        return this.gracefulShutdown.shutDown(this::suspendAccepts);
+    }
+
+    private void suspendAccepts() {
+        for (BoundChannel channel : extractChannels()) {
+            if (channel instanceof SuspendableAcceptChannel) {
+                ((SuspendableAcceptChannel) channel).suspendAccepts();
+            }
+        }
+    }
+
+    @Override
+    public WorkerPool getWorkerPool() {
+        return (this.started ? UndertowWorkerPool.get(this.undertow) : null);
+    }
+
     @Override
     public int getPort() {
         List<UndertowWebServer.Port> ports = getActualPorts();
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.embedded.undertow;
+
+import io.undertow.Undertow;
+import org.springframework.boot.web.server.WorkerPool;
+import org.springframework.util.ReflectionUtils;
+import org.xnio.Option;
+import org.xnio.Options;
+import org.xnio.XnioWorker;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+
+/**
+ * {@link WorkerPool} backed by the task pool of an {@link XnioWorker}. XNIO does not
+ * expose the number of busy threads or the length of its task queue so those are
+ * reported as {@code -1}.
+ *
+ * @author agent (agent@local)
+ */
+class UndertowWorkerPool implements WorkerPool {
+
+    private final XnioWorker worker;
+
+    UndertowWorkerPool(XnioWorker worker) {
+        this.worker = worker;
+    }
+
+    @Override
+    public int getMinThreads() {
+        return getOption(Options.WORKER_TASK_CORE_THREADS);
+    }
+
+    @Override
+    public int getMaxThreads() {
+        return getOption(Options.WORKER_TASK_MAX_THREADS);
+    }
+
+    @Override
+    public int getThreads() {
+        return -1;
+    }
+
+    @Override
+    public int getBusyThreads() {
+        return -1;
+    }
+
+    @Override
+    public int getQueueSize() {
+        return -1;
+    }
+
+    @Override
+    public int getConfiguredAcceptBacklog() {
+        return -1;
+    }
+
+    @Override
+    public void resize(int minThreads, int maxThreads) {
+        try {
+            if (maxThreads >= getMaxThreads()) {
+                this.worker.setOption(Options.WORKER_TASK_MAX_THREADS, maxThreads);
+                this.worker.setOption(Options.WORKER_TASK_CORE_THREADS, minThreads);
+            } else {
+                this.worker.setOption(Options.WORKER_TASK_CORE_THREADS, minThreads);
+                this.worker.setOption(Options.WORKER_TASK_MAX_THREADS, maxThreads);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to resize XNIO worker", ex);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.worker.execute(command);
+    }
+
+    private int getOption(Option<Integer> option) {
+        try {
+            Integer value = this.worker.getOption(option);
+            return (value != null ? value : -1);
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Return a {@link WorkerPool} for the given {@link Undertow} server or {@code null}
+     * if the server has not been started.
+     *
+     * @param undertow the Undertow server (may be {@code null})
+     * @return the worker pool or {@code null}
+     */
+    static WorkerPool get(Undertow undertow) {
+        if (undertow == null) {
+            return null;
+        }
+        Field workerField = ReflectionUtils.findField(Undertow.class, "worker");
+        ReflectionUtils.makeAccessible(workerField);
+        XnioWorker worker = (XnioWorker) ReflectionUtils.getField(workerField, undertow);
+        return (worker != null ? new UndertowWorkerPool(worker) : null);
+    }
+
+}
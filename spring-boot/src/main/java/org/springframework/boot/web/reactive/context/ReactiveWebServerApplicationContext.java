@@ -19,6 +19,7 @@ package org.springframework.boot.web.reactive.context;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.boot.web.context.ConfigurableWebServerApplicationContext;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.context.ApplicationContextException;
@@ -86,6 +87,14 @@ public class ReactiveWebServerApplicationContext
         }
     }
 
+    @Override
+    protected void destroyBeans() {
+        // Stop the server before beans that it depends upon, such as the Reactor Netty
+        // event loops, are destroyed
+        stopAndReleaseReactiveWebServer();
+        super.destroyBeans();
+    }
+
     @Override
     protected void onClose() {
         super.onClose();
@@ -96,6 +105,8 @@ public class ReactiveWebServerApplicationContext
         WebServer localServer = this.webServer;
         if (localServer == null) {
             this.webServer = getWebServerFactory().getWebServer(getHttpHandler());
+            getBeanFactory().registerSingleton(WebServerGracefulShutdownLifecycle.BEAN_NAME,
+                    new WebServerGracefulShutdownLifecycle(this.webServer));
         }
         initPropertySources();
     }
@@ -17,6 +17,7 @@
 package org.springframework.boot.web.reactive.error;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.support.WebExchangeBindException;
@@ -26,6 +27,7 @@ import org.springframework.web.server.ServerWebExchange;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -43,9 +45,14 @@ import java.util.Map;
  * <li>trace - The exception stack trace</li>
  * <li>path - The URL path when the exception was raised</li>
  * </ul>
+ * When {@link #DefaultErrorAttributes(boolean, boolean) caching} is enabled, only the
+ * status, error and (if configured) exception attributes are provided. They are computed
+ * once per status and exception type and every later error of that kind receives a
+ * modifiable copy of them.
  *
  * @author Brian Clozel
  * @author Stephane Nicoll
+ * @author agent (agent@local)
  * @see ErrorAttributes
  * @since 2.0.0
  */
@@ -56,6 +63,10 @@ public class DefaultErrorAttributes implements ErrorAttributes {
 
     private final boolean includeException;
 
+    private final boolean cacheAttributes;
+
+    private final Map<Class<?>, Map<HttpStatus, Map<String, Object>>> cache = new ConcurrentReferenceHashMap<>();
+
     /**
      * Create a new {@link DefaultErrorAttributes} instance that does not include the
      * "exception" attribute.
@@ -70,12 +81,27 @@ public class DefaultErrorAttributes implements ErrorAttributes {
      * @param includeException whether to include the "exception" attribute
      */
     public DefaultErrorAttributes(boolean includeException) {
+        this(includeException, false);
+    }
+
+    /**
+     * Create a new {@link DefaultErrorAttributes} instance.
+     *
+     * @param includeException whether to include the "exception" attribute
+     * @param cacheAttributes whether to cache the attributes per status and exception
+     * type, leaving out the attributes that vary from one error to another
+     */
+    public DefaultErrorAttributes(boolean includeException, boolean cacheAttributes) {
         this.includeException = includeException;
+        this.cacheAttributes = cacheAttributes;
     }
 
     @Override
     public Map<String, Object> getErrorAttributes(ServerRequest request,
                                                   boolean includeStackTrace) {
+        if (this.cacheAttributes) {
+            return getCachedErrorAttributes(request);
+        }
         Map<String, Object> errorAttributes = new LinkedHashMap<>();
         errorAttributes.put("timestamp", new Date());
         errorAttributes.put("path", request.path());
@@ -88,6 +114,31 @@ public class DefaultErrorAttributes implements ErrorAttributes {
         return errorAttributes;
     }
 
+    private Map<String, Object> getCachedErrorAttributes(ServerRequest request) {
+        Throwable error = getError(request);
+        HttpStatus errorStatus = determineHttpStatus(error);
+        Throwable exception = determineException(error);
+        Map<HttpStatus, Map<String, Object>> attributesByStatus = this.cache
+                .computeIfAbsent(exception.getClass(), (type) -> new ConcurrentReferenceHashMap<>());
+        Map<String, Object> errorAttributes = attributesByStatus.get(errorStatus);
+        if (errorAttributes == null) {
+            errorAttributes = createCachedErrorAttributes(errorStatus, exception);
+            attributesByStatus.putIfAbsent(errorStatus, errorAttributes);
+        }
+        return new LinkedHashMap<>(errorAttributes);
+    }
+
+    private Map<String, Object> createCachedErrorAttributes(HttpStatus errorStatus,
+                                                            Throwable exception) {
+        Map<String, Object> errorAttributes = new LinkedHashMap<>();
+        errorAttributes.put("status", errorStatus.value());
+        errorAttributes.put("error", errorStatus.getReasonPhrase());
+        if (this.includeException) {
+            errorAttributes.put("exception", exception.getClass().getName());
+        }
+        return Collections.unmodifiableMap(errorAttributes);
+    }
+
     private HttpStatus determineHttpStatus(Throwable error) {
         if (error instanceof ResponseStatusException) {
             return ((ResponseStatusException) error).getStatus();
@@ -56,6 +56,8 @@ public abstract class AbstractConfigurableWebServerFactory
 
     private String serverHeader;
 
+    private Shutdown shutdown;
+
     /**
      * Create a new {@link AbstractConfigurableWebServerFactory} instance.
      */
@@ -167,6 +169,15 @@ public abstract class AbstractConfigurableWebServerFactory
         this.serverHeader = serverHeader;
     }
 
+    public Shutdown getShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public void setShutdown(Shutdown shutdown) {
+        this.shutdown = shutdown;
+    }
+
     /**
      * Return the absolute temp dir for given web server.
      *
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.web.server;
 
+import org.springframework.util.Assert;
+
 /**
  * Simple server-independent abstraction for compression configuration.
  *
@@ -47,6 +49,13 @@ public class Compression {
      */
     private int minResponseSize = 2048;
 
+    /**
+     * Compression level, from 1 (fastest) to 9 (best compression). When not set, the
+     * server's default level is used. Only supported by Jetty and Undertow. Other
+     * servers log a warning and ignore it.
+     */
+    private Integer level;
+
     public boolean getEnabled() {
         return this.enabled;
     }
@@ -71,6 +80,16 @@ public class Compression {
         this.minResponseSize = minSize;
     }
 
+    public Integer getLevel() {
+        return this.level;
+    }
+
+    public void setLevel(Integer level) {
+        Assert.isTrue(level == null || (level >= 1 && level <= 9),
+                "Level must be between 1 and 9");
+        this.level = level;
+    }
+
     public String[] getExcludedUserAgents() {
         return this.excludedUserAgents;
     }
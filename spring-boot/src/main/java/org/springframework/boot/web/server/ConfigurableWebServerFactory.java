@@ -82,6 +82,13 @@ public interface ConfigurableWebServerFactory
      */
     void setCompression(Compression compression);
 
+    /**
+     * Sets the shutdown configuration that will be applied to the server.
+     *
+     * @param shutdown the shutdown configuration
+     */
+    void setShutdown(Shutdown shutdown);
+
     /**
      * Sets the server header value.
      *
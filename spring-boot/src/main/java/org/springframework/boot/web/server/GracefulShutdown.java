@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.server;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the active requests of a {@link WebServer} so that they can be drained when
+ * the server is shut down gracefully. Server implementations call
+ * {@link #requestStarted()} and {@link #requestFinished()} around each request and
+ * {@link #shutDown(Runnable)} once the server should stop accepting new connections.
+ * Once {@link #isShuttingDown() shutting down}, server implementations reject requests
+ * that arrive on existing connections with a {@code 503 Service Unavailable} response
+ * that closes the connection.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class GracefulShutdown {
+
+    private static final Log logger = LogFactory.getLog(GracefulShutdown.class);
+
+    private static final long POLL_INTERVAL = 50;
+
+    private final Duration timeout;
+
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    private final AtomicInteger finishedRequests = new AtomicInteger();
+
+    private volatile boolean shuttingDown;
+
+    /**
+     * Create a new {@link GracefulShutdown} instance.
+     *
+     * @param timeout the maximum time to wait for active requests to complete
+     */
+    public GracefulShutdown(Duration timeout) {
+        Assert.notNull(timeout, "Timeout must not be null");
+        this.timeout = timeout;
+    }
+
+    /**
+     * Create a {@link GracefulShutdown} from the given {@link Shutdown} configuration.
+     *
+     * @param shutdown the shutdown configuration (may be {@code null})
+     * @return a graceful shutdown or {@code null} if graceful shutdown is not enabled
+     */
+    public static GracefulShutdown of(Shutdown shutdown) {
+        if (shutdown == null || !shutdown.isGraceful()) {
+            return null;
+        }
+        return new GracefulShutdown(shutdown.getTimeout());
+    }
+
+    /**
+     * Signal that a request has started.
+     */
+    public void requestStarted() {
+        this.activeRequests.incrementAndGet();
+    }
+
+    /**
+     * Signal that a request has finished.
+     */
+    public void requestFinished() {
+        this.activeRequests.decrementAndGet();
+        this.finishedRequests.incrementAndGet();
+    }
+
+    /**
+     * Return the number of requests that are currently active.
+     *
+     * @return the number of active requests
+     */
+    public int getActiveRequests() {
+        return this.activeRequests.get();
+    }
+
+    /**
+     * Return if a shutdown is in progress.
+     *
+     * @return {@code true} if the server is shutting down
+     */
+    public boolean isShuttingDown() {
+        return this.shuttingDown;
+    }
+
+    /**
+     * Stop accepting new connections and wait, up to the configured timeout, for
+     * active requests to complete.
+     *
+     * @param stopAccepting callback used to stop accepting new connections
+     * @return the result of the shutdown
+     */
+    public GracefulShutdownResult shutDown(Runnable stopAccepting) {
+        int finishedBeforeShutdown = this.finishedRequests.get();
+        this.shuttingDown = true;
+        stopAccepting.run();
+        logger.info("Commencing graceful shutdown, waiting for "
+                + this.activeRequests.get() + " active request(s) to complete");
+        long deadline = System.currentTimeMillis() + this.timeout.toMillis();
+        try {
+            while (this.activeRequests.get() > 0
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(POLL_INTERVAL);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        GracefulShutdownResult result = new GracefulShutdownResult(
+                this.finishedRequests.get() - finishedBeforeShutdown,
+                this.activeRequests.get());
+        if (result.isComplete()) {
+            logger.info("Graceful shutdown complete, " + result.getDrained()
+                    + " request(s) drained");
+        } else {
+            logger.warn("Graceful shutdown timed out after " + this.timeout.toMillis()
+                    + "ms, " + result.getDrained() + " request(s) drained, "
+                    + result.getAborted() + " request(s) will be aborted");
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.server;
+
+/**
+ * The result of a {@link WebServer#shutDownGracefully() graceful shutdown} request.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public final class GracefulShutdownResult {
+
+    /**
+     * Result returned when the server was stopped without waiting for any in-flight
+     * requests.
+     */
+    public static final GracefulShutdownResult IMMEDIATE = new GracefulShutdownResult(
+            0, 0);
+
+    private final int drained;
+
+    private final int aborted;
+
+    public GracefulShutdownResult(int drained, int aborted) {
+        this.drained = drained;
+        this.aborted = aborted;
+    }
+
+    /**
+     * Return the number of in-flight requests that completed during the grace period.
+     *
+     * @return the number of drained requests
+     */
+    public int getDrained() {
+        return this.drained;
+    }
+
+    /**
+     * Return the number of requests that were still active when the grace period
+     * expired and that will be aborted when the server stops.
+     *
+     * @return the number of aborted requests
+     */
+    public int getAborted() {
+        return this.aborted;
+    }
+
+    /**
+     * Return if all in-flight requests completed within the grace period.
+     *
+     * @return {@code true} if no requests were aborted
+     */
+    public boolean isComplete() {
+        return this.aborted == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GracefulShutdownResult [drained=" + this.drained + ", aborted="
+                + this.aborted + "]";
+    }
+
+}
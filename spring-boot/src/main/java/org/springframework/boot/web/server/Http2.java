@@ -29,6 +29,30 @@ public class Http2 {
      */
     private boolean enabled = false;
 
+    /**
+     * Whether to also accept HTTP/2 over cleartext connections (h2c), using either the
+     * HTTP/1.1 upgrade mechanism or prior knowledge.
+     */
+    private boolean cleartext = false;
+
+    /**
+     * Maximum number of concurrent streams allowed per connection. When not set, the
+     * server's default is used.
+     */
+    private Integer maxConcurrentStreams;
+
+    /**
+     * Initial flow-control window size, in bytes, for each stream. When not set, the
+     * server's default is used.
+     */
+    private Integer initialWindowSize;
+
+    /**
+     * Maximum size, in bytes, of the HPACK header table. When not set, the server's
+     * default is used.
+     */
+    private Integer headerTableSize;
+
     public boolean isEnabled() {
         return this.enabled;
     }
@@ -37,4 +61,36 @@ public class Http2 {
         this.enabled = enabled;
     }
 
+    public boolean isCleartext() {
+        return this.cleartext;
+    }
+
+    public void setCleartext(boolean cleartext) {
+        this.cleartext = cleartext;
+    }
+
+    public Integer getMaxConcurrentStreams() {
+        return this.maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(Integer maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    public Integer getInitialWindowSize() {
+        return this.initialWindowSize;
+    }
+
+    public void setInitialWindowSize(Integer initialWindowSize) {
+        this.initialWindowSize = initialWindowSize;
+    }
+
+    public Integer getHeaderTableSize() {
+        return this.headerTableSize;
+    }
+
+    public void setHeaderTableSize(Integer headerTableSize) {
+        this.headerTableSize = headerTableSize;
+    }
+
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.server;
+
+import java.time.Duration;
+
+/**
+ * Simple server-independent abstraction for shutdown configuration.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ */
+public class Shutdown {
+
+    /**
+     * Whether the server should stop accepting new requests and wait for in-flight
+     * requests to complete before stopping.
+     */
+    private boolean graceful = false;
+
+    /**
+     * Maximum time to wait for in-flight requests to complete during a graceful
+     * shutdown.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    public boolean isGraceful() {
+        return this.graceful;
+    }
+
+    public void setGraceful(boolean graceful) {
+        this.graceful = graceful;
+    }
+
+    public Duration getTimeout() {
+        return this.timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+}
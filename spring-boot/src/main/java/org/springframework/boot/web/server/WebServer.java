@@ -43,6 +43,28 @@ public interface WebServer {
      */
     void stop() throws WebServerException;
 
+    /**
+     * Initiates a graceful shutdown of the web server. The server stops accepting new
+     * connections and waits for active requests to complete before returning. The
+     * server must still be {@link #stop() stopped} afterwards. By default no graceful
+     * shutdown is performed.
+     *
+     * @return the result of the graceful shutdown
+     */
+    default GracefulShutdownResult shutDownGracefully() {
+        return GracefulShutdownResult.IMMEDIATE;
+    }
+
+    /**
+     * Return the pool of threads that the server uses to process requests or
+     * {@code null} if the server does not expose one.
+     *
+     * @return the worker pool or {@code null}
+     */
+    default WorkerPool getWorkerPool() {
+        return null;
+    }
+
     /**
      * Return the port this server is listening on.
      *
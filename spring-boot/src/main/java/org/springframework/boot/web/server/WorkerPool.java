@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.server;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Server-independent view of the pool of threads that a {@link WebServer} uses to
+ * process requests. Values that the underlying server does not expose are reported as
+ * {@code -1}.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ * @see WebServer#getWorkerPool()
+ */
+public interface WorkerPool extends Executor {
+
+    /**
+     * Return the minimum number of threads that the pool keeps alive.
+     *
+     * @return the minimum number of threads or {@code -1}
+     */
+    int getMinThreads();
+
+    /**
+     * Return the maximum number of threads that the pool may create.
+     *
+     * @return the maximum number of threads or {@code -1}
+     */
+    int getMaxThreads();
+
+    /**
+     * Return the number of threads that are currently in the pool.
+     *
+     * @return the current number of threads or {@code -1}
+     */
+    int getThreads();
+
+    /**
+     * Return the number of threads that are currently processing work.
+     *
+     * @return the number of busy threads or {@code -1}
+     */
+    int getBusyThreads();
+
+    /**
+     * Return the number of tasks that are waiting for a thread to become available.
+     *
+     * @return the queue size or {@code -1}
+     */
+    int getQueueSize();
+
+    /**
+     * Return the configured maximum length of the queue of incoming connections that the
+     * operating system holds before they are accepted. This is the limit requested from
+     * the operating system, not the number of connections that are currently waiting.
+     *
+     * @return the configured accept backlog or {@code -1}
+     */
+    int getConfiguredAcceptBacklog();
+
+    /**
+     * Resize the pool to the given bounds. Threads that are no longer needed are
+     * released as they become idle.
+     *
+     * @param minThreads the new minimum number of threads
+     * @param maxThreads the new maximum number of threads
+     */
+    void resize(int minThreads, int maxThreads);
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.server;
+
+import java.time.Duration;
+
+/**
+ * Simple server-independent abstraction for worker pool monitoring and adaptive sizing
+ * configuration.
+ *
+ * @author agent (agent@local)
+ * @since 2.0.0
+ * @see WorkerPool
+ */
+public class WorkerPoolTuning {
+
+    /**
+     * How often the time that a task waits in the worker pool queue is sampled. Only
+     * applies when adaptive sizing is enabled or worker pool metrics are recorded.
+     */
+    private Duration sampleInterval = Duration.ofSeconds(1);
+
+    /**
+     * Whether the maximum size of the worker pool should be adjusted, within bounds,
+     * based on the sampled queue wait time.
+     */
+    private boolean adaptive = false;
+
+    /**
+     * Lower bound for the maximum number of worker threads when adaptive sizing is
+     * enabled. Defaults to the configured maximum number of threads.
+     */
+    private Integer minThreads;
+
+    /**
+     * Upper bound for the maximum number of worker threads when adaptive sizing is
+     * enabled. Defaults to twice the configured maximum number of threads.
+     */
+    private Integer maxThreads;
+
+    /**
+     * Queue wait time above which the worker pool is grown when adaptive sizing is
+     * enabled.
+     */
+    private Duration targetQueueWait = Duration.ofMillis(20);
+
+    public Duration getSampleInterval() {
+        return this.sampleInterval;
+    }
+
+    public void setSampleInterval(Duration sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public Integer getMinThreads() {
+        return this.minThreads;
+    }
+
+    public void setMinThreads(Integer minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    public Integer getMaxThreads() {
+        return this.maxThreads;
+    }
+
+    public void setMaxThreads(Integer maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    public Duration getTargetQueueWait() {
+        return this.targetQueueWait;
+    }
+
+    public void setTargetQueueWait(Duration targetQueueWait) {
+        this.targetQueueWait = targetQueueWait;
+    }
+
+}
@@ -23,6 +23,7 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.Scope;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.boot.web.context.ConfigurableWebServerApplicationContext;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
@@ -163,6 +164,8 @@ public class ServletWebServerApplicationContext extends GenericWebApplicationCon
         if (webServer == null && servletContext == null) {
             ServletWebServerFactory factory = getWebServerFactory();
             this.webServer = factory.getWebServer(getSelfInitializer());
+            getBeanFactory().registerSingleton(WebServerGracefulShutdownLifecycle.BEAN_NAME,
+                    new WebServerGracefulShutdownLifecycle(this.webServer));
         } else if (servletContext != null) {
             try {
                 getSelfInitializer().onStartup(servletContext);
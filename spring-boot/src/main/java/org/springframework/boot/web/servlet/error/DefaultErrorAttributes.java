@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.boot.web.servlet.error;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
@@ -33,6 +34,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -50,11 +52,16 @@ import java.util.Map;
  * <li>trace - The exception stack trace</li>
  * <li>path - The URL path when the exception was raised</li>
  * </ul>
+ * When {@link #DefaultErrorAttributes(boolean, boolean) caching} is enabled, only the
+ * status, error and (if configured) exception attributes are provided. They are computed
+ * once per status and exception type and every later error of that kind receives a
+ * modifiable copy of them.
  *
  * @author Phillip Webb
  * @author Dave Syer
  * @author Stephane Nicoll
  * @author Vedran Pavic
+ * @author agent (agent@local)
  * @see ErrorAttributes
  * @since 2.0.0
  */
@@ -65,8 +72,14 @@ public class DefaultErrorAttributes
     private static final String ERROR_ATTRIBUTE = DefaultErrorAttributes.class.getName()
             + ".ERROR";
 
+    private static final Integer NO_STATUS = -1;
+
     private final boolean includeException;
 
+    private final boolean cacheAttributes;
+
+    private final Map<Class<?>, Map<Integer, Map<String, Object>>> cache = new ConcurrentReferenceHashMap<>();
+
     /**
      * Create a new {@link DefaultErrorAttributes} instance that does not include the
      * "exception" attribute.
@@ -81,7 +94,19 @@ public class DefaultErrorAttributes
      * @param includeException whether to include the "exception" attribute
      */
     public DefaultErrorAttributes(boolean includeException) {
+        this(includeException, false);
+    }
+
+    /**
+     * Create a new {@link DefaultErrorAttributes} instance.
+     *
+     * @param includeException whether to include the "exception" attribute
+     * @param cacheAttributes whether to cache the attributes per status and exception
+     * type, leaving out the attributes that vary from one error to another
+     */
+    public DefaultErrorAttributes(boolean includeException, boolean cacheAttributes) {
         this.includeException = includeException;
+        this.cacheAttributes = cacheAttributes;
     }
 
     @Override
@@ -103,6 +128,9 @@ public class DefaultErrorAttributes
     @Override
     public Map<String, Object> getErrorAttributes(WebRequest webRequest,
                                                   boolean includeStackTrace) {
+        if (this.cacheAttributes) {
+            return getCachedErrorAttributes(webRequest);
+        }
         Map<String, Object> errorAttributes = new LinkedHashMap<>();
         errorAttributes.put("timestamp", new Date());
         addStatus(errorAttributes, webRequest);
@@ -111,6 +139,31 @@ public class DefaultErrorAttributes
         return errorAttributes;
     }
 
+    private Map<String, Object> getCachedErrorAttributes(WebRequest webRequest) {
+        Integer status = getAttribute(webRequest, "javax.servlet.error.status_code");
+        Throwable error = getRootError(webRequest);
+        Class<?> errorType = (error != null ? error.getClass() : Void.class);
+        Map<Integer, Map<String, Object>> attributesByStatus = this.cache
+                .computeIfAbsent(errorType, (type) -> new ConcurrentReferenceHashMap<>());
+        Integer key = (status != null ? status : NO_STATUS);
+        Map<String, Object> errorAttributes = attributesByStatus.get(key);
+        if (errorAttributes == null) {
+            errorAttributes = createCachedErrorAttributes(webRequest, error);
+            attributesByStatus.putIfAbsent(key, errorAttributes);
+        }
+        return new LinkedHashMap<>(errorAttributes);
+    }
+
+    private Map<String, Object> createCachedErrorAttributes(WebRequest webRequest,
+                                                            Throwable error) {
+        Map<String, Object> errorAttributes = new LinkedHashMap<>();
+        addStatus(errorAttributes, webRequest);
+        if (error != null && this.includeException) {
+            errorAttributes.put("exception", error.getClass().getName());
+        }
+        return Collections.unmodifiableMap(errorAttributes);
+    }
+
     private void addStatus(Map<String, Object> errorAttributes,
                            RequestAttributes requestAttributes) {
         Integer status = getAttribute(requestAttributes,
@@ -131,11 +184,8 @@ public class DefaultErrorAttributes
 
     private void addErrorDetails(Map<String, Object> errorAttributes,
                                  WebRequest webRequest, boolean includeStackTrace) {
-        Throwable error = getError(webRequest);
+        Throwable error = getRootError(webRequest);
         if (error != null) {
-            while (error instanceof ServletException && error.getCause() != null) {
-                error = ((ServletException) error).getCause();
-            }
             if (this.includeException) {
                 errorAttributes.put("exception", error.getClass().getName());
             }
@@ -193,6 +243,14 @@ public class DefaultErrorAttributes
         }
     }
 
+    private Throwable getRootError(WebRequest webRequest) {
+        Throwable error = getError(webRequest);
+        while (error instanceof ServletException && error.getCause() != null) {
+            error = ((ServletException) error).getCause();
+        }
+        return error;
+    }
+
     @Override
     public Throwable getError(WebRequest webRequest) {
         Throwable exception = getAttribute(webRequest, ERROR_ATTRIBUTE);
@@ -46,6 +46,7 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.AnnotationConfigUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
@@ -69,6 +70,7 @@ import reactor.core.publisher.Mono;
 import javax.annotation.PostConstruct;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1176,6 +1178,52 @@ public class SpringApplicationTests {
 
     }
 
+    @Test
+    public void lazyInitializationIsDisabledByDefault() {
+        SpringApplication application = new SpringApplication(
+                LazyInitializationConfig.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        this.context = application.run();
+        assertThat(this.context.getBean(AtomicInteger.class)).hasValue(1);
+    }
+
+    @Test
+    public void lazyInitializationCanBeEnabled() {
+        SpringApplication application = new SpringApplication(
+                LazyInitializationConfig.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setLazyInitialization(true);
+        this.context = application.run();
+        assertThat(this.context.getBean(AtomicInteger.class)).hasValue(0);
+    }
+
+    @Test
+    public void lazyInitializationCanBeEnabledUsingAProperty() {
+        SpringApplication application = new SpringApplication(
+                LazyInitializationConfig.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        this.context = application.run("--spring.main.lazy-initialization=true");
+        assertThat(this.context.getBean(AtomicInteger.class)).hasValue(0);
+    }
+
+    @Test
+    public void lazyInitializationIgnoresBeansThatAreExplicitlyNotLazy() {
+        SpringApplication application = new SpringApplication(
+                NotLazyInitializationConfig.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        this.context = application.run("--spring.main.lazy-initialization=true");
+        assertThat(this.context.getBean(AtomicInteger.class)).hasValue(1);
+    }
+
+    @Test
+    public void lazyInitializationHonorsExcludeFilters() {
+        SpringApplication application = new SpringApplication(
+                LazyInitializationExcludeFilterConfig.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        this.context = application.run("--spring.main.lazy-initialization=true");
+        assertThat(this.context.getBean(AtomicInteger.class)).hasValue(1);
+    }
+
     @Configuration
     static class ListenerConfig {
 
@@ -1376,6 +1424,65 @@ public class SpringApplicationTests {
 
     }
 
+    @Configuration
+    static class LazyInitializationConfig {
+
+        @Bean
+        public AtomicInteger counter() {
+            return new AtomicInteger(0);
+        }
+
+        @Bean
+        public LazyBean lazyBean(AtomicInteger counter) {
+            return new LazyBean(counter);
+        }
+
+    }
+
+    @Configuration
+    static class NotLazyInitializationConfig {
+
+        @Bean
+        public AtomicInteger counter() {
+            return new AtomicInteger(0);
+        }
+
+        @Bean
+        @Lazy(false)
+        public LazyBean lazyBean(AtomicInteger counter) {
+            return new LazyBean(counter);
+        }
+
+    }
+
+    @Configuration
+    static class LazyInitializationExcludeFilterConfig {
+
+        @Bean
+        public static LazyInitializationExcludeFilter lazyBeanExcludeFilter() {
+            return LazyInitializationExcludeFilter.forBeanTypes(LazyBean.class);
+        }
+
+        @Bean
+        public AtomicInteger counter() {
+            return new AtomicInteger(0);
+        }
+
+        @Bean
+        public LazyBean lazyBean(AtomicInteger counter) {
+            return new LazyBean(counter);
+        }
+
+    }
+
+    static class LazyBean {
+
+        LazyBean(AtomicInteger counter) {
+            counter.incrementAndGet();
+        }
+
+    }
+
     private static class ExitCodeListener implements ApplicationListener<ExitCodeEvent> {
 
         private int exitCode;
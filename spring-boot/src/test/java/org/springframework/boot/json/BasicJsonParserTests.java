@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,13 @@
 
 package org.springframework.boot.json;
 
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Tests for {@link BasicJsonParser}.
  *
@@ -28,4 +35,141 @@ public class BasicJsonParserTests extends AbstractJsonParserTests {
         return new BasicJsonParser();
     }
 
+    @Test
+    public void escapedStrings() {
+        Map<String, Object> map = getParser()
+                .parseMap("{\"foo\":\"a\\\"b\\\\c\\n\\u0041\", \"b\\\"ar\":\"x\"}");
+        assertThat(map.get("foo")).isEqualTo("a\"b\\c\nA");
+        assertThat(map.get("b\"ar")).isEqualTo("x");
+    }
+
+    @Test
+    public void stringsContainingStructuralCharacters() {
+        Map<String, Object> map = getParser().parseMap(
+                "{\"uri\":\"http://example.com:8080/a,b\",\"list\":\"[{}]\"}");
+        assertThat(map.get("uri")).isEqualTo("http://example.com:8080/a,b");
+        assertThat(map.get("list")).isEqualTo("[{}]");
+    }
+
+    @Test
+    public void literals() {
+        List<Object> list = getParser()
+                .parseList("[ true, false, null, -12, 3.5e2, 12345678901234567890 ]");
+        assertThat(list).containsExactly(true, false, null, -12L, 350.0d,
+                1.2345678901234567E19d);
+    }
+
+    @Test
+    public void quotedNumbersRemainStrings() {
+        assertThat(getParser().parseMap("{\"foo\":\"123\"}").get("foo"))
+                .isEqualTo("123");
+    }
+
+    @Test
+    public void trailingContentThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseMap("{\"foo\":\"bar\"} baz");
+    }
+
+    @Test
+    public void unterminatedMapThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("unexpected end of input");
+        getParser().parseMap("{\"foo\":[\"bar\"]");
+    }
+
+    @Test
+    public void missingValueThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseMap("{\"foo\":,\"bar\":1}");
+    }
+
+    @Test
+    public void unquotedWordThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("unexpected character 'f' at index 7");
+        getParser().parseMap("{\"foo\":foo}");
+    }
+
+    @Test
+    public void literalWithTrailingCharactersThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseList("[truely]");
+    }
+
+    @Test
+    public void nanThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseList("[NaN]");
+    }
+
+    @Test
+    public void infinityThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseList("[-Infinity]");
+    }
+
+    @Test
+    public void hexadecimalFloatingPointThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("unexpected character 'x' at index 2");
+        getParser().parseList("[0x1p3]");
+    }
+
+    @Test
+    public void leadingZeroThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseList("[01]");
+    }
+
+    @Test
+    public void fractionWithoutDigitsThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseList("[1.]");
+    }
+
+    @Test
+    public void exponentWithoutDigitsThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseList("[1e+]");
+    }
+
+    @Test
+    public void numberWithTypeSuffixThrowsARuntimeException() {
+        this.thrown.expect(IllegalArgumentException.class);
+        getParser().parseList("[1d]");
+    }
+
+    @Test
+    public void numbersFollowingTheJsonGrammar() {
+        List<Object> list = getParser()
+                .parseList("[0,-0,10,-1.5,0.25e-2,1E+3,2e1]");
+        assertThat(list).containsExactly(0L, 0L, 10L, -1.5d, 0.0025d, 1000.0d, 20.0d);
+    }
+
+    @Test
+    public void largePayloadMatchesJacksonAndGson() {
+        String json = createVcapServices(500);
+        Map<String, Object> map = getParser().parseMap(json);
+        assertThat(map).isEqualTo(new JacksonJsonParser().parseMap(json));
+        assertThat(map).isEqualTo(new GsonJsonParser().parseMap(json));
+    }
+
+    private String createVcapServices(int count) {
+        StringBuilder json = new StringBuilder("{\"user-provided\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(",");
+            }
+            json.append("{\"name\":\"service-").append(i).append("\",")
+                    .append("\"label\":\"user-provided\",")
+                    .append("\"tags\":[\"a\",\"b,c\"],")
+                    .append("\"enabled\":").append(i % 2 == 0).append(",")
+                    .append("\"credentials\":{\"uri\":\"jdbc:mysql://host:3306/db-")
+                    .append(i).append("?a=b\",\"password\":\"p\\\"w\\\\d\",")
+                    .append("\"options\":null}}");
+        }
+        return json.append("]}").toString();
+    }
+
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.codec;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProtobufDecoder}.
+ *
+ * @author agent (agent@local)
+ */
+public class ProtobufDecoderTests {
+
+    private static final MimeType PROTOBUF = new MimeType("application", "x-protobuf");
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    private final ProtobufDecoder decoder = new ProtobufDecoder();
+
+    @Test
+    public void canDecodeMessage() {
+        assertThat(this.decoder.canDecode(ResolvableType.forClass(StringValue.class),
+                PROTOBUF)).isTrue();
+        assertThat(this.decoder.canDecode(ResolvableType.forClass(StringValue.class),
+                null)).isTrue();
+    }
+
+    @Test
+    public void cannotDecodeOtherTypes() {
+        assertThat(this.decoder.canDecode(ResolvableType.forClass(String.class),
+                PROTOBUF)).isFalse();
+        assertThat(this.decoder.canDecode(ResolvableType.forClass(StringValue.class),
+                new MimeType("application", "json"))).isFalse();
+    }
+
+    @Test
+    public void decodeToMonoReadsMessageSplitAcrossBuffers() {
+        byte[] bytes = value("hello world").toByteArray();
+        int split = bytes.length / 2;
+        Flux<DataBuffer> input = Flux.just(buffer(bytes, 0, split),
+                buffer(bytes, split, bytes.length - split));
+        StepVerifier
+                .create(this.decoder.decodeToMono(input,
+                        ResolvableType.forClass(StringValue.class), PROTOBUF,
+                        Collections.emptyMap()))
+                .expectNext(value("hello world")).verifyComplete();
+    }
+
+    @Test
+    public void decodeReadsDelimitedMessages() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        value("one").writeDelimitedTo(output);
+        value("two").writeDelimitedTo(output);
+        byte[] bytes = output.toByteArray();
+        Flux<Message> messages = this.decoder.decode(
+                Flux.just(buffer(bytes, 0, bytes.length)),
+                ResolvableType.forClass(StringValue.class), PROTOBUF,
+                Collections.emptyMap());
+        StepVerifier.create(messages).expectNext(value("one"))
+                .expectNext(value("two")).verifyComplete();
+    }
+
+    @Test
+    public void decodeToMonoWithEmptyInputIsEmpty() {
+        StepVerifier
+                .create(this.decoder.decodeToMono(Flux.empty(),
+                        ResolvableType.forClass(StringValue.class), PROTOBUF,
+                        Collections.emptyMap()))
+                .verifyComplete();
+    }
+
+    private DataBuffer buffer(byte[] bytes, int offset, int length) {
+        DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+        buffer.write(bytes, offset, length);
+        return buffer;
+    }
+
+    private StringValue value(String value) {
+        return StringValue.newBuilder().setValue(value).build();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.codec;
+
+import com.google.protobuf.StringValue;
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProtobufEncoder}.
+ *
+ * @author agent (agent@local)
+ */
+public class ProtobufEncoderTests {
+
+    private static final MimeType PROTOBUF = new MimeType("application", "x-protobuf");
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    private final ProtobufEncoder encoder = new ProtobufEncoder();
+
+    @Test
+    public void canEncodeMessage() {
+        assertThat(this.encoder.canEncode(ResolvableType.forClass(StringValue.class),
+                PROTOBUF)).isTrue();
+        assertThat(this.encoder.canEncode(ResolvableType.forClass(String.class),
+                PROTOBUF)).isFalse();
+    }
+
+    @Test
+    public void encodeMono() {
+        Flux<DataBuffer> output = this.encoder.encode(Mono.just(value("one")),
+                this.bufferFactory, ResolvableType.forClass(StringValue.class), PROTOBUF,
+                Collections.emptyMap());
+        StepVerifier.create(output)
+                .consumeNextWith((buffer) -> assertThat(parse(buffer))
+                        .isEqualTo(value("one")))
+                .verifyComplete();
+    }
+
+    @Test
+    public void encodeFluxWritesDelimitedMessages() {
+        Flux<DataBuffer> output = this.encoder.encode(
+                Flux.just(value("one"), value("two")),
+                this.bufferFactory, ResolvableType.forClass(StringValue.class), PROTOBUF,
+                Collections.emptyMap());
+        StepVerifier.create(output)
+                .consumeNextWith((buffer) -> assertThat(parseDelimited(buffer))
+                        .isEqualTo(value("one")))
+                .consumeNextWith((buffer) -> assertThat(parseDelimited(buffer))
+                        .isEqualTo(value("two")))
+                .verifyComplete();
+    }
+
+    private StringValue parse(DataBuffer buffer) {
+        try {
+            return StringValue.parseFrom(buffer.asInputStream());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private StringValue parseDelimited(DataBuffer buffer) {
+        try {
+            return StringValue.parseDelimitedFrom(buffer.asInputStream());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private StringValue value(String value) {
+        return StringValue.newBuilder().setValue(value).build();
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.context;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.boot.web.server.WorkerPool;
+import org.springframework.boot.web.server.WorkerPoolTuning;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link WebServerWorkerPoolMonitor}.
+ *
+ * @author agent (agent@local)
+ */
+public class WebServerWorkerPoolMonitorTests {
+
+    private final WorkerPoolTuning tuning = new WorkerPoolTuning();
+
+    private final WorkerPool workerPool = mock(WorkerPool.class);
+
+    private WebServerWorkerPoolMonitor monitor;
+
+    @After
+    public void destroy() {
+        if (this.monitor != null) {
+            this.monitor.destroy();
+        }
+    }
+
+    @Test
+    public void poolIsNotResizedWhenAdaptiveSizingIsDisabled() {
+        givenPool(10, 200, 200);
+        startMonitor();
+        this.monitor.adapt(TimeUnit.SECONDS.toNanos(1));
+        verify(this.workerPool, never()).resize(anyInt(), anyInt());
+    }
+
+    @Test
+    public void poolIsGrownWhenQueueWaitExceedsTarget() {
+        this.tuning.setAdaptive(true);
+        givenPool(10, 200, 200);
+        startMonitor();
+        this.monitor.adapt(TimeUnit.MILLISECONDS.toNanos(100));
+        verify(this.workerPool).resize(10, 250);
+    }
+
+    @Test
+    public void poolIsNotGrownBeyondUpperBound() {
+        this.tuning.setAdaptive(true);
+        this.tuning.setMaxThreads(220);
+        givenPool(10, 200, 200);
+        startMonitor();
+        this.monitor.adapt(TimeUnit.MILLISECONDS.toNanos(100));
+        verify(this.workerPool).resize(10, 220);
+    }
+
+    @Test
+    public void poolIsShrunkWhenIdle() {
+        this.tuning.setAdaptive(true);
+        this.tuning.setMinThreads(100);
+        givenPool(10, 200, 10);
+        startMonitor();
+        this.monitor.adapt(0);
+        verify(this.workerPool).resize(10, 175);
+    }
+
+    @Test
+    public void poolIsNotShrunkBelowConfiguredMaximumByDefault() {
+        this.tuning.setAdaptive(true);
+        givenPool(10, 200, 10);
+        startMonitor();
+        this.monitor.adapt(0);
+        verify(this.workerPool, never()).resize(anyInt(), anyInt());
+    }
+
+    @Test
+    public void samplingIsNotStartedByDefault() {
+        givenPool(10, 200, 0);
+        startMonitor();
+        assertThat(this.monitor.isSampling()).isFalse();
+    }
+
+    @Test
+    public void samplingIsStartedWhenAdaptiveSizingIsEnabled() {
+        this.tuning.setAdaptive(true);
+        givenPool(10, 200, 0);
+        startMonitor();
+        assertThat(this.monitor.isSampling()).isTrue();
+    }
+
+    @Test
+    public void samplingIsStartedWhenRequestedBeforeServerIsInitialized() {
+        givenPool(10, 200, 0);
+        this.tuning.setSampleInterval(Duration.ofHours(1));
+        this.monitor = new WebServerWorkerPoolMonitor(this.tuning);
+        this.monitor.enableQueueWaitSampling();
+        assertThat(this.monitor.isSampling()).isFalse();
+        this.monitor.monitor(this.workerPool);
+        assertThat(this.monitor.isSampling()).isTrue();
+    }
+
+    @Test
+    public void samplingIsStartedWhenRequestedAfterServerIsInitialized() {
+        givenPool(10, 200, 0);
+        startMonitor();
+        this.monitor.enableQueueWaitSampling();
+        assertThat(this.monitor.isSampling()).isTrue();
+    }
+
+    private void givenPool(int minThreads, int maxThreads, int busyThreads) {
+        given(this.workerPool.getMinThreads()).willReturn(minThreads);
+        given(this.workerPool.getMaxThreads()).willReturn(maxThreads);
+        given(this.workerPool.getBusyThreads()).willReturn(busyThreads);
+    }
+
+    private void startMonitor() {
+        this.tuning.setSampleInterval(Duration.ofHours(1));
+        this.monitor = new WebServerWorkerPoolMonitor(this.tuning);
+        this.monitor.monitor(this.workerPool);
+    }
+
+}
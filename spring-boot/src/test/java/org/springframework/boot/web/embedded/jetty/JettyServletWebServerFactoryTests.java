@@ -17,12 +17,14 @@
 package org.springframework.boot.web.embedded.jetty;
 
 import org.apache.jasper.servlet.JspServlet;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.HandlerCollection;
 import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.eclipse.jetty.util.thread.ThreadPool;
@@ -30,8 +32,11 @@ import org.eclipse.jetty.webapp.Configuration;
 import org.eclipse.jetty.webapp.WebAppContext;
 import org.junit.Test;
 import org.mockito.InOrder;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.Http2;
 import org.springframework.boot.web.server.PortInUseException;
 import org.springframework.boot.web.server.Ssl;
+import org.springframework.boot.web.server.WorkerPool;
 import org.springframework.boot.web.servlet.server.AbstractServletWebServerFactory;
 import org.springframework.boot.web.servlet.server.AbstractServletWebServerFactoryTests;
 
@@ -63,6 +68,75 @@ public class JettyServletWebServerFactoryTests
         return new JettyServletWebServerFactory(0);
     }
 
+    @Test
+    public void compressionLevelIsApplied() throws Exception {
+        int fastest = getCompressedResponseLength(1);
+        int best = getCompressedResponseLength(9);
+        assertThat(best).isLessThan(fastest);
+    }
+
+    @Test
+    public void workerPoolIsCreatedOnce() {
+        JettyServletWebServerFactory factory = getFactory();
+        this.webServer = factory.getWebServer();
+        this.webServer.start();
+        WorkerPool workerPool = this.webServer.getWorkerPool();
+        assertThat(workerPool).isNotNull();
+        assertThat(workerPool.getMaxThreads()).isGreaterThan(0);
+        assertThat(this.webServer.getWorkerPool()).isSameAs(workerPool);
+    }
+
+    @Test
+    public void compressionLevelIsAppliedToGzipHandler() {
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setLevel(9);
+        GzipHandler handler = (GzipHandler) JettyHandlerWrappers
+                .createGzipHandlerWrapper(compression);
+        assertThat(handler.getCompressionLevel()).isEqualTo(9);
+    }
+
+    @Test
+    public void http2CleartextAddsConnectionFactoryToPlainConnector() throws Exception {
+        JettyServletWebServerFactory factory = getFactory();
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        http2.setCleartext(true);
+        http2.setMaxConcurrentStreams(50);
+        http2.setInitialWindowSize(1048576);
+        http2.setHeaderTableSize(8192);
+        factory.setHttp2(http2);
+        this.webServer = factory.getWebServer(exampleServletRegistration());
+        this.webServer.start();
+        ServerConnector connector = (ServerConnector) ((JettyWebServer) this.webServer)
+                .getServer().getConnectors()[0];
+        HTTP2CServerConnectionFactory h2c = connector
+                .getConnectionFactory(HTTP2CServerConnectionFactory.class);
+        assertThat(h2c).isNotNull();
+        assertThat(h2c.getMaxConcurrentStreams()).isEqualTo(50);
+        assertThat(h2c.getInitialStreamRecvWindow()).isEqualTo(1048576);
+        assertThat(h2c.getMaxDynamicTableSize()).isEqualTo(8192);
+        Map<Integer, Long> settings = getHttp2CleartextUpgradeSettings(
+                this.webServer.getPort());
+        assertThat(settings).containsEntry(0x1, 8192L);
+        assertThat(settings).containsEntry(0x3, 50L);
+        assertThat(settings).containsEntry(0x4, 1048576L);
+    }
+
+    @Test
+    public void http2WithoutCleartextDoesNotAddConnectionFactoryToPlainConnector() {
+        JettyServletWebServerFactory factory = getFactory();
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        factory.setHttp2(http2);
+        this.webServer = factory.getWebServer();
+        this.webServer.start();
+        ServerConnector connector = (ServerConnector) ((JettyWebServer) this.webServer)
+                .getServer().getConnectors()[0];
+        assertThat(connector.getConnectionFactory(HTTP2CServerConnectionFactory.class))
+                .isNull();
+    }
+
     @Test
     public void jettyConfigurations() throws Exception {
         JettyServletWebServerFactory factory = getFactory();
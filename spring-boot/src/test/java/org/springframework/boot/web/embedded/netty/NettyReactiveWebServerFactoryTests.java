@@ -20,11 +20,19 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactoryTests;
+import org.springframework.boot.web.server.Compression;
 import org.springframework.boot.web.server.PortInUseException;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import reactor.ipc.netty.http.server.HttpServerOptions;
 
+import java.time.Duration;
 import java.util.Arrays;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
@@ -56,6 +64,41 @@ public class NettyReactiveWebServerFactoryTests
         factory.getWebServer(new EchoHandler()).start();
     }
 
+    @Test
+    public void compressionLevelIsIgnoredWithAWarning() {
+        NettyReactiveWebServerFactory factory = getFactory();
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setLevel(9);
+        factory.setCompression(compression);
+        this.webServer = factory.getWebServer(new EchoHandler());
+        assertThat(this.output.toString()).contains("Compression level 9 is ignored "
+                + "as Reactor Netty does not support configuring it");
+    }
+
+    @Test
+    public void clientUsingSharedResourcesCanBeUsedAfterServerStops() {
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.afterPropertiesSet();
+        NettyReactiveWebServerFactory sharingFactory = getFactory();
+        sharingFactory.setResourceFactory(resourceFactory);
+        WebServer sharingServer = sharingFactory.getWebServer(new EchoHandler());
+        sharingServer.start();
+        NettyReactiveWebServerFactory factory = getFactory();
+        factory.setWorkerThreads(2);
+        this.webServer = factory.getWebServer(new EchoHandler());
+        this.webServer.start();
+        WebClient client = getWebClient((options) -> options
+                .loopResources(resourceFactory.getLoopResources())
+                .poolResources(resourceFactory.getConnectionPool())).build();
+        sharingServer.stop();
+        Mono<String> result = client.post().uri("/test")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(BodyInserters.fromObject("Hello World")).exchange()
+                .flatMap((response) -> response.bodyToMono(String.class));
+        assertThat(result.block(Duration.ofSeconds(30))).isEqualTo("Hello World");
+    }
+
     @Test
     public void nettyCustomizers() {
         NettyReactiveWebServerFactory factory = getFactory();
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.netty;
+
+import org.junit.Test;
+import reactor.ipc.netty.http.HttpResources;
+import reactor.ipc.netty.resources.LoopResources;
+import reactor.ipc.netty.resources.PoolResources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+/**
+ * Tests for {@link ReactorResourceFactory}.
+ *
+ * @author agent (agent@local)
+ */
+public class ReactorResourceFactoryTests {
+
+    @Test
+    public void globalResourcesAreUsedByDefault() {
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.afterPropertiesSet();
+        assertThat(resourceFactory.getLoopResources()).isSameAs(HttpResources.get());
+        assertThat(resourceFactory.getConnectionPool()).isSameAs(HttpResources.get());
+    }
+
+    @Test
+    public void dedicatedResourcesAreDisposedOnDestroy() {
+        LoopResources loopResources = mock(LoopResources.class);
+        PoolResources connectionPool = mock(PoolResources.class);
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.setUseGlobalResources(false);
+        resourceFactory.setLoopResourcesSupplier(() -> loopResources);
+        resourceFactory.setConnectionPoolSupplier(() -> connectionPool);
+        resourceFactory.afterPropertiesSet();
+        assertThat(resourceFactory.getLoopResources()).isSameAs(loopResources);
+        assertThat(resourceFactory.getConnectionPool()).isSameAs(connectionPool);
+        resourceFactory.destroy();
+        verify(loopResources).dispose();
+        verify(connectionPool).dispose();
+    }
+
+    @Test
+    public void globalResourcesAreResetOnDestroy() {
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.afterPropertiesSet();
+        HttpResources globalResources = HttpResources.get();
+        resourceFactory.destroy();
+        assertThat(HttpResources.get()).isNotSameAs(globalResources);
+    }
+
+    @Test
+    public void dedicatedConnectionPoolCanBeUsedWithGlobalLoopResources() {
+        LoopResources loopResources = mock(LoopResources.class);
+        PoolResources connectionPool = mock(PoolResources.class);
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.setLoopResourcesSupplier(() -> loopResources);
+        resourceFactory.setConnectionPoolSupplier(() -> connectionPool);
+        resourceFactory.afterPropertiesSet();
+        assertThat(resourceFactory.getLoopResources()).isSameAs(HttpResources.get());
+        resourceFactory.destroy();
+        verify(connectionPool).dispose();
+        verifyZeroInteractions(loopResources);
+    }
+
+}
@@ -23,6 +23,8 @@ import org.apache.catalina.core.StandardWrapper;
 import org.apache.catalina.startup.Tomcat;
 import org.apache.catalina.util.CharsetMapper;
 import org.apache.catalina.valves.RemoteIpValve;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
 import org.apache.jasper.servlet.JspServlet;
 import org.apache.tomcat.JarScanFilter;
 import org.junit.After;
@@ -32,7 +34,10 @@ import org.mockito.InOrder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.boot.testsupport.rule.OutputCapture;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.Http2;
 import org.springframework.boot.web.server.WebServerException;
+import org.springframework.boot.web.server.WorkerPool;
 import org.springframework.boot.web.servlet.server.AbstractServletWebServerFactory;
 import org.springframework.boot.web.servlet.server.AbstractServletWebServerFactoryTests;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -81,6 +86,29 @@ public class TomcatServletWebServerFactoryTests
     }
 
     // JMX MBean names clash if you get more than one Engine with the same name...
+    @Test
+    public void compressionLevelIsIgnoredWithAWarning() {
+        TomcatServletWebServerFactory factory = getFactory();
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setLevel(9);
+        factory.setCompression(compression);
+        this.webServer = factory.getWebServer();
+        assertThat(this.outputCapture.toString()).contains(
+                "Compression level 9 is ignored as Tomcat does not support configuring it");
+    }
+
+    @Test
+    public void workerPoolIsCreatedOnce() {
+        TomcatServletWebServerFactory factory = getFactory();
+        this.webServer = factory.getWebServer();
+        this.webServer.start();
+        WorkerPool workerPool = this.webServer.getWorkerPool();
+        assertThat(workerPool).isNotNull();
+        assertThat(workerPool.getMaxThreads()).isGreaterThan(0);
+        assertThat(this.webServer.getWorkerPool()).isSameAs(workerPool);
+    }
+
     @Test
     public void tomcatEngineNames() {
         TomcatServletWebServerFactory factory = getFactory();
@@ -170,6 +198,37 @@ public class TomcatServletWebServerFactoryTests
         }
     }
 
+    @Test
+    public void http2CleartextAddsUpgradeProtocolToPlainConnector() {
+        TomcatServletWebServerFactory factory = getFactory();
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        http2.setCleartext(true);
+        http2.setMaxConcurrentStreams(50);
+        http2.setInitialWindowSize(1048576);
+        factory.setHttp2(http2);
+        this.webServer = factory.getWebServer();
+        Connector connector = ((TomcatWebServer) this.webServer).getTomcat()
+                .getConnector();
+        UpgradeProtocol[] upgradeProtocols = connector.findUpgradeProtocols();
+        assertThat(upgradeProtocols).hasSize(1);
+        Http2Protocol protocol = (Http2Protocol) upgradeProtocols[0];
+        assertThat(protocol.getMaxConcurrentStreams()).isEqualTo(50L);
+        assertThat(protocol.getInitialWindowSize()).isEqualTo(1048576);
+    }
+
+    @Test
+    public void http2WithoutCleartextDoesNotUpgradePlainConnector() {
+        TomcatServletWebServerFactory factory = getFactory();
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        factory.setHttp2(http2);
+        this.webServer = factory.getWebServer();
+        Connector connector = ((TomcatWebServer) this.webServer).getTomcat()
+                .getConnector();
+        assertThat(connector.findUpgradeProtocols()).isEmpty();
+    }
+
     @Test
     public void tomcatAdditionalConnectors() {
         TomcatServletWebServerFactory factory = getFactory();
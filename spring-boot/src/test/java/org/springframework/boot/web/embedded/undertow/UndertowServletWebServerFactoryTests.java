@@ -25,6 +25,7 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.springframework.boot.testsupport.web.servlet.ExampleServlet;
 import org.springframework.boot.web.server.ErrorPage;
+import org.springframework.boot.web.server.Http2;
 import org.springframework.boot.web.server.MimeMappings.Mapping;
 import org.springframework.boot.web.server.PortInUseException;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
@@ -60,6 +61,33 @@ public class UndertowServletWebServerFactoryTests
         return new UndertowServletWebServerFactory(0);
     }
 
+    @Test
+    public void compressionLevelIsApplied() throws Exception {
+        int fastest = getCompressedResponseLength(1);
+        int best = getCompressedResponseLength(9);
+        assertThat(best).isLessThan(fastest);
+    }
+
+    @Test
+    public void http2CleartextAppliesConnectionSettings() throws Exception {
+        UndertowServletWebServerFactory factory = getFactory();
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        http2.setCleartext(true);
+        http2.setMaxConcurrentStreams(50);
+        http2.setInitialWindowSize(1048576);
+        http2.setHeaderTableSize(8192);
+        factory.setHttp2(http2);
+        this.webServer = factory.getWebServer(
+                new ServletRegistrationBean<>(new ExampleServlet(), "/hello"));
+        this.webServer.start();
+        Map<Integer, Long> settings = getHttp2CleartextUpgradeSettings(
+                this.webServer.getPort());
+        assertThat(settings).containsEntry(0x1, 8192L);
+        assertThat(settings).containsEntry(0x3, 50L);
+        assertThat(settings).containsEntry(0x4, 1048576L);
+    }
+
     @Test
     public void errorPage404() throws Exception {
         AbstractServletWebServerFactory factory = getFactory();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,14 +17,20 @@
 package org.springframework.boot.web.reactive.context;
 
 import org.junit.Test;
+import org.mockito.InOrder;
+import org.springframework.boot.web.embedded.netty.ReactorResourceFactory;
 import org.springframework.boot.web.reactive.context.config.ExampleReactiveWebServerApplicationConfiguration;
 import org.springframework.boot.web.reactive.server.MockReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.server.MockReactiveWebServerFactory.MockReactiveWebServer;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.reactive.HttpHandler;
+import reactor.ipc.netty.resources.LoopResources;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests for {@link AnnotationConfigReactiveWebServerApplicationContext}.
@@ -67,6 +73,21 @@ public class AnnotationConfigReactiveWebServerApplicationContextTests {
         verifyContext();
     }
 
+    @Test
+    public void webServerIsStoppedBeforeReactorResourcesAreDisposed() {
+        this.context = new AnnotationConfigReactiveWebServerApplicationContext(
+                ExampleReactiveWebServerApplicationConfiguration.class,
+                ReactorResourcesConfiguration.class);
+        MockReactiveWebServer webServer = this.context
+                .getBean(MockReactiveWebServerFactory.class).getWebServer();
+        LoopResources loopResources = this.context
+                .getBean(ReactorResourceFactory.class).getLoopResources();
+        this.context.close();
+        InOrder ordered = inOrder(webServer, loopResources);
+        ordered.verify(webServer).stop();
+        ordered.verify(loopResources).dispose();
+    }
+
     private void verifyContext() {
         MockReactiveWebServerFactory factory = this.context
                 .getBean(MockReactiveWebServerFactory.class);
@@ -74,6 +95,19 @@ public class AnnotationConfigReactiveWebServerApplicationContextTests {
         assertThat(factory.getWebServer().getHttpHandler()).isEqualTo(httpHandler);
     }
 
+    @Configuration
+    static class ReactorResourcesConfiguration {
+
+        @Bean
+        public ReactorResourceFactory reactorResourceFactory() {
+            ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+            resourceFactory.setUseGlobalResources(false);
+            resourceFactory.setLoopResourcesSupplier(() -> mock(LoopResources.class));
+            return resourceFactory;
+        }
+
+    }
+
     @Configuration
     public static class WebServerConfiguration {
 
@@ -78,6 +78,48 @@ public class DefaultErrorAttributesTests {
         assertThat(attributes.get("timestamp")).isInstanceOf(Date.class);
     }
 
+    @Test
+    public void cachedAttributesAreReusedForSameStatusAndExceptionType() {
+        this.errorAttributes = new DefaultErrorAttributes(true, true);
+        MockServerHttpRequest request = MockServerHttpRequest.get("/test").build();
+        Map<String, Object> attributes = this.errorAttributes.getErrorAttributes(
+                buildServerRequest(request, new IllegalStateException("Test")), true);
+        assertThat(attributes).containsOnlyKeys("status", "error", "exception");
+        assertThat(attributes.get("status")).isEqualTo(500);
+        assertThat(attributes.get("exception"))
+                .isEqualTo(IllegalStateException.class.getName());
+        assertThat(this.errorAttributes.getErrorAttributes(
+                buildServerRequest(request, new IllegalStateException("Other")), false))
+                .isEqualTo(attributes);
+    }
+
+    @Test
+    public void cachedAttributesCanBeModifiedWithoutAffectingLaterErrors() {
+        this.errorAttributes = new DefaultErrorAttributes(false, true);
+        MockServerHttpRequest request = MockServerHttpRequest.get("/test").build();
+        Map<String, Object> attributes = this.errorAttributes.getErrorAttributes(
+                buildServerRequest(request, new IllegalStateException("Test")), false);
+        attributes.put("custom", "value");
+        assertThat(this.errorAttributes.getErrorAttributes(
+                buildServerRequest(request, new IllegalStateException("Test")), false))
+                .containsOnlyKeys("status", "error");
+    }
+
+    @Test
+    public void cachedAttributesAreSpecificToStatus() {
+        this.errorAttributes = new DefaultErrorAttributes(false, true);
+        MockServerHttpRequest request = MockServerHttpRequest.get("/test").build();
+        Map<String, Object> notFound = this.errorAttributes
+                .getErrorAttributes(buildServerRequest(request, NOT_FOUND), false);
+        assertThat(notFound).containsOnlyKeys("status", "error");
+        assertThat(notFound.get("status")).isEqualTo(404);
+        Map<String, Object> unavailable = this.errorAttributes.getErrorAttributes(
+                buildServerRequest(request,
+                        new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE)),
+                false);
+        assertThat(unavailable.get("status")).isEqualTo(503);
+    }
+
     @Test
     public void defaultStatusCode() {
         Error error = new OutOfMemoryError("Test error");
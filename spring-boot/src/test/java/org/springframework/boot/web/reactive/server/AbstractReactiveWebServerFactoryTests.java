@@ -32,6 +32,8 @@ import org.springframework.boot.testsupport.rule.OutputCapture;
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.undertow.UndertowReactiveWebServerFactory;
 import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.GracefulShutdownResult;
+import org.springframework.boot.web.server.Shutdown;
 import org.springframework.boot.web.server.Ssl;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -45,8 +47,10 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.util.SocketUtils;
 import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.ipc.netty.NettyPipeline;
 import reactor.ipc.netty.http.client.HttpClientOptions;
 import reactor.test.StepVerifier;
@@ -55,12 +59,24 @@ import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLException;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -240,6 +256,146 @@ public abstract class AbstractReactiveWebServerFactoryTests {
                 .verify(Duration.ofSeconds(10));
     }
 
+    @Test
+    public void gracefulShutdownCompletesInFlightRequestAndRefusesNewRequests()
+            throws Exception {
+        AbstractReactiveWebServerFactory factory = getFactory();
+        Shutdown shutdown = new Shutdown();
+        shutdown.setGraceful(true);
+        shutdown.setTimeout(Duration.ofSeconds(30));
+        factory.setShutdown(shutdown);
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        MonoProcessor<Void> releaseRequest = MonoProcessor.create();
+        this.webServer = factory.getWebServer((request, response) -> {
+            if (!request.getURI().getPath().equals("/blocking")) {
+                return response.setComplete();
+            }
+            requestStarted.countDown();
+            return releaseRequest.then(response.setComplete());
+        });
+        this.webServer.start();
+        int port = this.webServer.getPort();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<ClientResponse> inFlight = getWebClient().build().get()
+                    .uri("/blocking").exchange().toFuture();
+            assertThat(requestStarted.await(30, TimeUnit.SECONDS)).isTrue();
+            Future<GracefulShutdownResult> result = executor
+                    .submit(() -> this.webServer.shutDownGracefully());
+            awaitNewRequestsRefused(port);
+            assertThat(isRequestServed(port)).isFalse();
+            assertThat(result.isDone()).isFalse();
+            releaseRequest.onComplete();
+            assertThat(inFlight.get(30, TimeUnit.SECONDS).statusCode())
+                    .isEqualTo(HttpStatus.OK);
+            GracefulShutdownResult shutdownResult = result.get(30, TimeUnit.SECONDS);
+            assertThat(shutdownResult.isComplete()).isTrue();
+            assertThat(shutdownResult.getDrained()).isEqualTo(1);
+        } finally {
+            releaseRequest.onComplete();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void gracefulShutdownRejectsRequestsOnExistingConnections() throws Exception {
+        AbstractReactiveWebServerFactory factory = getFactory();
+        Shutdown shutdown = new Shutdown();
+        shutdown.setGraceful(true);
+        shutdown.setTimeout(Duration.ofSeconds(30));
+        factory.setShutdown(shutdown);
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        MonoProcessor<Void> releaseRequest = MonoProcessor.create();
+        this.webServer = factory.getWebServer((request, response) -> {
+            if (!request.getURI().getPath().equals("/blocking")) {
+                return response.setComplete();
+            }
+            requestStarted.countDown();
+            return releaseRequest.then(response.setComplete());
+        });
+        this.webServer.start();
+        int port = this.webServer.getPort();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), 1000);
+            socket.setSoTimeout(10000);
+            assertThat(exchange(socket)).startsWith("HTTP/1.1 200");
+            CompletableFuture<ClientResponse> inFlight = getWebClient().build().get()
+                    .uri("/blocking").exchange().toFuture();
+            assertThat(requestStarted.await(30, TimeUnit.SECONDS)).isTrue();
+            Future<GracefulShutdownResult> result = executor
+                    .submit(() -> this.webServer.shutDownGracefully());
+            awaitNewRequestsRefused(port);
+            String rejected = exchange(socket);
+            assertThat(rejected).startsWith("HTTP/1.1 503");
+            assertThat(rejected.toLowerCase()).contains("connection: close");
+            releaseRequest.onComplete();
+            assertThat(inFlight.get(30, TimeUnit.SECONDS).statusCode())
+                    .isEqualTo(HttpStatus.OK);
+            GracefulShutdownResult shutdownResult = result.get(30, TimeUnit.SECONDS);
+            assertThat(shutdownResult.isComplete()).isTrue();
+            assertThat(shutdownResult.getDrained()).isEqualTo(1);
+        } finally {
+            releaseRequest.onComplete();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Send a keep-alive request for {@code /} on the given socket and return the status
+     * line and headers of the response once it has been read completely.
+     */
+    private String exchange(Socket socket) throws IOException {
+        OutputStream outputStream = socket.getOutputStream();
+        outputStream.write("GET / HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                .getBytes(StandardCharsets.US_ASCII));
+        outputStream.flush();
+        InputStream inputStream = socket.getInputStream();
+        StringBuilder head = new StringBuilder();
+        while (head.indexOf("\r\n\r\n") == -1) {
+            int read = inputStream.read();
+            assertThat(read).isNotEqualTo(-1);
+            head.append((char) read);
+        }
+        String headers = head.toString().toLowerCase();
+        Matcher contentLength = Pattern.compile("content-length: *(\\d+)")
+                .matcher(headers);
+        if (contentLength.find()) {
+            for (int i = Integer.parseInt(contentLength.group(1)); i > 0; i--) {
+                inputStream.read();
+            }
+        } else if (headers.contains("transfer-encoding: chunked")) {
+            StringBuilder body = new StringBuilder();
+            while (body.indexOf("0\r\n\r\n") == -1) {
+                body.append((char) inputStream.read());
+            }
+        }
+        return head.toString();
+    }
+
+    private void awaitNewRequestsRefused(int port) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (isRequestServed(port)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private boolean isRequestServed(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), 1000);
+            socket.setSoTimeout(1000);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("GET / HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+            return socket.getInputStream().read() != -1;
+        } catch (IOException ex) {
+            // Refused, reset or timed out
+            return false;
+        }
+    }
+
     protected WebClient.Builder getWebClient() {
         return getWebClient((options) -> {
         });
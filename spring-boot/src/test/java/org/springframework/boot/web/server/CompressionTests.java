@@ -17,7 +17,9 @@
 package org.springframework.boot.web.server;
 
 import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.springframework.boot.testsupport.runner.classpath.ModifiedClassPathRunner;
 
@@ -31,12 +33,37 @@ import static org.assertj.core.api.Assertions.assertThat;
 @RunWith(ModifiedClassPathRunner.class)
 public class CompressionTests {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void defaultCompressableMimeTypesMatchesTomcatsDefault() {
         assertThat(new Compression().getMimeTypes())
                 .containsExactlyInAnyOrder(getTomcatDefaultCompressableMimeTypes());
     }
 
+    @Test
+    public void levelBelowOneIsRejected() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("Level must be between 1 and 9");
+        new Compression().setLevel(0);
+    }
+
+    @Test
+    public void levelAboveNineIsRejected() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("Level must be between 1 and 9");
+        new Compression().setLevel(10);
+    }
+
+    @Test
+    public void levelCanBeCleared() {
+        Compression compression = new Compression();
+        compression.setLevel(1);
+        compression.setLevel(null);
+        assertThat(compression.getLevel()).isNull();
+    }
+
     private String[] getTomcatDefaultCompressableMimeTypes() {
         Http11NioProtocol protocol = new Http11NioProtocol();
         return protocol.getCompressibleMimeTypes();
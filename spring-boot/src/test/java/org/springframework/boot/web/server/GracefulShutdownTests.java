@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.web.server;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GracefulShutdown}.
+ *
+ * @author agent (agent@local)
+ */
+public class GracefulShutdownTests {
+
+    @Test
+    public void ofWhenShutdownIsNotGracefulReturnsNull() {
+        assertThat(GracefulShutdown.of(null)).isNull();
+        assertThat(GracefulShutdown.of(new Shutdown())).isNull();
+    }
+
+    @Test
+    public void ofWhenShutdownIsGracefulReturnsInstance() {
+        Shutdown shutdown = new Shutdown();
+        shutdown.setGraceful(true);
+        assertThat(GracefulShutdown.of(shutdown)).isNotNull();
+    }
+
+    @Test
+    public void shutDownWithNoActiveRequestsCompletesImmediately() {
+        GracefulShutdown gracefulShutdown = new GracefulShutdown(Duration.ofSeconds(30));
+        AtomicBoolean stopped = new AtomicBoolean();
+        GracefulShutdownResult result = gracefulShutdown
+                .shutDown(() -> stopped.set(true));
+        assertThat(stopped).isTrue();
+        assertThat(gracefulShutdown.isShuttingDown()).isTrue();
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getDrained()).isEqualTo(0);
+    }
+
+    @Test
+    public void shutDownWaitsForActiveRequests() throws Exception {
+        GracefulShutdown gracefulShutdown = new GracefulShutdown(Duration.ofSeconds(30));
+        gracefulShutdown.requestStarted();
+        gracefulShutdown.requestStarted();
+        Thread finisher = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            gracefulShutdown.requestFinished();
+            gracefulShutdown.requestFinished();
+        });
+        finisher.start();
+        GracefulShutdownResult result = gracefulShutdown.shutDown(() -> {
+        });
+        finisher.join();
+        assertThat(result.getDrained()).isEqualTo(2);
+        assertThat(result.getAborted()).isEqualTo(0);
+    }
+
+    @Test
+    public void shutDownCountsRequestsThatStartWhileStoppingAsDrained() {
+        GracefulShutdown gracefulShutdown = new GracefulShutdown(Duration.ofSeconds(30));
+        gracefulShutdown.requestStarted();
+        GracefulShutdownResult result = gracefulShutdown.shutDown(() -> {
+            gracefulShutdown.requestStarted();
+            gracefulShutdown.requestFinished();
+            gracefulShutdown.requestFinished();
+        });
+        assertThat(result.getDrained()).isEqualTo(2);
+        assertThat(result.getAborted()).isEqualTo(0);
+    }
+
+    @Test
+    public void shutDownReportsAbortedRequestsWhenTimeoutExpires() {
+        GracefulShutdown gracefulShutdown = new GracefulShutdown(
+                Duration.ofMillis(100));
+        gracefulShutdown.requestStarted();
+        gracefulShutdown.requestStarted();
+        gracefulShutdown.requestFinished();
+        GracefulShutdownResult result = gracefulShutdown.shutDown(() -> {
+        });
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getDrained()).isEqualTo(0);
+        assertThat(result.getAborted()).isEqualTo(1);
+    }
+
+}
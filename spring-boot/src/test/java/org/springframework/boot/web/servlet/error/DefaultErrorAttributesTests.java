@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -74,6 +74,70 @@ public class DefaultErrorAttributesTests {
         assertThat(attributes.get("status")).isEqualTo(999);
     }
 
+    @Test
+    public void cachedAttributesAreReusedForSameStatusAndExceptionType() {
+        DefaultErrorAttributes errorAttributes = new DefaultErrorAttributes(true, true);
+        this.request.setAttribute("javax.servlet.error.status_code", 500);
+        this.request.setAttribute("javax.servlet.error.exception",
+                new ServletException("Wrapper", new IllegalStateException("Test")));
+        Map<String, Object> attributes = errorAttributes
+                .getErrorAttributes(this.webRequest, true);
+        assertThat(attributes).containsOnlyKeys("status", "error", "exception");
+        assertThat(attributes.get("status")).isEqualTo(500);
+        assertThat(attributes.get("exception"))
+                .isEqualTo(IllegalStateException.class.getName());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("javax.servlet.error.status_code", 500);
+        request.setAttribute("javax.servlet.error.exception",
+                new IllegalStateException("Other"));
+        assertThat(errorAttributes.getErrorAttributes(new ServletWebRequest(request),
+                false)).isEqualTo(attributes);
+    }
+
+    @Test
+    public void cachedAttributesCanBeModifiedWithoutAffectingLaterErrors() {
+        DefaultErrorAttributes errorAttributes = new DefaultErrorAttributes(false, true);
+        this.request.setAttribute("javax.servlet.error.status_code", 500);
+        Map<String, Object> attributes = errorAttributes
+                .getErrorAttributes(this.webRequest, false);
+        attributes.put("custom", "value");
+        assertThat(errorAttributes.getErrorAttributes(this.webRequest, false))
+                .containsOnlyKeys("status", "error");
+    }
+
+    @Test
+    public void cachedAttributesAreSpecificToStatusForSameExceptionType() {
+        DefaultErrorAttributes errorAttributes = new DefaultErrorAttributes(true, true);
+        this.request.setAttribute("javax.servlet.error.status_code", 500);
+        this.request.setAttribute("javax.servlet.error.exception",
+                new IllegalStateException("Test"));
+        assertThat(errorAttributes.getErrorAttributes(this.webRequest, false)
+                .get("status")).isEqualTo(500);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("javax.servlet.error.status_code", 400);
+        request.setAttribute("javax.servlet.error.exception",
+                new IllegalStateException("Other"));
+        Map<String, Object> attributes = errorAttributes
+                .getErrorAttributes(new ServletWebRequest(request), false);
+        assertThat(attributes.get("status")).isEqualTo(400);
+        assertThat(attributes.get("error")).isEqualTo("Bad Request");
+        assertThat(attributes.get("exception"))
+                .isEqualTo(IllegalStateException.class.getName());
+    }
+
+    @Test
+    public void cachedAttributesAreSpecificToStatus() {
+        DefaultErrorAttributes errorAttributes = new DefaultErrorAttributes(false, true);
+        this.request.setAttribute("javax.servlet.error.status_code", 404);
+        Map<String, Object> notFound = errorAttributes
+                .getErrorAttributes(this.webRequest, false);
+        assertThat(notFound).containsOnlyKeys("status", "error");
+        assertThat(notFound.get("status")).isEqualTo(404);
+        this.request.setAttribute("javax.servlet.error.status_code", 503);
+        assertThat(errorAttributes.getErrorAttributes(this.webRequest, false)
+                .get("status")).isEqualTo(503);
+    }
+
     @Test
     public void mvcError() {
         RuntimeException ex = new RuntimeException("Test");
@@ -77,6 +77,11 @@ import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPInputStream;
@@ -1043,6 +1048,52 @@ public abstract class AbstractServletWebServerFactoryTests {
         return testContent;
     }
 
+    /**
+     * Start a web server that compresses a text response at the given level and
+     * return the length of the compressed response body.
+     *
+     * @param level the compression level
+     * @return the length of the compressed response body
+     * @throws Exception on failure
+     */
+    protected int getCompressedResponseLength(int level) throws Exception {
+        if (this.webServer != null) {
+            this.webServer.stop();
+        }
+        StringBuilder content = new StringBuilder();
+        Random random = new Random(0);
+        while (content.length() < 65536) {
+            content.append("word").append(random.nextInt(1000))
+                    .append(random.nextBoolean() ? ' ' : '\n');
+        }
+        AbstractServletWebServerFactory factory = getFactory();
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setLevel(level);
+        factory.setCompression(compression);
+        factory.addInitializers(
+                new ServletRegistrationBean<HttpServlet>(new HttpServlet() {
+
+                    @Override
+                    protected void service(HttpServletRequest req,
+                                           HttpServletResponse resp) throws IOException {
+                        resp.setContentType("text/plain");
+                        resp.getWriter().write(content.toString());
+                    }
+
+                }, "/test.txt"));
+        this.webServer = factory.getWebServer();
+        this.webServer.start();
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+                HttpClientBuilder.create().disableContentCompression().build());
+        try (ClientHttpResponse response = getClientResponse(getLocalUrl("/test.txt"),
+                HttpMethod.GET, requestFactory, "Accept-Encoding:gzip")) {
+            assertThat(response.getHeaders().getFirst("Content-Encoding"))
+                    .isEqualTo("gzip");
+            return StreamUtils.copyToByteArray(response.getBody()).length;
+        }
+    }
+
     protected abstract Map<String, String> getActualMimeMappings();
 
     protected Collection<MimeMappings.Mapping> getExpectedMimeMappings() {
@@ -1070,6 +1121,75 @@ public abstract class AbstractServletWebServerFactoryTests {
         return "http://localhost:" + port + resourcePath;
     }
 
+    private void awaitNewRequestsRefused(int port) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (isRequestServed(port)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private boolean isRequestServed(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), 1000);
+            socket.setSoTimeout(1000);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("GET /hello HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+            return socket.getInputStream().read() != -1;
+        } catch (IOException ex) {
+            // Refused, reset or timed out
+            return false;
+        }
+    }
+
+    /**
+     * Perform an HTTP/1.1 request with an {@code Upgrade: h2c} header, assert that the
+     * server switches protocols and return the settings of its first HTTP/2
+     * {@code SETTINGS} frame, keyed by setting identifier.
+     * @param port the port of the server
+     * @return the settings advertised by the server
+     * @throws IOException on I/O failure
+     */
+    protected Map<Integer, Long> getHttp2CleartextUpgradeSettings(int port)
+            throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(5000);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("GET /hello HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Connection: Upgrade, HTTP2-Settings\r\nUpgrade: h2c\r\n"
+                    + "HTTP2-Settings: AAMAAABk\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+            StringBuilder head = new StringBuilder();
+            while (head.indexOf("\r\n\r\n") < 0) {
+                head.append((char) input.readUnsignedByte());
+            }
+            assertThat(head.toString()).startsWith("HTTP/1.1 101");
+            while (true) {
+                int length = (input.readUnsignedByte() << 16)
+                        | input.readUnsignedShort();
+                int type = input.readUnsignedByte();
+                int flags = input.readUnsignedByte();
+                input.readInt();
+                byte[] payload = new byte[length];
+                input.readFully(payload);
+                if (type == 0x4 && (flags & 0x1) == 0) {
+                    DataInputStream settingsInput = new DataInputStream(
+                            new ByteArrayInputStream(payload));
+                    Map<Integer, Long> settings = new HashMap<>();
+                    for (int i = 0; i < length / 6; i++) {
+                        settings.put(settingsInput.readUnsignedShort(),
+                                settingsInput.readInt() & 0xFFFFFFFFL);
+                    }
+                    return settings;
+                }
+            }
+        }
+    }
+
     protected String getResponse(String url, String... headers)
             throws IOException, URISyntaxException {
         return getResponse(url, HttpMethod.GET, headers);